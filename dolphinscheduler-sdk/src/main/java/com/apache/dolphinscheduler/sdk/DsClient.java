@@ -1,28 +1,89 @@
 package com.apache.dolphinscheduler.sdk;
 
 
+import com.apache.dolphinscheduler.sdk.cluster.ClusterChangeEvent;
+import com.apache.dolphinscheduler.sdk.cluster.ClusterChangeListener;
+import com.apache.dolphinscheduler.sdk.cluster.ClusterNode;
+import com.apache.dolphinscheduler.sdk.cluster.ClusterSnapshot;
+import com.apache.dolphinscheduler.sdk.cluster.ClusterStatePoller;
+import com.apache.dolphinscheduler.sdk.cluster.WorkerGroupSelector;
 import com.apache.dolphinscheduler.sdk.configuration.DolphinSchedulerProperties;
 import com.apache.dolphinscheduler.sdk.processer.ProcessCallBack;
 import com.apache.dolphinscheduler.sdk.processer.ProcessInstanceStateProcessor;
 import com.apache.dolphinscheduler.sdk.processer.ProcessStateCallback;
 import com.apache.dolphinscheduler.sdk.remote.*;
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.HeartBeat;
+import com.apache.dolphinscheduler.sdk.remote.model.Environment;
+import com.apache.dolphinscheduler.sdk.remote.model.MasterServer;
+import com.apache.dolphinscheduler.sdk.remote.model.PageInfo;
+import com.apache.dolphinscheduler.sdk.remote.model.SubmitResponse;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerGroup;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerServer;
+import com.apache.dolphinscheduler.sdk.remote.resilience.CircuitBreaker;
+import com.apache.dolphinscheduler.sdk.remote.upload.ChunkedUploadResult;
+import com.apache.dolphinscheduler.sdk.remote.upload.ChunkedUploader;
+import com.apache.dolphinscheduler.sdk.remote.upload.FilePart;
+import com.apache.dolphinscheduler.sdk.remote.upload.ResourceUploadCache;
+import com.apache.dolphinscheduler.sdk.submit.IdempotentSubmitter;
+import com.apache.dolphinscheduler.sdk.submit.SubmissionInDoubtException;
+import com.apache.dolphinscheduler.sdk.submit.FairShareScheduler;
+import com.apache.dolphinscheduler.sdk.submit.OutboundQueue;
+import com.apache.dolphinscheduler.sdk.submit.OutboundSubmission;
+import com.apache.dolphinscheduler.sdk.submit.SingleFlight;
+import com.apache.dolphinscheduler.sdk.submit.SubmissionFingerprint;
+import com.apache.dolphinscheduler.sdk.submit.SubmissionPriority;
+import com.apache.dolphinscheduler.sdk.submit.SubmissionTemplate;
+import com.apache.dolphinscheduler.sdk.remote.model.ProcessInstance;
+import com.apache.dolphinscheduler.sdk.tracking.PollingStateTracker;
+import com.apache.dolphinscheduler.sdk.tracking.RecoveredSubscriptionHandler;
+import com.apache.dolphinscheduler.sdk.tracking.Subscription;
+import com.apache.dolphinscheduler.sdk.tracking.SubscriptionChannel;
+import com.apache.dolphinscheduler.sdk.tracking.SubscriptionJournal;
+import com.apache.dolphinscheduler.sdk.tracking.TrackedGroup;
+import com.apache.dolphinscheduler.sdk.tracking.TrackedInstance;
+import com.apache.dolphinscheduler.sdk.tracking.TrackingMode;
 import com.apache.dolphinscheduler.sdk.utils.SnowflakeIdUtils;
+import com.apache.dolphinscheduler.sdk.workflow.Backfill;
+import com.apache.dolphinscheduler.sdk.workflow.WorkflowDag;
+import com.apache.dolphinscheduler.sdk.workflow.WorkflowExecution;
 import com.google.common.net.HostAndPort;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.lang.StringUtils;
 import org.apache.dolphinscheduler.common.enums.StateEventType;
 import org.apache.dolphinscheduler.remote.command.CommandType;
 import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
 import org.apache.dolphinscheduler.remote.utils.Host;
-import org.apache.hadoop.fs.Path;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.text.MessageFormat;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CountDownLatch;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * @author ysear
@@ -34,34 +95,325 @@ public class DsClient implements AutoCloseable{
     private static final Logger LOGGER = LoggerFactory.getLogger(DsClient.class);
 
     /**
-     *  token
+     * 订阅恢复失败后的重试间隔
      */
-    private final String token;
+    private static final long RECOVERY_RETRY_MILLIS = 30_000L;
+
+    private static final String LOOKUP_WORKER_GROUPS = "workerGroups";
+
+    private static final String LOOKUP_ENVIRONMENTS = "environments";
+
+    /**
+     *  登录会话，持有当前 token
+     */
+    private final SessionManager sessionManager;
 
     /**
      * ds调用服务
      */
     private final DsRemoteApiService dsRemoteApiService;
 
-    private final DsRpcClient client;
+    /**
+     * API 服务熔断器，未开启时为 null
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * master 通信客户端，非 EAGER 模式下第一次使用时创建
+     */
+    private volatile DsRpcClient client;
+
+    private final DolphinSchedulerProperties.Rpc rpcSettings;
+
+    private final InitMode initMode;
+
+    private final Object initLock = new Object();
+
+    /**
+     * 进行中或已完成的后台初始化
+     */
+    private CompletableFuture<Void> warmUp;
+
+    /**
+     * 等待连接 master 后再恢复订阅的处理器
+     */
+    private RecoveredSubscriptionHandler pendingRecovery;
+
+    /**
+     * 恢复失败的订阅的重试，第一次失败时创建
+     */
+    private ScheduledExecutorService recoveryRetry;
+
+    private boolean closed;
+
+    /**
+     * 大文件分片上传
+     */
+    private final ChunkedUploader chunkedUploader;
+
+    /**
+     * 已上传资源的内容缓存，未开启时为 null
+     */
+    private final ResourceUploadCache resourceUploadCache;
+
+    /**
+     * 幂等提交
+     */
+    private final IdempotentSubmitter idempotentSubmitter;
+
+    /**
+     * worker group、环境查询缓存
+     */
+    private final LookupCache lookupCache;
+
+    /**
+     * 分页预取线程
+     */
+    private final ExecutorService lookupExecutor;
+
+    /**
+     * 全量查询时的每页大小
+     */
+    private final int lookupPageSize;
+
+    /**
+     * startParams 的最大字节数
+     */
+    private final long maxStartParamsBytes;
+
+    /**
+     * 合并相同的并发模板提交，未开启时为 null
+     */
+    private final SingleFlight<String, DsResult<SubmitResponse>> submitFlight;
+
+    /**
+     * 合并相同的并发提交并等待，未开启时为 null
+     */
+    private final SingleFlight<String, ProcessInstanceStateCommand> trackedFlight;
+
+    /**
+     * 异步 API
+     */
+    private final AsyncDsRemoteApiService asyncApiService;
+
+    /**
+     * GET 条件请求缓存，未开启时为 null
+     */
+    private final ConditionalResponseCache responseCache;
+
+    /**
+     * 共享的集群状态轮询，注册监听后开始
+     */
+    private final ClusterStatePoller clusterStatePoller;
+
+    /**
+     * 按 worker 负载选择 worker group
+     */
+    private final WorkerGroupSelector workerGroupSelector;
+
+    /**
+     * 活动订阅日志，未开启时为 null
+     */
+    private final SubscriptionJournal subscriptionJournal;
+
+    /**
+     * 实例状态跟踪方式
+     */
+    private final TrackingMode trackingMode;
+
+    /**
+     * AUTO 模式下订阅成功后开始轮询前的等待时间
+     */
+    private final long pushGraceMillis;
+
+    /**
+     * 推送不可用时轮询实例状态
+     */
+    private final PollingStateTracker pollingStateTracker;
+
+    /**
+     * 补数节流配置
+     */
+    private final DolphinSchedulerProperties.Backfill backfillThrottle;
+
+    /**
+     * 出站提交队列，未开启时为 null
+     */
+    private final OutboundQueue outboundQueue;
+
+    /**
+     * 多租户公平调度
+     */
+    private final FairShareScheduler fairShareScheduler;
 
 
     public DsClient(DolphinSchedulerProperties dolphinSchedulerProperties) {
+        long startTime = System.currentTimeMillis();
         checkDsProperties(dolphinSchedulerProperties);
-        dsRemoteApiService = new DsClientFactory().newInstance(DsRemoteApiService.class, dolphinSchedulerProperties.getUrl());
-        this.token = dolphinSchedulerProperties.getToken();
-        if (StringUtils.isBlank(token)){
-            Result result = dsRemoteApiService.login(dolphinSchedulerProperties.getUserName(), dolphinSchedulerProperties.getPassWord());
-            if (!result.getSuccess()) {
-                throw new RuntimeException(MessageFormat.format("login dolphinScheduler failed: {}",result.getMsg()));
+        SnowflakeIdUtils.configure(dolphinSchedulerProperties.getId().getWorkerId());
+        DsClientFactory dsClientFactory = new DsClientFactory(dolphinSchedulerProperties);
+        dsRemoteApiService = dsClientFactory.newInstance(DsRemoteApiService.class, dolphinSchedulerProperties.getUrl());
+        circuitBreaker = dsClientFactory.getCircuitBreaker();
+        responseCache = dsClientFactory.getResponseCache();
+        DolphinSchedulerProperties.Session session = dolphinSchedulerProperties.getSession();
+        sessionManager = new SessionManager(dsRemoteApiService, dolphinSchedulerProperties.getUserName(),
+                dolphinSchedulerProperties.getPassWord(), dolphinSchedulerProperties.getToken(),
+                TimeUnit.SECONDS.toMillis(session.getTimeoutSeconds()), session.getRefreshRatio());
+        initMode = null == dolphinSchedulerProperties.getStartup().getMode()
+                ? InitMode.EAGER : dolphinSchedulerProperties.getStartup().getMode();
+        rpcSettings = dolphinSchedulerProperties.getRpc();
+        if (initMode == InitMode.EAGER) {
+            sessionManager.start();
+            client = new DsRpcClient(rpcSettings);
+        } else {
+            // 不在启动时访问 API 服务与 master
+            sessionManager.startLazily();
+        }
+        DolphinSchedulerProperties.Upload upload = dolphinSchedulerProperties.getUpload();
+        chunkedUploader = new ChunkedUploader(upload.getPartSize(), upload.getParallelism(),
+                upload.getMaxRetries(), upload.getRetryBackoffMillis(), Paths.get(upload.getStateDir()));
+        DolphinSchedulerProperties.Idempotency idempotency = dolphinSchedulerProperties.getIdempotency();
+        idempotentSubmitter = new IdempotentSubmitter(idempotency.getMaxKeys(), idempotency.getExpireSeconds());
+        DolphinSchedulerProperties.Lookup lookup = dolphinSchedulerProperties.getLookup();
+        lookupCache = new LookupCache(lookup.getCacheTtlSeconds(), lookup.getMaxEntries());
+        lookupPageSize = lookup.getPageSize();
+        lookupExecutor = Executors.newFixedThreadPool(2,
+                new ThreadFactoryBuilder().setNameFormat("ds-lookup-%d").setDaemon(true).build());
+        resourceUploadCache = upload.isDedup()
+                ? new ResourceUploadCache(Paths.get(upload.getStateDir(), "resource-index.properties"),
+                dolphinSchedulerProperties.getUrl(), dolphinSchedulerProperties.getUserName()) : null;
+        maxStartParamsBytes = dolphinSchedulerProperties.getSubmit().getMaxStartParamsBytes();
+        if (dolphinSchedulerProperties.getSubmit().isSingleFlight()) {
+            submitFlight = new SingleFlight<>();
+            trackedFlight = new SingleFlight<>();
+        } else {
+            submitFlight = null;
+            trackedFlight = null;
+        }
+        DolphinSchedulerProperties.Cluster cluster = dolphinSchedulerProperties.getCluster();
+        clusterStatePoller = new ClusterStatePoller(this::getMasters, this::getWorkers,
+                cluster.getPollIntervalMillis(), cluster.getLoadChangeThreshold());
+        DolphinSchedulerProperties.Placement placement = dolphinSchedulerProperties.getPlacement();
+        workerGroupSelector = new WorkerGroupSelector(clusterStatePoller, placement.getCpuWeight(), placement.getMemoryWeight(),
+                placement.getLoadWeight(), placement.getQueueWeight(), placement.getAssignmentPenalty());
+        DolphinSchedulerProperties.Journal journal = dolphinSchedulerProperties.getJournal();
+        if (journal.isEnabled()) {
+            try {
+                subscriptionJournal = new SubscriptionJournal(Paths.get(journal.getDir(), "subscriptions.journal"),
+                        journal.getInitialSizeBytes(), journal.isSyncOnWrite());
+            } catch (IOException e) {
+                throw new RuntimeException("open subscription journal in " + journal.getDir() + " failed", e);
+            }
+        } else {
+            subscriptionJournal = null;
+        }
+        backfillThrottle = dolphinSchedulerProperties.getBackfill();
+        DolphinSchedulerProperties.Tracking tracking = dolphinSchedulerProperties.getTracking();
+        trackingMode = null == tracking.getMode() ? TrackingMode.AUTO : tracking.getMode();
+        pushGraceMillis = tracking.getPushGraceMillis();
+        pollingStateTracker = new PollingStateTracker(
+                (projectCode, definitionCode, startDate, pageNo, pageSize) ->
+                        pageOf(getProcessInstancePage(projectCode, definitionCode, startDate, pageNo, pageSize)),
+                tracking.getMinIntervalMillis(), tracking.getMaxIntervalMillis(), tracking.getAgeFactor(),
+                tracking.getPageSize(), tracking.getMaxPages(), tracking.getMaxRequestsPerRound());
+        DolphinSchedulerProperties.Transport transport = dolphinSchedulerProperties.getTransport();
+        if (transport.isAsync()) {
+            asyncApiService = new HttpAsyncDsRemoteApiService(dolphinSchedulerProperties.getUrl(), sessionManager,
+                    circuitBreaker, dsClientFactory::getRetryPolicy, dolphinSchedulerProperties.getHttp().isCompression(),
+                    responseCache, transport.getIoThreads(), transport.getMaxConnections(),
+                    transport.getMaxConnectionsPerRoute(), transport.getConnectTimeoutMillis(), transport.getSocketTimeoutMillis());
+        } else {
+            asyncApiService = new ExecutorDsRemoteApiService(dsRemoteApiService, sessionManager,
+                    Executors.newFixedThreadPool(Math.max(1, transport.getExecutorThreads()),
+                            new ThreadFactoryBuilder().setNameFormat("ds-api-%d").setDaemon(true).build()));
+        }
+        DolphinSchedulerProperties.FairShare fairShare = dolphinSchedulerProperties.getFairShare();
+        fairShareScheduler = new FairShareScheduler(fairShare.getThreads(), fairShare.getDefaultWeight(),
+                fairShare.getDefaultMaxConcurrency());
+        Set<String> tenants = new HashSet<>(fairShare.getWeights().keySet());
+        tenants.addAll(fairShare.getMaxConcurrency().keySet());
+        for (String tenant : tenants) {
+            fairShareScheduler.configureTenant(tenant,
+                    fairShare.getWeights().getOrDefault(tenant, fairShare.getDefaultWeight()),
+                    fairShare.getMaxConcurrency().getOrDefault(tenant, fairShare.getDefaultMaxConcurrency()));
+        }
+        DolphinSchedulerProperties.Outbound outbound = dolphinSchedulerProperties.getOutbound();
+        if (outbound.isEnabled()) {
+            try {
+                outboundQueue = new OutboundQueue(Paths.get(outbound.getDir()), outbound.getSegmentBytes(),
+                        outbound.getRatePerSecond(), outbound.getMinBackoffMillis(), outbound.getMaxBackoffMillis(),
+                        // 以入队时的键幂等提交，结果未知时由队列移入死信队列而不是重试
+                        submission -> submitTask(submission.getKey(), submission.getProjectCode(), submission.getTaskCode(),
+                                submission.getScheduleTime(), submission.getFailureStrategy(), submission.getWarningType(),
+                                submission.getWarningGroupId(), submission.getExecType(), submission.getStartNodeList(),
+                                submission.getTaskDependType(), submission.getRunMode(), submission.getProcessInstancePriority(),
+                                submission.getWorkerGroup(), submission.getEnvironmentCode(), submission.getStartParams(),
+                                submission.getExpectedParallelismNumber(), submission.getDryRun()));
+            } catch (IOException e) {
+                throw new RuntimeException("open outbound queue in " + outbound.getDir() + " failed", e);
+            }
+            outboundQueue.start();
+        } else {
+            outboundQueue = null;
+        }
+        if (initMode == InitMode.ASYNC) {
+            warmUp();
+        }
+        LOGGER.info("DsClient initialized in {} ms, init mode {}", System.currentTimeMillis() - startTime, initMode);
+    }
+
+    /**
+     * 在后台登录并创建 master 通信客户端，可重复调用，上一次失败时重新尝试
+     * @return 完成后提交与订阅不再需要等待初始化
+     */
+    public CompletableFuture<Void> warmUp() {
+        synchronized (initLock) {
+            if (null != warmUp && !warmUp.isCompletedExceptionally()) {
+                return warmUp;
             }
-            String sessionId = String.valueOf(result.getData().get("sessionId"));
-            if (StringUtils.isBlank(sessionId)){
-                throw new RuntimeException(MessageFormat.format("login to dolphinScheduler failed {}! not sessionId found", sessionId));
+            warmUp = CompletableFuture.runAsync(() -> {
+                sessionManager.getToken();
+                rpcClient();
+            }, command -> runInBackground("ds-client-warm-up", command));
+            warmUp.whenComplete((v, e) -> {
+                if (null != e) {
+                    LOGGER.warn("warm up DsClient failed, retry on first use: {}", e.getMessage());
+                }
+            });
+            return warmUp;
+        }
+    }
+
+    public InitMode getInitMode() {
+        return initMode;
+    }
+
+    private DsRpcClient rpcClient() {
+        DsRpcClient rpc = client;
+        if (null != rpc) {
+            return rpc;
+        }
+        RecoveredSubscriptionHandler recovery;
+        synchronized (initLock) {
+            if (null == client) {
+                client = new DsRpcClient(rpcSettings);
             }
-            LOGGER.info("user:{} Login to dolphinScheduler succeeded !",dolphinSchedulerProperties.getUserName());
+            rpc = client;
+            recovery = pendingRecovery;
+            pendingRecovery = null;
+        }
+        if (null != recovery) {
+            // 第一次连接 master 时恢复订阅，不阻塞本次调用
+            RecoveredSubscriptionHandler handler = recovery;
+            runInBackground("ds-subscription-recovery", () -> recoverSubscriptions(handler));
         }
-        client = new DsRpcClient();
+        return rpc;
+    }
+
+    private static void runInBackground(String name, Runnable command) {
+        Thread thread = new Thread(command, name);
+        thread.setDaemon(true);
+        thread.start();
     }
 
     private void checkDsProperties(DolphinSchedulerProperties dolphinSchedulerProperties) {
@@ -100,6 +452,7 @@ public class DsClient implements AutoCloseable{
      * @param processInstancePriority MEDIUM
      * @param startParams 一般是一个 JSON String。如：{"xxx":"GGG"}
      * @return
+     * @see #submit(SubmissionTemplate, String) 同一个工作流重复提交时使用模板
      */
     public Result submitTask(@NonNull String projectCode,
                              @NonNull String taskCode,
@@ -127,6 +480,7 @@ public class DsClient implements AutoCloseable{
         expectedParallelismNumber = Optional.ofNullable(StringUtils.trimToNull(expectedParallelismNumber)).orElse("");
         runMode = Optional.ofNullable(StringUtils.trimToNull(runMode)).orElse("RUN_MODE_SERIAL");
         int dryRunX = Math.max(0, dryRun);
+        checkStartParamsSize(startParams);
 
         return this.submit(projectCode, taskCode, scheduleTime, failureStrategy,
                 warningType, warningGroupId, execType, startNodeList, taskDependType, runMode,
@@ -135,6 +489,302 @@ public class DsClient implements AutoCloseable{
     }
 
 
+    /**
+     * 以幂等键提交任务。使用同一个键重试时返回第一次提交的结果（含 command id），不会重复启动工作流。
+     *
+     * @param submissionKey 幂等键，由 {@link #newSubmissionKey()} 生成，调用方在重试时复用
+     * @see #submitTask(String, String, String, String, String, int, String, String, String, String, String, String, String, String, String, int)
+     * @throws SubmissionInDoubtException 之前的提交已发出但结果未知
+     */
+    public Result submitTask(@NonNull String submissionKey,
+                             @NonNull String projectCode,
+                             @NonNull String taskCode,
+                             String scheduleTime,
+                             String failureStrategy,
+                             String warningType,
+                             int warningGroupId,
+                             String execType,
+                             String startNodeList,
+                             String taskDependType,
+                             String runMode,
+                             String processInstancePriority,
+                             String workerGroup,
+                             String environmentCode,
+                             String startParams,
+                             String expectedParallelismNumber,
+                             int dryRun) {
+        return idempotentSubmitter.submit(submissionKey, () -> submitTask(projectCode, taskCode, scheduleTime,
+                failureStrategy, warningType, warningGroupId, execType, startNodeList, taskDependType, runMode,
+                processInstancePriority, workerGroup, environmentCode, startParams, expectedParallelismNumber, dryRun));
+    }
+
+    /**
+     * 提交入队，写入本地出站队列后立即返回，由后台线程限速发送。API 服务不可用时保留在队列中，恢复后继续发送；
+     * 请求已发出但结果未知时移入死信队列，见 {@link OutboundQueue#pollDeadLetter()}
+     *
+     * @return 提交键，发送结果以该键记录在日志中
+     * @see #submitTask(String, String, String, String, String, int, String, String, String, String, String, String, String, String, String, int)
+     */
+    public String enqueueTask(@NonNull String projectCode,
+                              @NonNull String taskCode,
+                              String scheduleTime,
+                              String failureStrategy,
+                              String warningType,
+                              int warningGroupId,
+                              String execType,
+                              String startNodeList,
+                              String taskDependType,
+                              String runMode,
+                              String processInstancePriority,
+                              String workerGroup,
+                              String environmentCode,
+                              String startParams,
+                              String expectedParallelismNumber,
+                              int dryRun) {
+        if (null == outboundQueue) {
+            throw new IllegalStateException("outbound queue is not enabled");
+        }
+        // 入队时校验，避免发送时才发现无法提交
+        checkStartParamsSize(startParams);
+        OutboundSubmission submission = new OutboundSubmission();
+        submission.setProjectCode(projectCode);
+        submission.setTaskCode(taskCode);
+        submission.setScheduleTime(scheduleTime);
+        submission.setFailureStrategy(failureStrategy);
+        submission.setWarningType(warningType);
+        submission.setWarningGroupId(warningGroupId);
+        submission.setExecType(execType);
+        submission.setStartNodeList(startNodeList);
+        submission.setTaskDependType(taskDependType);
+        submission.setRunMode(runMode);
+        submission.setProcessInstancePriority(processInstancePriority);
+        submission.setWorkerGroup(workerGroup);
+        submission.setEnvironmentCode(environmentCode);
+        submission.setStartParams(startParams);
+        submission.setExpectedParallelismNumber(expectedParallelismNumber);
+        submission.setDryRun(dryRun);
+        return outboundQueue.enqueue(submission);
+    }
+
+    /**
+     * 按租户公平调度提交。租户之间按权重轮流发送，租户内优先级高的先发送，
+     * 优先级同时作为实例的 processInstancePriority
+     *
+     * @param tenant 租户
+     * @param priority 优先级，覆盖模板中的 processInstancePriority
+     * @see #submit(SubmissionTemplate, String)
+     */
+    public CompletableFuture<DsResult<SubmitResponse>> submitFair(@NonNull String tenant,
+                                                                  @NonNull SubmissionPriority priority,
+                                                                  @NonNull SubmissionTemplate template,
+                                                                  String startParams) {
+        SubmissionTemplate prioritized = template.withProcessInstancePriority(priority.processInstancePriority());
+        return fairShareScheduler.submit(tenant, priority, () -> submit(prioritized, startParams));
+    }
+
+    /**
+     * 按租户公平调度提交
+     *
+     * @see #submitFair(String, SubmissionPriority, SubmissionTemplate, String)
+     */
+    public CompletableFuture<DsResult<SubmitResponse>> submitFair(@NonNull String tenant,
+                                                                  @NonNull SubmissionPriority priority,
+                                                                  @NonNull SubmissionTemplate template,
+                                                                  Map<String, ?> startParams) {
+        SubmissionTemplate prioritized = template.withProcessInstancePriority(priority.processInstancePriority());
+        return fairShareScheduler.submit(tenant, priority, () -> submit(prioritized, startParams));
+    }
+
+    public FairShareScheduler getFairShareScheduler() {
+        return fairShareScheduler;
+    }
+
+    /**
+     * @return 出站提交队列，未开启时为 null
+     */
+    public OutboundQueue getOutboundQueue() {
+        return outboundQueue;
+    }
+
+    /**
+     * @return 新的幂等提交键
+     */
+    public String newSubmissionKey() {
+        return SnowflakeIdUtils.generateIdStr();
+    }
+
+    /**
+     * 批量提交时一次生成多个幂等键
+     * @param n 数量
+     * @return 新的幂等提交键
+     */
+    public List<String> newSubmissionKeys(int n) {
+        long[] ids = SnowflakeIdUtils.reserve(n);
+        List<String> keys = new ArrayList<>(n);
+        for (long id : ids) {
+            keys.add(Long.toString(id));
+        }
+        return keys;
+    }
+
+    /**
+     * 使用预先校验、编码好的模板提交任务，每次只编码 startParams
+     *
+     * @param template 提交模板，可重复使用
+     * @param startParams 一般是一个 JSON String。如：{"xxx":"GGG"}
+     * @return 返回 command id
+     * @throws IllegalArgumentException startParams 超过 spring.dolphinscheduler.submit.max-start-params-bytes
+     */
+    public DsResult<SubmitResponse> submit(@NonNull SubmissionTemplate template, String startParams) {
+        if (null != submitFlight) {
+            return joinFlight(submitFlight.execute(fingerprint(template, startParams), () -> CompletableFuture.completedFuture(
+                    post(template, template.encode(startParams, template.getScheduleTime(), placement(template), maxStartParamsBytes)))));
+        }
+        return post(template, template.encode(startParams, template.getScheduleTime(), placement(template), maxStartParamsBytes));
+    }
+
+    /**
+     * 使用模板提交任务，startParams 直接序列化进表单
+     *
+     * @param template 提交模板，可重复使用
+     * @param startParams 启动参数
+     * @return 返回 command id
+     * @throws IllegalArgumentException startParams 超过 spring.dolphinscheduler.submit.max-start-params-bytes
+     */
+    public DsResult<SubmitResponse> submit(@NonNull SubmissionTemplate template, Map<String, ?> startParams) {
+        if (null != submitFlight) {
+            return joinFlight(submitFlight.execute(fingerprint(template, startParams), () -> CompletableFuture.completedFuture(
+                    post(template, template.encode(startParams, template.getScheduleTime(), placement(template), maxStartParamsBytes)))));
+        }
+        return post(template, template.encode(startParams, template.getScheduleTime(), placement(template), maxStartParamsBytes));
+    }
+
+    /**
+     * 使用模板以幂等键提交任务
+     *
+     * @param submissionKey 幂等键，由 {@link #newSubmissionKey()} 生成，调用方在重试时复用
+     * @see #submit(SubmissionTemplate, String)
+     * @throws SubmissionInDoubtException 之前的提交已发出但结果未知
+     */
+    public DsResult<SubmitResponse> submit(@NonNull String submissionKey,
+                                           @NonNull SubmissionTemplate template,
+                                           String startParams) {
+        final byte[] form = template.encode(startParams, template.getScheduleTime(), placement(template), maxStartParamsBytes);
+        return idempotentSubmitter.submit(submissionKey, DsResult.class, () -> post(template, form), DsResult::isOk);
+    }
+
+    /**
+     * 使用模板以幂等键提交任务
+     *
+     * @param submissionKey 幂等键，由 {@link #newSubmissionKey()} 生成，调用方在重试时复用
+     * @see #submit(SubmissionTemplate, Map)
+     * @throws SubmissionInDoubtException 之前的提交已发出但结果未知
+     */
+    public DsResult<SubmitResponse> submit(@NonNull String submissionKey,
+                                           @NonNull SubmissionTemplate template,
+                                           Map<String, ?> startParams) {
+        final byte[] form = template.encode(startParams, template.getScheduleTime(), placement(template), maxStartParamsBytes);
+        return idempotentSubmitter.submit(submissionKey, DsResult.class, () -> post(template, form), DsResult::isOk);
+    }
+
+    /**
+     * 使用模板异步提交任务
+     *
+     * @see #submit(SubmissionTemplate, String)
+     */
+    public CompletableFuture<DsResult<SubmitResponse>> submitAsync(@NonNull SubmissionTemplate template, String startParams) {
+        if (null != submitFlight) {
+            return submitFlight.execute(fingerprint(template, startParams), () -> doSubmitAsync(template, startParams));
+        }
+        return doSubmitAsync(template, startParams);
+    }
+
+    /**
+     * 使用模板异步提交任务
+     *
+     * @see #submit(SubmissionTemplate, Map)
+     */
+    public CompletableFuture<DsResult<SubmitResponse>> submitAsync(@NonNull SubmissionTemplate template, Map<String, ?> startParams) {
+        if (null != submitFlight) {
+            return submitFlight.execute(fingerprint(template, startParams), () -> doSubmitAsync(template, startParams));
+        }
+        return doSubmitAsync(template, startParams);
+    }
+
+    private static String fingerprint(SubmissionTemplate template, Object startParams) {
+        return startParams instanceof String
+                ? SubmissionFingerprint.of(template, (String) startParams)
+                : SubmissionFingerprint.of(template, startParams);
+    }
+
+    private CompletableFuture<DsResult<SubmitResponse>> doSubmitAsync(SubmissionTemplate template, String startParams) {
+        final byte[] form;
+        try {
+            form = template.encode(startParams, template.getScheduleTime(), placement(template), maxStartParamsBytes);
+        } catch (IllegalArgumentException e) {
+            CompletableFuture<DsResult<SubmitResponse>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return asyncApiService.startProcessInstance(template.getProjectCode(), form);
+    }
+
+    private CompletableFuture<DsResult<SubmitResponse>> doSubmitAsync(SubmissionTemplate template, Map<String, ?> startParams) {
+        final byte[] form;
+        try {
+            form = template.encode(startParams, template.getScheduleTime(), placement(template), maxStartParamsBytes);
+        } catch (IllegalArgumentException e) {
+            CompletableFuture<DsResult<SubmitResponse>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return asyncApiService.startProcessInstance(template.getProjectCode(), form);
+    }
+
+    /**
+     * 异步 API，传输方式由 spring.dolphinscheduler.transport.mode 选择
+     * @return
+     */
+    public AsyncDsRemoteApiService async() {
+        return asyncApiService;
+    }
+
+    /**
+     * 模板开启自动选择时，按 worker 负载选择本次提交的 worker group
+     * @return 选择的 worker group，未开启时为 null
+     */
+    private String placement(SubmissionTemplate template) {
+        if (!template.isAutoPlacement()) {
+            return null;
+        }
+        Collection<String> candidates = template.getPlacementGroups();
+        if (candidates.isEmpty() && StringUtils.isNotBlank(template.getEnvironmentCode())) {
+            // 没有指定候选时，限定在环境绑定的 worker group 内
+            try {
+                candidates = listEnvsCached().stream()
+                        .filter(env -> null != env.getCode() && template.getEnvironmentCode().equals(String.valueOf(env.getCode())))
+                        .flatMap(env -> env.getWorkerGroups().stream())
+                        .collect(Collectors.toSet());
+            } catch (RuntimeException e) {
+                LOGGER.warn("query worker groups of environment {} failed: {}", template.getEnvironmentCode(), e.getMessage());
+            }
+        }
+        return workerGroupSelector.select(candidates, template.getWorkerGroup());
+    }
+
+    private DsResult<SubmitResponse> post(SubmissionTemplate template, byte[] form) {
+        return sessionManager.execute(token -> dsRemoteApiService.startProcessInstance(token, template.getProjectCode(), form));
+    }
+
+    private void checkStartParamsSize(String startParams) {
+        if (startParams == null || maxStartParamsBytes <= 0 || startParams.length() * 3L <= maxStartParamsBytes) {
+            return;
+        }
+        if (startParams.getBytes(StandardCharsets.UTF_8).length > maxStartParamsBytes) {
+            throw new IllegalArgumentException(String.format("startParams exceeds the limit of %d bytes", maxStartParamsBytes));
+        }
+    }
+
     private Result submit(String projectCode,
                           String taskCode,
                           String scheduleTime,
@@ -151,10 +801,10 @@ public class DsClient implements AutoCloseable{
                           String startParams,
                           String expectedParallelismNumber,
                           int dryRun) {
-        return dsRemoteApiService.submitTask(token, projectCode, taskCode, scheduleTime, failureStrategy,
+        return sessionManager.execute(token -> dsRemoteApiService.submitTask(token, projectCode, taskCode, scheduleTime, failureStrategy,
                 warningType, warningGroupId, execType, startNodeList, taskDependType, runMode,
                 processInstancePriority, workerGroup, environmentCode, startParams,
-                expectedParallelismNumber, dryRun);
+                expectedParallelismNumber, dryRun));
     }
 
     /**
@@ -181,6 +831,62 @@ public class DsClient implements AutoCloseable{
                            long await,
                            TimeUnit timeUnit
     ){
+        submitTask(newSubmissionKey(), projectCode, taskCode, warningGroupId, workerGroup, environmentCode, startParams,
+                callback, await, timeUnit);
+    }
+
+    /**
+     * 以幂等键提交一次性任务，并支持回调。超时后使用同一个键重试时不会重复启动工作流，而是继续跟踪第一次提交的实例；
+     * 同一个键不要并发使用
+     *
+     * @param submissionKey 幂等键，同时作为订阅 ID，由 {@link #newSubmissionKey()} 生成，调用方在重试时复用
+     * @see #submitTask(String, String, int, String, String, String, ProcessCallBack, long, TimeUnit)
+     * @throws SubmissionInDoubtException 之前的提交已发出但结果未知
+     */
+    public void submitTask(@NonNull String submissionKey,
+                           @NonNull String projectCode,
+                           @NonNull String taskCode,
+                           int warningGroupId,
+                           String workerGroup,
+                           String environmentCode,
+                           String startParams,
+                           final ProcessCallBack callback,
+                           long await,
+                           TimeUnit timeUnit
+    ){
+        ProcessInstanceStateCommand finalState;
+        if (null == trackedFlight) {
+            CompletableFuture<ProcessInstanceStateCommand> state = submitAndTrack(submissionKey, projectCode, taskCode,
+                    warningGroupId, workerGroup, environmentCode, startParams);
+            try {
+                finalState = awaitFlight(state, await, timeUnit);
+            } finally {
+                // 超时后停止跟踪
+                state.cancel(false);
+            }
+        } else {
+            // 相同的提交进行中时共享其实例，各自按自己的超时时间等待，所有调用方都超时后停止跟踪
+            String fixedFields = warningGroupId + "&" + StringUtils.trimToEmpty(workerGroup) + "&" + StringUtils.trimToEmpty(environmentCode);
+            finalState = awaitFlight(trackedFlight, SubmissionFingerprint.of(projectCode, taskCode, fixedFields, "", startParams),
+                    () -> submitAndTrack(submissionKey, projectCode, taskCode, warningGroupId, workerGroup, environmentCode, startParams),
+                    await, timeUnit);
+        }
+        if (null != finalState && null != callback) {
+            callback.processFinished(finalState);
+        }
+    }
+
+    /**
+     * 提交并跟踪实例
+     * @return 实例结束时以其状态完成，订阅失败时以 null 完成；取消时停止跟踪
+     */
+    private CompletableFuture<ProcessInstanceStateCommand> submitAndTrack(String submissionKey,
+                                                                          String projectCode,
+                                                                          String taskCode,
+                                                                          int warningGroupId,
+                                                                          String workerGroup,
+                                                                          String environmentCode,
+                                                                          String startParams) {
         final ProcessInstanceStateCommand.CommandType add = ProcessInstanceStateCommand.CommandType.ADD;
         final ProcessInstanceStateCommand.ConsumerType consumerType = ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE;
         String scheduleTime = "";
@@ -192,79 +898,257 @@ public class DsClient implements AutoCloseable{
         String taskDependType = "TASK_POST";
         String expectedParallelismNumber = "";
         String runMode = "RUN_MODE_SERIAL";
-        String hostAndPort = getHostAndPort();
+        checkStartParamsSize(startParams);
+        // 只轮询时不需要 master
+        final TrackingMode mode = trackingMode;
+        String hostAndPort = mode == TrackingMode.POLL ? null : getHostAndPort();
+        // 提交与订阅使用同一个 ID，使用同一个键重试时返回第一次提交的 command id、提交时间与已有实例
+        String snowflakeId = submissionKey;
         //提交任务
-        Result result = submitTask(projectCode, taskCode, scheduleTime, failureStrategy,
-                warningType, warningGroupId, execType, startNodeList, taskDependType, runMode,
-                processInstancePriority, workerGroup, environmentCode, startParams,
-                expectedParallelismNumber, 0);
+        SubmittedTask submitted = idempotentSubmitter.submit(snowflakeId, SubmittedTask.class, () -> {
+            // 只轮询时记录已有的实例，避免认领提交前就存在的实例；AUTO 模式推送失败后才轮询，不为此在每次提交前多查询一次
+            int baseline = mode == TrackingMode.POLL ? pollingStateTracker.baseline(projectCode, taskCode) : 0;
+            long time = System.currentTimeMillis();
+            return new SubmittedTask(sessionManager.execute(token -> dsRemoteApiService.startProcessInstance(token,
+                    projectCode, taskCode, scheduleTime, failureStrategy, warningType, warningGroupId, execType,
+                    startNodeList, taskDependType, runMode, processInstancePriority, workerGroup, environmentCode,
+                    startParams, expectedParallelismNumber, 0)), time, baseline);
+        }, task -> task.result.isOk());
+        final DsResult<SubmitResponse> result = submitted.result;
+        final long submitTime = submitted.submitTime;
+        final int baselineInstanceId = submitted.baselineInstanceId;
 
-        if (result.getCode() != 0){
+        if (!result.isOk()){
             LOGGER.error("提交任务失败");
             throw new RuntimeException("提交任务失败: "+result.getMsg());
         }
-        Map<String, Object> data = result.getData();
-        int commandId = 0;
-        Object id = data.get("id");
-        if (null != id){
-            commandId = Integer.parseInt(id.toString());
-        }
-        // 等待接收
-        final CountDownLatch latch = new CountDownLatch(1);
-        String snowflakeId = SnowflakeIdUtils.generateIdStr();
-        // 通过master的rpc接口，发送订阅这个command id的事件
-        ProcessInstanceStateCommand stateCommand = new ProcessInstanceStateCommand();
-        stateCommand.setId(snowflakeId);
-        stateCommand.setCommandType(add);
-        stateCommand.setConsumerType(consumerType);
-        stateCommand.setCommandId(commandId);
+        int commandId = null == result.getData() || null == result.getData().getId() ? 0 : result.getData().getId();
+        final CompletableFuture<ProcessInstanceStateCommand> state = new CompletableFuture<>();
+        final Host host = null == hostAndPort ? null : toHost(hostAndPort);
+        ProcessStateCallback processStateCallback = new ProcessStateCallback() {
+            @Override
+            public void callback(ProcessInstanceStateCommand command) {
+                // 根据不同的状态调用不同的callBack方法
+                LOGGER.info("command:{}",command.toString());
+                boolean isFinished = command.getExecutionStatus().typeIsFinished();
+                if (command.getEventType().equals(StateEventType.PROCESS_STATE_CHANGE) && isFinished){
+                    finish(command);
+                }
+            }
+            @Override
+            public void finish(ProcessInstanceStateCommand command) {
+                // 推送与轮询可能都会报告结束，只处理一次
+                if (state.complete(command) && null != host) {
+                    unsubscribe(host, snowflakeId, command);
+                }
+            }
+        };
+        state.whenComplete((command, e) -> {
+            ProcessInstanceStateProcessor.removeListener(snowflakeId, consumerType);
+            pollingStateTracker.untrack(snowflakeId);
+            journalRemove(snowflakeId);
+        });
         try {
-            HostAndPort hostAndPort1 = HostAndPort.fromString(hostAndPort);
-            LOGGER.info("request command:{}",stateCommand.toString());
-            final Host host = new Host(hostAndPort1.getHost(), hostAndPort1.getPort());
-            client.send(host,stateCommand.convert2Command(CommandType.PROCESS_INSTANCE_STATE));
+            long pollDelay = 0L;
+            if (null != host) {
+                // 收到推送说明推送可用，不再轮询
+                ProcessInstanceStateProcessor.addListener(command -> {
+                    pollingStateTracker.untrack(snowflakeId);
+                    processStateCallback.callback(command);
+                }, snowflakeId, consumerType);
+                // 通过master的rpc接口，发送订阅这个command id的事件
+                ProcessInstanceStateCommand stateCommand = new ProcessInstanceStateCommand();
+                stateCommand.setId(snowflakeId);
+                stateCommand.setCommandType(add);
+                stateCommand.setConsumerType(consumerType);
+                stateCommand.setCommandId(commandId);
+                // 先写日志，发送后崩溃时重启仍能恢复或退订
+                journalAdd(snowflakeId, commandId, consumerType, hostAndPort);
+                try {
+                    LOGGER.info("request command:{}",stateCommand.toString());
+                    rpcClient().send(host,stateCommand.convert2Command(CommandType.PROCESS_INSTANCE_STATE));
+                    pollDelay = pushGraceMillis;
+                } catch (Exception e) {
+                    journalRemove(snowflakeId);
+                    if (mode == TrackingMode.PUSH) {
+                        throw e;
+                    }
+                    LOGGER.warn("subscribe {} on master {} failed, poll the state instead: {}", snowflakeId, hostAndPort, e.getMessage());
+                }
+            }
+            if (mode != TrackingMode.PUSH) {
+                pollingStateTracker.track(new TrackedInstance(snowflakeId, commandId, projectCode, taskCode, submitTime,
+                        baselineInstanceId), processStateCallback, pollDelay);
+            }
+        }catch (Exception e){
+            LOGGER.error("track command {} failed", commandId, e);
+            state.complete(null);
+        }
+        return state;
+    }
 
-            ProcessStateCallback processStateCallback = new ProcessStateCallback() {
+    /**
+     * 等待共享的提交
+     * @return 超时时为 null
+     */
+    private static <T> T awaitFlight(CompletableFuture<T> flight, long await, TimeUnit timeUnit) {
+        try {
+            return await <= 0 || timeUnit == null ? flight.get() : flight.get(await, timeUnit);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * 执行或加入共享的提交，按自己的超时时间等待
+     * @return 超时时为 null
+     */
+    private static <K, T> T awaitFlight(SingleFlight<K, T> singleFlight,
+                                        K key,
+                                        Supplier<CompletableFuture<T>> call,
+                                        long await,
+                                        TimeUnit timeUnit) {
+        try {
+            return singleFlight.await(key, call, await, timeUnit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(ExecutionException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+    }
+
+    private static <T> T joinFlight(CompletableFuture<T> flight) {
+        return awaitFlight(flight, 0, null);
+    }
+
+    /**
+     * 用一个订阅跟踪一组 command，等待全部或任一结束时不为每个 command 占用线程。
+     * <pre>
+     *  try (TrackedGroup group = dsClient.trackGroup(commandIds)) {
+     *      GroupOutcome outcome = group.awaitAll(1, TimeUnit.HOURS);
+     *  }
+     * </pre>
+     * @param commandIds 提交返回的 command id，之后也可以通过 {@link TrackedGroup#add(int)} 加入
+     * @return 使用完后需要关闭
+     */
+    public TrackedGroup trackGroup(@NonNull Collection<Integer> commandIds) {
+        final String hostAndPort = getHostAndPort();
+        final Host host = toHost(hostAndPort);
+        TrackedGroup group = new TrackedGroup(newSubmissionKey(), new SubscriptionChannel() {
+            @Override
+            public void subscribe(String id, int commandId) throws Exception {
+                ProcessInstanceStateCommand stateCommand = new ProcessInstanceStateCommand();
+                stateCommand.setId(id);
+                stateCommand.setCommandType(ProcessInstanceStateCommand.CommandType.ADD);
+                stateCommand.setConsumerType(ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE);
+                stateCommand.setCommandId(commandId);
+                rpcClient().send(host, stateCommand.convert2Command(CommandType.PROCESS_INSTANCE_STATE));
+            }
+
+            @Override
+            public void unsubscribe(String id, ProcessInstanceStateCommand command) {
+                DsClient.this.unsubscribe(host, id, command);
+            }
+
+            @Override
+            public void release(String id) {
+                ProcessInstanceStateProcessor.removeListener(id, ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE);
+            }
+        });
+        // 先注册监听，再逐个订阅
+        ProcessInstanceStateProcessor.addListener(group, group.getId(), ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE);
+        group.addAll(commandIds);
+        return group;
+    }
+
+    /**
+     * 按依赖图提交工作流：节点在所有上游成功结束时提交，由实例结束事件驱动，不占用等待线程。
+     * @param dag 依赖图
+     * @return 执行中的 DAG，通过 {@link WorkflowExecution#getResult()} 获取结果
+     */
+    public WorkflowExecution execute(@NonNull WorkflowDag dag) {
+        TrackedGroup group = trackGroup(Collections.emptyList());
+        return new WorkflowExecution(dag, this::submitAsync, group).start();
+    }
+
+    /**
+     * 按时间区间补数，区间按设置的并发与顺序提交，通过状态事件跟踪完成。
+     * 开启节流时，所用 worker group 的平均负载超过 backfill 配置的阈值期间暂停提交，每次集群状态轮询后重新检查；
+     * 集群状态超过一个轮询间隔没有更新时不再节流。
+     * @param backfill 补数区间
+     * @return 执行中的补数，节点名为区间的 scheduleTime
+     */
+    public WorkflowExecution backfill(@NonNull Backfill backfill) {
+        final SubmissionTemplate template = backfill.getTemplate();
+        BooleanSupplier throttle = backfill.isThrottle() ? () -> clusterBusy(template) : () -> false;
+        WorkflowExecution execution = new WorkflowExecution(backfill.toDag(), this::submitAsync,
+                trackGroup(Collections.emptyList()), throttle);
+        if (backfill.isThrottle()) {
+            ClusterChangeListener listener = new ClusterChangeListener() {
                 @Override
-                public void callback(ProcessInstanceStateCommand command) {
-                    // 根据不同的状态调用不同的callBack方法
-                    LOGGER.info("command:{}",command.toString());
-                    boolean isFinished = command.getExecutionStatus().typeIsFinished();
-                    if (command.getEventType().equals(StateEventType.PROCESS_STATE_CHANGE) && isFinished){
-                        finish(command);
-                    }
+                public void onChange(List<ClusterChangeEvent> events, ClusterSnapshot snapshot) {
+                    execution.resume();
                 }
+
                 @Override
-                public void finish(ProcessInstanceStateCommand command) {
-                    latch.countDown();
-                    ProcessInstanceStateCommand deleteCommand = new ProcessInstanceStateCommand();
-                    deleteCommand.setId(snowflakeId);
-                    deleteCommand.setCommandId(command.getCommandId());
-                    deleteCommand.setProcessInstanceId(command.getProcessInstanceId());
-                    deleteCommand.setCommandType(ProcessInstanceStateCommand.CommandType.DELETE);
-                    deleteCommand.setConsumerType(consumerType);
-                    try {
-                        client.send(host,deleteCommand.convert2Command(CommandType.PROCESS_INSTANCE_STATE));
-                    }catch (Exception e){
-                        e.printStackTrace();
-                    }
+                public void onPoll(ClusterSnapshot snapshot) {
+                    // 负载没有超过变化阈值时不会有 onChange，每次轮询都重新检查
+                    execution.resume();
                 }
             };
-            ProcessInstanceStateProcessor.addListener(processStateCallback,snowflakeId, consumerType);
-
-            // 根据等待超时事件计算
-            if(await <= 0 || timeUnit == null) {
-                latch.await();
-            } else {
-                // 等待一定的时间，超时则通过
-                latch.await(await, timeUnit);
-            }
-            ProcessInstanceStateProcessor.removeListener(snowflakeId,consumerType);
-        }catch (Exception e){
-            e.printStackTrace();
+            clusterStatePoller.addListener(listener);
+            execution.getResult().whenComplete((result, e) -> clusterStatePoller.removeListener(listener));
         }
+        return execution.start();
+    }
 
+    /**
+     * 模板使用的 worker group 是否繁忙，没有最近的集群状态或没有心跳信息时视为不繁忙
+     */
+    private boolean clusterBusy(SubmissionTemplate template) {
+        ClusterSnapshot snapshot = clusterStatePoller.recent();
+        if (null == snapshot) {
+            return false;
+        }
+        Collection<String> groups = template.isAutoPlacement() ? template.getPlacementGroups()
+                : StringUtils.isBlank(template.getWorkerGroup()) ? Collections.emptyList()
+                : Collections.singletonList(template.getWorkerGroup());
+        double cpu = 0D;
+        double memory = 0D;
+        double queue = 0D;
+        int count = 0;
+        for (ClusterNode worker : snapshot.getWorkers()) {
+            HeartBeat heartBeat = worker.getHeartBeat();
+            if (null == heartBeat || (!groups.isEmpty() && Collections.disjoint(groups, worker.getWorkerGroups()))) {
+                continue;
+            }
+            cpu += heartBeat.getCpuUsage();
+            memory += heartBeat.getMemoryUsage();
+            queue += (double) heartBeat.getWorkerWaitingTaskCount() / Math.max(1, heartBeat.getWorkerExecThreadCount());
+            count++;
+        }
+        if (count == 0) {
+            return false;
+        }
+        return cpu / count > backfillThrottle.getMaxCpuUsage()
+                || memory / count > backfillThrottle.getMaxMemoryUsage()
+                || queue / count > backfillThrottle.getMaxQueueRatio();
+    }
 
+    private static Host toHost(String hostAndPort) {
+        HostAndPort hostAndPort1 = HostAndPort.fromString(hostAndPort);
+        return new Host(hostAndPort1.getHost(), hostAndPort1.getPort());
     }
 
     /**
@@ -284,7 +1168,14 @@ public class DsClient implements AutoCloseable{
             HostAndPort hostAndPort1 = HostAndPort.fromString(hostAndPort);
             LOGGER.info("request command:{}", stateCommand.toString());
             final Host host = new Host(hostAndPort1.getHost(), hostAndPort1.getPort());
-            client.send(host, stateCommand.convert2Command(CommandType.PROCESS_INSTANCE_STATE));
+            // 先写日志，发送后崩溃时重启仍能恢复
+            journalAdd(snowflakeId, 0, consumerType, hostAndPort);
+            try {
+                rpcClient().send(host, stateCommand.convert2Command(CommandType.PROCESS_INSTANCE_STATE));
+            } catch (Exception e) {
+                journalRemove(snowflakeId);
+                throw e;
+            }
 
             ProcessStateCallback processStateCallback = new ProcessStateCallback() {
                 @Override
@@ -304,17 +1195,17 @@ public class DsClient implements AutoCloseable{
     }
 
     private String getHostAndPort() {
-        final ArrayResult master = getAllMaster();
-        if(master == null || master.getData() == null || master.getData().isEmpty()) {
-            throw new IllegalArgumentException("没有可用的 dolphinscheduler master。");
+        // 轮询中且结果未过期时直接使用，否则重新查询 master
+        ClusterSnapshot snapshot = clusterStatePoller.recent();
+        if (null != snapshot && !snapshot.getMasters().isEmpty()) {
+            return snapshot.getMasters().iterator().next().getAddress();
         }
-        Map<String, Object> masterInfo = (Map) master.getData().get(0);
-        String zkpath = (String) masterInfo.get("zkDirectory");
-        if(StringUtils.isBlank(zkpath)) {
+        final DsResult<List<MasterServer>> masters = getMasters();
+        if(masters == null || masters.getData() == null || masters.getData().isEmpty()) {
             throw new IllegalArgumentException("没有可用的 dolphinscheduler master。");
         }
         // 默认的 那个 master
-        String hostAndPort = StringUtils.trimToNull(new Path(zkpath).getName());
+        String hostAndPort = masters.getData().get(0).getAddress();
         if(StringUtils.isBlank(hostAndPort)) {
             throw new IllegalArgumentException("没有可用的 dolphinscheduler master。");
         }
@@ -323,6 +1214,191 @@ public class DsClient implements AutoCloseable{
 
     public void removeSubAllConsumer(@NonNull String consumerId){
         ProcessInstanceStateProcessor.removeListener(consumerId, ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ALL);
+        journalRemove(consumerId);
+    }
+
+    /**
+     * 在第一次连接 master 时（第一次订阅或 {@link #warmUp()}）于后台恢复订阅，已连接时立即在后台恢复。
+     * LAZY 模式下启动时不恢复，避免启动即连接 API 服务与 master
+     */
+    public void recoverSubscriptionsOnConnect(@NonNull RecoveredSubscriptionHandler handler) {
+        synchronized (initLock) {
+            if (null == client) {
+                pendingRecovery = handler;
+                return;
+            }
+        }
+        runInBackground("ds-subscription-recovery", () -> recoverSubscriptions(handler));
+    }
+
+    /**
+     * 重启后恢复订阅日志中未结束的订阅：重新向 master 注册并使用 handler 提供的回调接收状态。
+     * 原 master 已不在集群中时改为向当前 master 注册。需要开启 journal 配置。
+     * @param handler 为每个订阅提供回调，返回 null 时放弃该订阅
+     * @return 恢复的订阅数
+     */
+    public int recoverSubscriptions(@NonNull RecoveredSubscriptionHandler handler) {
+        if (null == subscriptionJournal) {
+            return 0;
+        }
+        Collection<Subscription> subscriptions = subscriptionJournal.getActive();
+        if (subscriptions.isEmpty()) {
+            return 0;
+        }
+        Map<Subscription, ProcessStateCallback> callbacks = new LinkedHashMap<>();
+        for (Subscription subscription : subscriptions) {
+            ProcessStateCallback callback = handler.recover(subscription);
+            if (null == callback) {
+                journalRemove(subscription.getId());
+                continue;
+            }
+            callbacks.put(subscription, callback);
+        }
+        int recovered = resubscribeAll(callbacks);
+        LOGGER.info("recovered {} of {} subscriptions", recovered, subscriptions.size());
+        return recovered;
+    }
+
+    /**
+     * 逐个重新订阅，API 服务或 master 暂时不可用时稍后重试失败的订阅，不抛出异常
+     * @return 成功恢复的订阅数
+     */
+    private int resubscribeAll(Map<Subscription, ProcessStateCallback> callbacks) {
+        ClusterSnapshot snapshot;
+        try {
+            snapshot = clusterStatePoller.getSnapshot();
+        } catch (RuntimeException e) {
+            LOGGER.warn("query cluster state failed, recover {} subscriptions in {} ms: {}",
+                    callbacks.size(), RECOVERY_RETRY_MILLIS, e.getMessage());
+            scheduleRecovery(callbacks);
+            return 0;
+        }
+        Map<Subscription, ProcessStateCallback> failed = new LinkedHashMap<>();
+        int recovered = 0;
+        for (Map.Entry<Subscription, ProcessStateCallback> entry : callbacks.entrySet()) {
+            Subscription subscription = entry.getKey();
+            try {
+                String hostAndPort = snapshot.getMasters().stream()
+                        .anyMatch(master -> subscription.getMasterHost().equals(master.getAddress()))
+                        ? subscription.getMasterHost() : getHostAndPort();
+                resubscribe(subscription, hostAndPort, entry.getValue());
+                recovered++;
+            } catch (Exception e) {
+                LOGGER.warn("recover subscription {} failed, retry in {} ms", subscription, RECOVERY_RETRY_MILLIS, e);
+                failed.put(subscription, entry.getValue());
+            }
+        }
+        if (!failed.isEmpty()) {
+            scheduleRecovery(failed);
+        }
+        return recovered;
+    }
+
+    private void scheduleRecovery(Map<Subscription, ProcessStateCallback> callbacks) {
+        synchronized (initLock) {
+            if (closed) {
+                return;
+            }
+            if (null == recoveryRetry) {
+                recoveryRetry = Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder().setNameFormat("ds-subscription-recovery").setDaemon(true).build());
+            }
+            recoveryRetry.schedule(() -> {
+                // 等待期间已结束的订阅不再恢复
+                callbacks.keySet().removeIf(subscription -> !subscriptionJournal.contains(subscription.getId()));
+                if (!callbacks.isEmpty()) {
+                    LOGGER.info("recovered {} of {} subscriptions on retry", resubscribeAll(callbacks), callbacks.size());
+                }
+            }, RECOVERY_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void resubscribe(Subscription subscription, String hostAndPort, ProcessStateCallback callback) throws Exception {
+        final String id = subscription.getId();
+        final ProcessInstanceStateCommand.ConsumerType consumerType = subscription.getConsumerType();
+        HostAndPort hostAndPort1 = HostAndPort.fromString(hostAndPort);
+        final Host host = new Host(hostAndPort1.getHost(), hostAndPort1.getPort());
+        ProcessStateCallback recoveredCallback = callback;
+        if (consumerType == ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE) {
+            // 单个订阅结束时退订并清理日志
+            recoveredCallback = new ProcessStateCallback() {
+                @Override
+                public void callback(ProcessInstanceStateCommand command) {
+                    callback.callback(command);
+                    if (command.getEventType().equals(StateEventType.PROCESS_STATE_CHANGE)
+                            && command.getExecutionStatus().typeIsFinished()) {
+                        finish(command);
+                    }
+                }
+
+                @Override
+                public void finish(ProcessInstanceStateCommand command) {
+                    try {
+                        callback.finish(command);
+                    } finally {
+                        ProcessInstanceStateProcessor.removeListener(id, consumerType);
+                        unsubscribe(host, id, command);
+                    }
+                }
+            };
+        }
+        // 先注册监听，避免错过注册后立即推送的状态
+        ProcessInstanceStateProcessor.addListener(recoveredCallback, id, consumerType);
+        ProcessInstanceStateCommand stateCommand = new ProcessInstanceStateCommand();
+        stateCommand.setId(id);
+        stateCommand.setCommandType(ProcessInstanceStateCommand.CommandType.ADD);
+        stateCommand.setConsumerType(consumerType);
+        stateCommand.setCommandId(subscription.getCommandId());
+        try {
+            rpcClient().send(host, stateCommand.convert2Command(CommandType.PROCESS_INSTANCE_STATE));
+        } catch (Exception e) {
+            ProcessInstanceStateProcessor.removeListener(id, consumerType);
+            throw e;
+        }
+        if (!hostAndPort.equals(subscription.getMasterHost())) {
+            journalAdd(id, subscription.getCommandId(), consumerType, hostAndPort);
+        }
+    }
+
+    /**
+     * 向 master 发送退订并清理订阅日志
+     */
+    private void unsubscribe(Host host, String id, ProcessInstanceStateCommand command) {
+        journalRemove(id);
+        ProcessInstanceStateCommand deleteCommand = new ProcessInstanceStateCommand();
+        deleteCommand.setId(id);
+        deleteCommand.setCommandId(command.getCommandId());
+        deleteCommand.setProcessInstanceId(command.getProcessInstanceId());
+        deleteCommand.setCommandType(ProcessInstanceStateCommand.CommandType.DELETE);
+        deleteCommand.setConsumerType(ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE);
+        try {
+            rpcClient().send(host,deleteCommand.convert2Command(CommandType.PROCESS_INSTANCE_STATE));
+        }catch (Exception e){
+            LOGGER.warn("unsubscribe {} from master {} failed", id, host, e);
+        }
+    }
+
+    private void journalAdd(String id, int commandId, ProcessInstanceStateCommand.ConsumerType consumerType, String hostAndPort) {
+        if (null == subscriptionJournal) {
+            return;
+        }
+        try {
+            subscriptionJournal.add(new Subscription(id, commandId, consumerType, hostAndPort, System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            // 日志只影响重启后的恢复，不影响本次订阅
+            LOGGER.warn("journal subscription {} failed: {}", id, e.getMessage());
+        }
+    }
+
+    private void journalRemove(String id) {
+        if (null == subscriptionJournal) {
+            return;
+        }
+        try {
+            subscriptionJournal.remove(id);
+        } catch (RuntimeException e) {
+            LOGGER.warn("remove subscription {} from journal failed: {}", id, e.getMessage());
+        }
     }
 
 
@@ -331,7 +1407,7 @@ public class DsClient implements AutoCloseable{
      * @return
      */
     public ArrayResult getAllMaster() {
-        return dsRemoteApiService.listMaster(token);
+        return sessionManager.execute(dsRemoteApiService::listMaster);
     }
 
     /**
@@ -339,7 +1415,7 @@ public class DsClient implements AutoCloseable{
      * @return
      */
     public ArrayResult getAllWorker() {
-        return dsRemoteApiService.getAllWorker(token);
+        return sessionManager.execute(dsRemoteApiService::getAllWorker);
     }
 
     /**
@@ -352,10 +1428,10 @@ public class DsClient implements AutoCloseable{
     public ArrayResult getWorkerGroups(String searchVal,
                                        int page,
                                        int pageSize) {
-        searchVal = Optional.ofNullable(StringUtils.trimToNull(searchVal)).orElse("");
-        page = Math.max(1, page);
-        pageSize = pageSize <= 0 ? 10 : pageSize;
-        return dsRemoteApiService.getWorkerGroups(token, searchVal, page, pageSize);
+        final String search = Optional.ofNullable(StringUtils.trimToNull(searchVal)).orElse("");
+        final int pageNo = Math.max(1, page);
+        final int size = pageSize <= 0 ? 10 : pageSize;
+        return sessionManager.execute(token -> dsRemoteApiService.getWorkerGroups(token, search, pageNo, size));
     }
 
     /**
@@ -368,10 +1444,329 @@ public class DsClient implements AutoCloseable{
     public ArrayResult getAllEnvs(String searchVal,
                                   int page,
                                   int pageSize){
-        searchVal = Optional.ofNullable(StringUtils.trimToNull(searchVal)).orElse("");
-        page = Math.max(1, page);
-        pageSize = pageSize <= 0 ? 10 : pageSize;
-        return dsRemoteApiService.getAllEnvs(token, searchVal, page, pageSize);
+        final String search = Optional.ofNullable(StringUtils.trimToNull(searchVal)).orElse("");
+        final int pageNo = Math.max(1, page);
+        final int size = pageSize <= 0 ? 10 : pageSize;
+        return sessionManager.execute(token -> dsRemoteApiService.getAllEnvs(token, search, pageNo, size));
+    }
+
+    /**
+     * 获取所有的 master
+     * @return
+     */
+    public DsResult<List<MasterServer>> getMasters() {
+        return sessionManager.execute(dsRemoteApiService::listMasters);
+    }
+
+    /**
+     * 获取所有的 worker
+     * @return
+     */
+    public DsResult<List<WorkerServer>> getWorkers() {
+        return sessionManager.execute(dsRemoteApiService::listWorkers);
+    }
+
+    /**
+     * 分页查询 workers group 分组
+     * @param searchVal
+     * @param page
+     * @param pageSize
+     * @return
+     */
+    public DsResult<PageInfo<WorkerGroup>> getWorkerGroupPage(String searchVal,
+                                                             int page,
+                                                             int pageSize) {
+        final String search = Optional.ofNullable(StringUtils.trimToNull(searchVal)).orElse("");
+        final int pageNo = Math.max(1, page);
+        final int size = pageSize <= 0 ? 10 : pageSize;
+        return sessionManager.execute(token -> dsRemoteApiService.queryWorkerGroupPage(token, search, pageNo, size));
+    }
+
+    /**
+     * 分页查询 env 环境
+     * @param searchVal
+     * @param page
+     * @param pageSize
+     * @return
+     */
+    public DsResult<PageInfo<Environment>> getEnvironmentPage(String searchVal,
+                                                             int page,
+                                                             int pageSize) {
+        final String search = Optional.ofNullable(StringUtils.trimToNull(searchVal)).orElse("");
+        final int pageNo = Math.max(1, page);
+        final int size = pageSize <= 0 ? 10 : pageSize;
+        return sessionManager.execute(token -> dsRemoteApiService.queryEnvironmentPage(token, search, pageNo, size));
+    }
+
+    /**
+     * 逐页遍历 worker group，消费当前页时预取下一页
+     * @param searchVal 搜索条件
+     * @param pageSize 每页大小
+     * @return
+     */
+    public PageIterator<WorkerGroup> iterateWorkerGroups(String searchVal, int pageSize) {
+        return new PageIterator<>((pageNo, size) -> pageOf(getWorkerGroupPage(searchVal, pageNo, size)), pageSize, lookupExecutor);
+    }
+
+    /**
+     * 分页查询工作流实例，按开始时间倒序
+     * @param projectCode 项目编码
+     * @param definitionCode 工作流定义编码
+     * @param startDate 开始时间不早于该时间，yyyy-MM-dd HH:mm:ss，为空时不限制
+     * @param page
+     * @param pageSize
+     * @return
+     */
+    public DsResult<PageInfo<ProcessInstance>> getProcessInstancePage(@NonNull String projectCode,
+                                                                      @NonNull String definitionCode,
+                                                                      String startDate,
+                                                                      int page,
+                                                                      int pageSize) {
+        final String start = Optional.ofNullable(StringUtils.trimToNull(startDate)).orElse("");
+        final int pageNo = Math.max(1, page);
+        final int size = pageSize <= 0 ? 10 : pageSize;
+        return sessionManager.execute(token -> dsRemoteApiService.queryProcessInstancePage(token, projectCode,
+                definitionCode, start, pageNo, size));
+    }
+
+    /**
+     * 逐页遍历环境，消费当前页时预取下一页
+     * @param searchVal 搜索条件
+     * @param pageSize 每页大小
+     * @return
+     */
+    public PageIterator<Environment> iterateEnvs(String searchVal, int pageSize) {
+        return new PageIterator<>((pageNo, size) -> pageOf(getEnvironmentPage(searchVal, pageNo, size)), pageSize, lookupExecutor);
+    }
+
+    /**
+     * 全部 worker group，读穿缓存，在 TTL 内不再请求服务端
+     * @return
+     */
+    public List<WorkerGroup> listWorkerGroupsCached() {
+        return lookupCache.get(LOOKUP_WORKER_GROUPS,
+                () -> iterateWorkerGroups(null, lookupPageSize).stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * 全部环境，读穿缓存，在 TTL 内不再请求服务端
+     * @return
+     */
+    public List<Environment> listEnvsCached() {
+        return lookupCache.get(LOOKUP_ENVIRONMENTS,
+                () -> iterateEnvs(null, lookupPageSize).stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * 校验 worker group 是否存在，使用缓存
+     * @param workerGroup worker group 名称
+     * @return
+     */
+    public boolean isValidWorkerGroup(String workerGroup) {
+        if (StringUtils.isBlank(workerGroup)) {
+            return false;
+        }
+        return listWorkerGroupsCached().stream().anyMatch(group -> workerGroup.equals(group.getName()));
+    }
+
+    /**
+     * 校验环境是否存在，使用缓存
+     * @param environmentCode 环境编码
+     * @return
+     */
+    public boolean isValidEnvironment(String environmentCode) {
+        if (StringUtils.isBlank(environmentCode)) {
+            return false;
+        }
+        return listEnvsCached().stream().anyMatch(env -> null != env.getCode() && environmentCode.equals(String.valueOf(env.getCode())));
+    }
+
+    /**
+     * worker group 或环境有变更时清除缓存
+     */
+    public void invalidateLookups() {
+        lookupCache.invalidateAll();
+        if (null != responseCache) {
+            responseCache.invalidateAll();
+        }
+    }
+
+    private static <T> List<T> pageOf(DsResult<PageInfo<T>> result) {
+        if (null == result || null == result.getData()) {
+            return Collections.emptyList();
+        }
+        return result.getData().getTotalList();
+    }
+
+    /**
+     * 上传资源文件，文件内容以流的方式发送，不在内存中缓存
+     * @param type 资源类型 FILE,UDF
+     * @param file 文件
+     * @param name 资源名称，为空时使用文件名
+     * @param description 描述
+     * @param pid 父目录 ID，根目录为 -1
+     * @param currentDir 当前目录，如：/
+     * @return
+     */
+    public Result uploadResource(String type,
+                                 @NonNull File file,
+                                 String name,
+                                 String description,
+                                 int pid,
+                                 String currentDir) {
+        final String resourceType = Optional.ofNullable(StringUtils.trimToNull(type)).orElse("FILE");
+        final String resourceName = Optional.ofNullable(StringUtils.trimToNull(name)).orElse(file.getName());
+        final String desc = Optional.ofNullable(StringUtils.trimToNull(description)).orElse("");
+        final String dir = Optional.ofNullable(StringUtils.trimToNull(currentDir)).orElse("/");
+        if (null == resourceUploadCache) {
+            return sessionManager.execute(token -> dsRemoteApiService.createResource(token, resourceType, resourceName, desc, pid, dir, file));
+        }
+        // 内容相同的资源已经上传过，跳过传输
+        String cacheKey;
+        try {
+            cacheKey = resourceUploadCache.key(file, resourceType, dir, resourceName);
+        } catch (IOException e) {
+            throw new RuntimeException("read resource file failed: " + file, e);
+        }
+        String resourceId = resourceUploadCache.get(cacheKey);
+        if (null != resourceId) {
+            LOGGER.info("resource {}{} unchanged, skip upload.", dir, resourceName);
+            Result cached = new Result();
+            cached.setCode(0);
+            cached.setSuccess(true);
+            cached.setFailed(false);
+            cached.setMsg("resource already uploaded");
+            Map<String, Object> data = new HashMap<>(4);
+            data.put("id", resourceId);
+            data.put("cached", true);
+            cached.setData(data);
+            return cached;
+        }
+        Result result = sessionManager.execute(token -> dsRemoteApiService.createResource(token, resourceType, resourceName, desc, pid, dir, file));
+        if (null != result && null != result.getCode() && result.getCode() == 0) {
+            Object id = null == result.getData() ? null : result.getData().get("id");
+            resourceUploadCache.put(cacheKey, null == id ? null : String.valueOf(id));
+        }
+        return result;
+    }
+
+    /**
+     * 上传资源文件
+     * @see #uploadResource(String, File, String, String, int, String)
+     */
+    public Result uploadResource(String type,
+                                 @NonNull MultipartFile file,
+                                 String name,
+                                 String description,
+                                 int pid,
+                                 String currentDir) {
+        final String resourceType = Optional.ofNullable(StringUtils.trimToNull(type)).orElse("FILE");
+        final String resourceName = Optional.ofNullable(StringUtils.trimToNull(name)).orElse(file.getOriginalFilename());
+        final String desc = Optional.ofNullable(StringUtils.trimToNull(description)).orElse("");
+        final String dir = Optional.ofNullable(StringUtils.trimToNull(currentDir)).orElse("/");
+        return sessionManager.execute(token -> dsRemoteApiService.createResource(token, resourceType, resourceName, desc, pid, dir, file));
+    }
+
+    /**
+     * 分片并行上传大文件。
+     * <p>
+     * DolphinScheduler 的资源接口不支持服务端合并分片，因此每个分片作为独立资源 name.part-00000 上传，
+     * 全部成功后再上传清单 name.parts（每行：分片名、偏移、长度、MD5），由任务侧按清单顺序拼接。
+     * 文件不超过一个分片时直接按普通资源上传。失败的分片在下次以相同参数调用时续传。
+     *
+     * @param type 资源类型 FILE,UDF
+     * @param file 文件
+     * @param name 资源名称，为空时使用文件名
+     * @param description 描述
+     * @param pid 父目录 ID，根目录为 -1
+     * @param currentDir 当前目录，如：/
+     * @return
+     */
+    public ChunkedUploadResult uploadResourceInParts(String type,
+                                                     @NonNull File file,
+                                                     String name,
+                                                     String description,
+                                                     int pid,
+                                                     String currentDir) {
+        final String resourceType = Optional.ofNullable(StringUtils.trimToNull(type)).orElse("FILE");
+        final String resourceName = Optional.ofNullable(StringUtils.trimToNull(name)).orElse(file.getName());
+        final String desc = Optional.ofNullable(StringUtils.trimToNull(description)).orElse("");
+        final String dir = Optional.ofNullable(StringUtils.trimToNull(currentDir)).orElse("/");
+        final List<FilePart> parts = chunkedUploader.split(file, resourceName);
+        if (parts.size() == 1) {
+            return chunkedUploader.upload(file, resourceName, parts, part -> sessionManager.execute(token -> dsRemoteApiService.createResource(token,
+                    resourceType, resourceName, desc, pid, dir, part)));
+        }
+        ChunkedUploadResult result = chunkedUploader.upload(file, resourceName, parts, part -> sessionManager.execute(
+                token -> dsRemoteApiService.createResource(token, resourceType, part.getName(), desc, pid, dir, part)));
+        if (!result.isSuccess()) {
+            return result;
+        }
+        // 上传分片清单
+        File manifest = null;
+        try {
+            manifest = File.createTempFile("ds-upload-", ".parts");
+            StringBuilder lines = new StringBuilder();
+            for (ChunkedUploadResult.PartResult partResult : result.getParts()) {
+                FilePart part = partResult.getPart();
+                lines.append(part.getName()).append('\t').append(part.getOffset()).append('\t')
+                        .append(part.getLength()).append('\t').append(partResult.getChecksum()).append('\n');
+            }
+            Files.write(manifest.toPath(), lines.toString().getBytes(StandardCharsets.UTF_8));
+            final File manifestFile = manifest;
+            Result manifestResult = sessionManager.execute(token -> dsRemoteApiService.createResource(token, resourceType,
+                    resourceName + ".parts", desc, pid, dir, manifestFile));
+            if (manifestResult == null || manifestResult.getCode() == null || manifestResult.getCode() != 0) {
+                throw new RuntimeException("upload part manifest failed: " + (manifestResult == null ? "no response" : manifestResult.getMsg()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("upload part manifest failed: " + resourceName, e);
+        } finally {
+            if (manifest != null && !manifest.delete()) {
+                manifest.deleteOnExit();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return 已上传资源的内容缓存，未开启 upload.dedup 时为 null
+     */
+    public ResourceUploadCache getResourceUploadCache() {
+        return resourceUploadCache;
+    }
+
+    /**
+     * 注册集群变化监听，所有监听共用一个后台轮询
+     * @param listener 只在节点上线、下线或负载变化时回调
+     */
+    public void addClusterListener(ClusterChangeListener listener) {
+        clusterStatePoller.addListener(listener);
+    }
+
+    public void removeClusterListener(ClusterChangeListener listener) {
+        clusterStatePoller.removeListener(listener);
+    }
+
+    /**
+     * @return 最近一次轮询的集群状态，还没有轮询过时同步拉取一次
+     */
+    public ClusterSnapshot getClusterSnapshot() {
+        return clusterStatePoller.getSnapshot();
+    }
+
+    /**
+     * @return GET 条件请求缓存，未开启时为 null
+     */
+    public ConditionalResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * @return API 服务熔断器，可注册状态监听或读取指标，未开启时为 null
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
     }
 
     public void shutDown() throws Exception {
@@ -380,8 +1775,44 @@ public class DsClient implements AutoCloseable{
 
     @Override
     public void close() throws Exception {
+        synchronized (initLock) {
+            closed = true;
+            if (null != recoveryRetry) {
+                recoveryRetry.shutdownNow();
+            }
+        }
+        if (null != outboundQueue) {
+            outboundQueue.close();
+        }
+        fairShareScheduler.close();
+        clusterStatePoller.close();
+        pollingStateTracker.close();
+        sessionManager.close();
+        lookupExecutor.shutdownNow();
+        asyncApiService.close();
+        if (null != subscriptionJournal) {
+            subscriptionJournal.close();
+        }
         if (null != client){
             client.close();
         }
     }
+
+    /**
+     * 跟踪提交的结果，与提交时间、已有实例一起按幂等键保存，重试时继续跟踪第一次提交的实例
+     */
+    private static final class SubmittedTask {
+
+        private final DsResult<SubmitResponse> result;
+
+        private final long submitTime;
+
+        private final int baselineInstanceId;
+
+        private SubmittedTask(DsResult<SubmitResponse> result, long submitTime, int baselineInstanceId) {
+            this.result = result;
+            this.submitTime = submitTime;
+            this.baselineInstanceId = baselineInstanceId;
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.apache.dolphinscheduler.sdk;
+
+/**
+ * DsClient 的初始化方式
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public enum InitMode {
+
+    /**
+     * 构造时登录并创建 master 通信客户端，API 服务不可用时构造失败
+     */
+    EAGER,
+
+    /**
+     * 第一次使用时登录、创建 master 通信客户端，重启前的订阅在第一次连接 master 时恢复
+     */
+    LAZY,
+
+    /**
+     * 构造后立即在后台登录、创建 master 通信客户端，失败时在第一次使用时重试
+     */
+    ASYNC
+}
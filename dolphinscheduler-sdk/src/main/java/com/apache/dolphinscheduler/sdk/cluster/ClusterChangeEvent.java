@@ -0,0 +1,73 @@
+package com.apache.dolphinscheduler.sdk.cluster;
+
+/**
+ * 集群节点变化
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class ClusterChangeEvent {
+
+    public enum Type {
+
+        /**
+         * 节点上线
+         */
+        NODE_JOINED,
+
+        /**
+         * 节点下线
+         */
+        NODE_LEFT,
+
+        /**
+         * 节点负载或状态变化
+         */
+        LOAD_CHANGED
+    }
+
+    private final Type type;
+
+    /**
+     * 变化前的状态，上线时为 null
+     */
+    private final ClusterNode previous;
+
+    /**
+     * 变化后的状态，下线时为 null
+     */
+    private final ClusterNode current;
+
+    ClusterChangeEvent(Type type, ClusterNode previous, ClusterNode current) {
+        this.type = type;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public ClusterNode getPrevious() {
+        return previous;
+    }
+
+    public ClusterNode getCurrent() {
+        return current;
+    }
+
+    /**
+     * @return 变化的节点
+     */
+    public ClusterNode getNode() {
+        return null == current ? previous : current;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterChangeEvent{" +
+                "type=" + type +
+                ", node=" + getNode().getType() + " " + getNode().getAddress() +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package com.apache.dolphinscheduler.sdk.cluster;
+
+import java.util.List;
+
+/**
+ * 集群变化监听，{@link #onChange} 只在有变化时回调
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public interface ClusterChangeListener {
+
+    /**
+     * 集群变化
+     * @param events 本次轮询相对上一次的变化，不为空
+     * @param snapshot 本次轮询的集群状态
+     */
+    void onChange(List<ClusterChangeEvent> events, ClusterSnapshot snapshot);
+
+    /**
+     * 每次后台轮询后回调，无论是否有变化
+     * @param snapshot 最近一次成功拉取的集群状态，本次拉取失败时为上一次的结果，还没有时为 null
+     */
+    default void onPoll(ClusterSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.apache.dolphinscheduler.sdk.cluster;
+
+import com.apache.dolphinscheduler.sdk.remote.model.HeartBeat;
+import com.apache.dolphinscheduler.sdk.remote.model.MasterServer;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerServer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 某一时刻的集群节点状态，不可变
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class ClusterNode {
+
+    private final NodeType type;
+
+    private final String address;
+
+    /**
+     * 所属 worker group，master 为空
+     */
+    private final List<String> workerGroups;
+
+    /**
+     * 心跳信息，可能为 null
+     */
+    private final HeartBeat heartBeat;
+
+    private final Date lastHeartbeatTime;
+
+    public ClusterNode(NodeType type, String address, List<String> workerGroups, HeartBeat heartBeat, Date lastHeartbeatTime) {
+        this.type = type;
+        this.address = address;
+        this.workerGroups = Collections.unmodifiableList(new ArrayList<>(workerGroups));
+        this.heartBeat = heartBeat;
+        this.lastHeartbeatTime = lastHeartbeatTime;
+    }
+
+    static ClusterNode of(MasterServer master) {
+        return new ClusterNode(NodeType.MASTER, master.getAddress(), Collections.emptyList(),
+                master.getHeartBeat(), master.getLastHeartbeatTime());
+    }
+
+    static ClusterNode of(WorkerServer worker) {
+        return new ClusterNode(NodeType.WORKER, worker.getAddress(), workerGroupsOf(worker.getZkDirectories()),
+                worker.getHeartBeatInfo(), worker.getLastHeartbeatTime());
+    }
+
+    /**
+     * 注册路径形如 /nodes/worker/{group}/{host:port}，倒数第二段为 worker group
+     */
+    static List<String> workerGroupsOf(List<String> zkDirectories) {
+        if (null == zkDirectories || zkDirectories.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> groups = new ArrayList<>(zkDirectories.size());
+        for (String directory : zkDirectories) {
+            if (null == directory) {
+                continue;
+            }
+            int end = directory.lastIndexOf('/');
+            if (end <= 0) {
+                continue;
+            }
+            int start = directory.lastIndexOf('/', end - 1);
+            String group = directory.substring(start + 1, end).trim();
+            if (!group.isEmpty() && !groups.contains(group)) {
+                groups.add(group);
+            }
+        }
+        return groups;
+    }
+
+    public NodeType getType() {
+        return type;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public List<String> getWorkerGroups() {
+        return workerGroups;
+    }
+
+    public HeartBeat getHeartBeat() {
+        return heartBeat;
+    }
+
+    public Date getLastHeartbeatTime() {
+        return lastHeartbeatTime;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterNode{" +
+                "type=" + type +
+                ", address='" + address + '\'' +
+                ", workerGroups=" + workerGroups +
+                ", heartBeat=" + heartBeat +
+                '}';
+    }
+}
@@ -0,0 +1,65 @@
+package com.apache.dolphinscheduler.sdk.cluster;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 某一次轮询得到的集群状态，不可变
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class ClusterSnapshot {
+
+    static final ClusterSnapshot EMPTY = new ClusterSnapshot(Collections.emptyMap(), Collections.emptyMap(), 0L);
+
+    private final Map<String, ClusterNode> masters;
+
+    private final Map<String, ClusterNode> workers;
+
+    /**
+     * 轮询时间
+     */
+    private final long timestamp;
+
+    ClusterSnapshot(Map<String, ClusterNode> masters, Map<String, ClusterNode> workers, long timestamp) {
+        this.masters = Collections.unmodifiableMap(new LinkedHashMap<>(masters));
+        this.workers = Collections.unmodifiableMap(new LinkedHashMap<>(workers));
+        this.timestamp = timestamp;
+    }
+
+    public Collection<ClusterNode> getMasters() {
+        return masters.values();
+    }
+
+    public Collection<ClusterNode> getWorkers() {
+        return workers.values();
+    }
+
+    public ClusterNode getMaster(String address) {
+        return masters.get(address);
+    }
+
+    public ClusterNode getWorker(String address) {
+        return workers.get(address);
+    }
+
+    Map<String, ClusterNode> nodes(NodeType type) {
+        return type == NodeType.MASTER ? masters : workers;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterSnapshot{" +
+                "masters=" + masters.keySet() +
+                ", workers=" + workers.keySet() +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,272 @@
+package com.apache.dolphinscheduler.sdk.cluster;
+
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.HeartBeat;
+import com.apache.dolphinscheduler.sdk.remote.model.MasterServer;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerServer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 共享的集群状态轮询。
+ * <p>
+ * 注册第一个监听时在后台按固定间隔拉取 master 与 worker，与上一次的结果比较后只把变化（上线、下线、负载变化）
+ * 推送给监听，一个 JVM 内所有使用方共用一次轮询。后注册的监听会先收到当前所有节点的上线事件作为基线。
+ * 拉取失败时保留上一次的结果，不会误报节点下线。每次后台轮询后（包括失败）都会回调监听的
+ * {@link ClusterChangeListener#onPoll}，用于需要定期重新检查状态的使用方。
+ * 最后一个监听移除后停止轮询；通过 {@link #start()} 开始的轮询（如自动选择 worker group）持续到 {@link #close()}。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class ClusterStatePoller implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterStatePoller.class);
+
+    private final Supplier<DsResult<List<MasterServer>>> masters;
+
+    private final Supplier<DsResult<List<WorkerServer>>> workers;
+
+    private final long intervalMillis;
+
+    /**
+     * cpu、内存使用率变化超过该值时视为负载变化
+     */
+    private final double loadChangeThreshold;
+
+    private final List<ClusterChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile ClusterSnapshot snapshot;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * 是否由 start() 开始，此时移除所有监听后不停止轮询
+     */
+    private boolean pinned;
+
+    public ClusterStatePoller(Supplier<DsResult<List<MasterServer>>> masters,
+                              Supplier<DsResult<List<WorkerServer>>> workers,
+                              long intervalMillis,
+                              double loadChangeThreshold) {
+        this.masters = masters;
+        this.workers = workers;
+        this.intervalMillis = Math.max(1000L, intervalMillis);
+        this.loadChangeThreshold = loadChangeThreshold;
+    }
+
+    /**
+     * 注册监听，第一个监听注册时开始轮询
+     */
+    public void addListener(ClusterChangeListener listener) {
+        // 与 poll 持有同一把锁，保证基线与后续变化的顺序
+        synchronized (this) {
+            listeners.add(listener);
+            ClusterSnapshot current = snapshot;
+            if (null != current) {
+                List<ClusterChangeEvent> events = diff(ClusterSnapshot.EMPTY, current);
+                if (!events.isEmpty()) {
+                    notify(listener, events, current);
+                }
+            }
+            startPolling();
+        }
+    }
+
+    /**
+     * 移除监听，最后一个监听移除时停止轮询
+     */
+    public synchronized void removeListener(ClusterChangeListener listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty() && !pinned) {
+            stopPolling();
+        }
+    }
+
+    /**
+     * @return 最近一次轮询的结果，还没有轮询过时同步拉取一次
+     */
+    public ClusterSnapshot getSnapshot() {
+        ClusterSnapshot current = snapshot;
+        if (null == current) {
+            current = poll();
+        }
+        return current;
+    }
+
+    /**
+     * @return 最近一次轮询的结果，没有时为 null，不会发起请求
+     */
+    public ClusterSnapshot latest() {
+        return snapshot;
+    }
+
+    /**
+     * @return 后台轮询中且未超过一个轮询间隔的结果，否则为 null，不会发起请求
+     */
+    public ClusterSnapshot recent() {
+        ClusterSnapshot current = snapshot;
+        if (null == scheduler || null == current || System.currentTimeMillis() - current.getTimestamp() >= intervalMillis) {
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * @return 是否在后台轮询
+     */
+    public boolean isPolling() {
+        return null != scheduler;
+    }
+
+    /**
+     * 立即拉取一次，有变化时通知监听
+     * @return 最新的集群状态
+     */
+    public synchronized ClusterSnapshot poll() {
+        ClusterSnapshot previous = null == snapshot ? ClusterSnapshot.EMPTY : snapshot;
+        ClusterSnapshot current = fetch();
+        snapshot = current;
+        List<ClusterChangeEvent> events = diff(previous, current);
+        if (!events.isEmpty()) {
+            LOGGER.info("cluster changed: {}", events);
+            for (ClusterChangeListener listener : listeners) {
+                notify(listener, events, current);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 开始后台轮询并持续到 close，已开始时不做任何事
+     */
+    public synchronized void start() {
+        pinned = true;
+        startPolling();
+    }
+
+    private synchronized void startPolling() {
+        if (null == scheduler) {
+            ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("ds-cluster-poller").setDaemon(true).build());
+            executor.scheduleWithFixedDelay(this::pollQuietly, 0, intervalMillis, TimeUnit.MILLISECONDS);
+            scheduler = executor;
+        }
+    }
+
+    private synchronized void stopPolling() {
+        if (null != scheduler) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (Exception e) {
+            LOGGER.warn("poll dolphinScheduler cluster state failed, keep the previous snapshot: {}", e.getMessage());
+        }
+        ClusterSnapshot current = snapshot;
+        for (ClusterChangeListener listener : listeners) {
+            try {
+                listener.onPoll(current);
+            } catch (Exception e) {
+                LOGGER.error("cluster poll listener {} failed", listener, e);
+            }
+        }
+    }
+
+    private ClusterSnapshot fetch() {
+        DsResult<List<MasterServer>> masterResult = masters.get();
+        DsResult<List<WorkerServer>> workerResult = workers.get();
+        if (null == masterResult || !masterResult.isOk() || null == workerResult || !workerResult.isOk()) {
+            throw new IllegalStateException("query masters/workers failed: "
+                    + (null == masterResult ? "no response" : masterResult.getMsg()) + ", "
+                    + (null == workerResult ? "no response" : workerResult.getMsg()));
+        }
+        Map<String, ClusterNode> masterNodes = new LinkedHashMap<>();
+        for (MasterServer master : listOf(masterResult.getData())) {
+            if (StringUtils.isNotBlank(master.getAddress())) {
+                masterNodes.put(master.getAddress(), ClusterNode.of(master));
+            }
+        }
+        Map<String, ClusterNode> workerNodes = new LinkedHashMap<>();
+        for (WorkerServer worker : listOf(workerResult.getData())) {
+            if (StringUtils.isNotBlank(worker.getHost())) {
+                workerNodes.put(worker.getAddress(), ClusterNode.of(worker));
+            }
+        }
+        return new ClusterSnapshot(masterNodes, workerNodes, System.currentTimeMillis());
+    }
+
+    private static <T> List<T> listOf(List<T> list) {
+        return null == list ? Collections.emptyList() : list;
+    }
+
+    List<ClusterChangeEvent> diff(ClusterSnapshot previous, ClusterSnapshot current) {
+        List<ClusterChangeEvent> events = new ArrayList<>();
+        for (NodeType type : NodeType.values()) {
+            Map<String, ClusterNode> before = previous.nodes(type);
+            Map<String, ClusterNode> after = current.nodes(type);
+            for (Map.Entry<String, ClusterNode> entry : after.entrySet()) {
+                ClusterNode old = before.get(entry.getKey());
+                if (null == old) {
+                    events.add(new ClusterChangeEvent(ClusterChangeEvent.Type.NODE_JOINED, null, entry.getValue()));
+                } else if (loadChanged(old, entry.getValue())) {
+                    events.add(new ClusterChangeEvent(ClusterChangeEvent.Type.LOAD_CHANGED, old, entry.getValue()));
+                }
+            }
+            for (Map.Entry<String, ClusterNode> entry : before.entrySet()) {
+                if (!after.containsKey(entry.getKey())) {
+                    events.add(new ClusterChangeEvent(ClusterChangeEvent.Type.NODE_LEFT, entry.getValue(), null));
+                }
+            }
+        }
+        return events;
+    }
+
+    private boolean loadChanged(ClusterNode previous, ClusterNode current) {
+        if (!previous.getWorkerGroups().equals(current.getWorkerGroups())) {
+            return true;
+        }
+        HeartBeat before = previous.getHeartBeat();
+        HeartBeat after = current.getHeartBeat();
+        if (null == before || null == after) {
+            return before != after;
+        }
+        return before.getServerStatus() != after.getServerStatus()
+                || before.getWorkerWaitingTaskCount() != after.getWorkerWaitingTaskCount()
+                || before.getWorkerExecThreadCount() != after.getWorkerExecThreadCount()
+                || Math.abs(before.getCpuUsage() - after.getCpuUsage()) >= loadChangeThreshold
+                || Math.abs(before.getMemoryUsage() - after.getMemoryUsage()) >= loadChangeThreshold;
+    }
+
+    private static void notify(ClusterChangeListener listener, List<ClusterChangeEvent> events, ClusterSnapshot snapshot) {
+        try {
+            listener.onChange(Collections.unmodifiableList(events), snapshot);
+        } catch (Exception e) {
+            LOGGER.error("cluster change listener {} failed", listener, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        stopPolling();
+        pinned = false;
+        listeners.clear();
+    }
+}
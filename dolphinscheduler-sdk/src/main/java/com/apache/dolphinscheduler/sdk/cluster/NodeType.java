@@ -0,0 +1,14 @@
+package com.apache.dolphinscheduler.sdk.cluster;
+
+/**
+ * 集群节点类型
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public enum NodeType {
+
+    MASTER,
+
+    WORKER
+}
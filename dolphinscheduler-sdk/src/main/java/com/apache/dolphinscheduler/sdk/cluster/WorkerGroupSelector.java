@@ -0,0 +1,143 @@
+package com.apache.dolphinscheduler.sdk.cluster;
+
+import com.apache.dolphinscheduler.sdk.remote.model.HeartBeat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 按 worker 负载选择 worker group。
+ * <p>
+ * 使用 {@link ClusterStatePoller} 缓存的集群状态，为每个候选 group 计算其可用 worker 的平均负载
+ * （CPU、内存、系统负载与排队任务数加权），选择负载最低的 group。上报为繁忙的 worker 不参与计算。
+ * 同一份集群状态内每分配一次都会给该 group 增加少量惩罚，使突发的批量提交分散到多个 group，
+ * 拿到新的集群状态后惩罚清零。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class WorkerGroupSelector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkerGroupSelector.class);
+
+    /**
+     * 心跳中 worker 正常的状态值
+     */
+    private static final int SERVER_STATUS_NORMAL = 0;
+
+    private final ClusterStatePoller poller;
+
+    private final double cpuWeight;
+
+    private final double memoryWeight;
+
+    private final double loadWeight;
+
+    private final double queueWeight;
+
+    /**
+     * 每次分配给 group 增加的负载，按 group 内 worker 数平摊
+     */
+    private final double assignmentPenalty;
+
+    /**
+     * 当前集群状态内各 group 已分配的次数
+     */
+    private final Map<String, AtomicInteger> assigned = new ConcurrentHashMap<>();
+
+    private volatile long assignedSnapshotTime = -1L;
+
+    public WorkerGroupSelector(ClusterStatePoller poller,
+                               double cpuWeight,
+                               double memoryWeight,
+                               double loadWeight,
+                               double queueWeight,
+                               double assignmentPenalty) {
+        this.poller = poller;
+        this.cpuWeight = cpuWeight;
+        this.memoryWeight = memoryWeight;
+        this.loadWeight = loadWeight;
+        this.queueWeight = queueWeight;
+        this.assignmentPenalty = assignmentPenalty;
+    }
+
+    /**
+     * 选择负载最低的 worker group
+     * @param candidates 候选 group，为空时可选择集群中任意 group
+     * @param fallback 没有可用 worker 时使用的 group
+     * @return
+     */
+    public String select(Collection<String> candidates, String fallback) {
+        // 使用时保持集群状态的刷新
+        poller.start();
+        ClusterSnapshot snapshot;
+        try {
+            snapshot = poller.getSnapshot();
+        } catch (RuntimeException e) {
+            LOGGER.warn("query cluster state failed, use {}: {}", fallback, e.getMessage());
+            return fallback;
+        }
+        if (snapshot.getTimestamp() != assignedSnapshotTime) {
+            synchronized (this) {
+                if (snapshot.getTimestamp() != assignedSnapshotTime) {
+                    assigned.clear();
+                    assignedSnapshotTime = snapshot.getTimestamp();
+                }
+            }
+        }
+
+        Map<String, double[]> groups = new HashMap<>();
+        for (ClusterNode worker : snapshot.getWorkers()) {
+            HeartBeat heartBeat = worker.getHeartBeat();
+            if (null == heartBeat || heartBeat.getServerStatus() != SERVER_STATUS_NORMAL) {
+                continue;
+            }
+            double score = score(heartBeat);
+            for (String group : worker.getWorkerGroups()) {
+                if (null != candidates && !candidates.isEmpty() && !candidates.contains(group)) {
+                    continue;
+                }
+                // [负载和, worker 数]
+                double[] sum = groups.computeIfAbsent(group, k -> new double[2]);
+                sum[0] += score;
+                sum[1] += 1;
+            }
+        }
+
+        String best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (Map.Entry<String, double[]> entry : groups.entrySet()) {
+            double[] sum = entry.getValue();
+            AtomicInteger count = assigned.get(entry.getKey());
+            double penalty = null == count ? 0D : count.get() * assignmentPenalty / sum[1];
+            double score = sum[0] / sum[1] + penalty;
+            if (score < bestScore) {
+                bestScore = score;
+                best = entry.getKey();
+            }
+        }
+        if (null == best) {
+            LOGGER.warn("no available worker in groups {}, use {}", candidates, fallback);
+            return fallback;
+        }
+        assigned.computeIfAbsent(best, k -> new AtomicInteger()).incrementAndGet();
+        return best;
+    }
+
+    /**
+     * worker 的负载得分，越低越空闲
+     */
+    double score(HeartBeat heartBeat) {
+        double loadRatio = heartBeat.getMaxCpuloadAvg() > 0 ? heartBeat.getLoadAverage() / heartBeat.getMaxCpuloadAvg() : 0D;
+        double queueRatio = (double) heartBeat.getWorkerWaitingTaskCount() / Math.max(1, heartBeat.getWorkerExecThreadCount());
+        return cpuWeight * heartBeat.getCpuUsage()
+                + memoryWeight * heartBeat.getMemoryUsage()
+                + loadWeight * loadRatio
+                + queueWeight * queueRatio;
+    }
+}
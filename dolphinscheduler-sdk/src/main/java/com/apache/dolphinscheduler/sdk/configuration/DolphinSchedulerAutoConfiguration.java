@@ -1,6 +1,9 @@
 package com.apache.dolphinscheduler.sdk.configuration;
 
 import com.apache.dolphinscheduler.sdk.DsClient;
+import com.apache.dolphinscheduler.sdk.InitMode;
+import com.apache.dolphinscheduler.sdk.tracking.RecoveredSubscriptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -26,7 +29,14 @@ public class DolphinSchedulerAutoConfiguration {
 
     @Bean(destroyMethod = "shutDown")
     @ConditionalOnMissingBean
-    public DsClient dsClient(){
-        return new DsClient(dolphinSchedulerProperties);
+    public DsClient dsClient(ObjectProvider<RecoveredSubscriptionHandler> recoveredSubscriptionHandler){
+        DsClient dsClient = new DsClient(dolphinSchedulerProperties);
+        // 存在恢复处理器时恢复重启前未结束的订阅：EAGER 在启动时恢复，LAZY 与 ASYNC 在第一次连接 master 时恢复
+        if (dsClient.getInitMode() == InitMode.EAGER) {
+            recoveredSubscriptionHandler.ifAvailable(dsClient::recoverSubscriptions);
+        } else {
+            recoveredSubscriptionHandler.ifAvailable(dsClient::recoverSubscriptionsOnConnect);
+        }
+        return dsClient;
     }
 }
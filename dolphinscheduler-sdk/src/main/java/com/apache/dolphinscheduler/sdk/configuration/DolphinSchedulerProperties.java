@@ -1,9 +1,15 @@
 package com.apache.dolphinscheduler.sdk.configuration;
 
+import com.apache.dolphinscheduler.sdk.InitMode;
+import com.apache.dolphinscheduler.sdk.remote.TransportMode;
+import com.apache.dolphinscheduler.sdk.tracking.TrackingMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author ysear
  * @date 2022/12/30
@@ -19,6 +25,101 @@ public class DolphinSchedulerProperties {
 
     private String token;
 
+    /**
+     * 资源上传配置
+     */
+    private Upload upload = new Upload();
+
+    /**
+     * 登录会话配置
+     */
+    private Session session = new Session();
+
+    /**
+     * 接口重试配置
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * 接口熔断配置
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * 幂等提交配置
+     */
+    private Idempotency idempotency = new Idempotency();
+
+    /**
+     * worker group、环境等查询缓存配置
+     */
+    private Lookup lookup = new Lookup();
+
+    /**
+     * 工作流提交配置
+     */
+    private Submit submit = new Submit();
+
+    /**
+     * HTTP 传输配置
+     */
+    private Transport transport = new Transport();
+
+    /**
+     * HTTP 压缩与条件请求配置
+     */
+    private Http http = new Http();
+
+    /**
+     * 集群状态轮询配置
+     */
+    private Cluster cluster = new Cluster();
+
+    /**
+     * worker group 自动选择配置
+     */
+    private Placement placement = new Placement();
+
+    /**
+     * ID 生成配置
+     */
+    private Id id = new Id();
+
+    /**
+     * 订阅日志配置
+     */
+    private Journal journal = new Journal();
+
+    /**
+     * 实例状态跟踪配置
+     */
+    private Tracking tracking = new Tracking();
+
+    /**
+     * 补数节流配置
+     */
+    private Backfill backfill = new Backfill();
+
+    /**
+     * 出站提交队列配置
+     */
+    private Outbound outbound = new Outbound();
+
+    /**
+     * 多租户公平调度配置
+     */
+    private FairShare fairShare = new FairShare();
+
+    /**
+     * master 通信配置
+     */
+    private Rpc rpc = new Rpc();
+
+    /**
+     * 启动配置
+     */
+    private Startup startup = new Startup();
+
 
     public String getUrl() {
         return url;
@@ -52,6 +153,158 @@ public class DolphinSchedulerProperties {
         this.token = token;
     }
 
+    public Upload getUpload() {
+        return upload;
+    }
+
+    public void setUpload(Upload upload) {
+        this.upload = upload;
+    }
+
+    public Session getSession() {
+        return session;
+    }
+
+    public void setSession(Session session) {
+        this.session = session;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+
+    public void setIdempotency(Idempotency idempotency) {
+        this.idempotency = idempotency;
+    }
+
+    public Lookup getLookup() {
+        return lookup;
+    }
+
+    public void setLookup(Lookup lookup) {
+        this.lookup = lookup;
+    }
+
+    public Submit getSubmit() {
+        return submit;
+    }
+
+    public void setSubmit(Submit submit) {
+        this.submit = submit;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public void setHttp(Http http) {
+        this.http = http;
+    }
+
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    public void setCluster(Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    public void setPlacement(Placement placement) {
+        this.placement = placement;
+    }
+
+    public Id getId() {
+        return id;
+    }
+
+    public void setId(Id id) {
+        this.id = id;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    public Tracking getTracking() {
+        return tracking;
+    }
+
+    public void setTracking(Tracking tracking) {
+        this.tracking = tracking;
+    }
+
+    public Backfill getBackfill() {
+        return backfill;
+    }
+
+    public void setBackfill(Backfill backfill) {
+        this.backfill = backfill;
+    }
+
+    public Outbound getOutbound() {
+        return outbound;
+    }
+
+    public void setOutbound(Outbound outbound) {
+        this.outbound = outbound;
+    }
+
+    public FairShare getFairShare() {
+        return fairShare;
+    }
+
+    public void setFairShare(FairShare fairShare) {
+        this.fairShare = fairShare;
+    }
+
+    public Rpc getRpc() {
+        return rpc;
+    }
+
+    public void setRpc(Rpc rpc) {
+        this.rpc = rpc;
+    }
+
+    public Startup getStartup() {
+        return startup;
+    }
+
+    public void setStartup(Startup startup) {
+        this.startup = startup;
+    }
+
     @Override
     public String toString() {
         return "DolphinSchedulerProperties{" +
@@ -61,4 +314,1116 @@ public class DolphinSchedulerProperties {
                 ", token='" + token + '\'' +
                 '}';
     }
+
+    /**
+     * 资源上传配置
+     */
+    public static class Upload {
+
+        /**
+         * 是否强制使用 chunked 传输，默认在长度已知时发送 Content-Length
+         */
+        private boolean chunked = false;
+
+        /**
+         * 分片上传时每个分片的大小，默认 64MB
+         */
+        private long partSize = 64L * 1024 * 1024;
+
+        /**
+         * 分片上传并发数
+         */
+        private int parallelism = 4;
+
+        /**
+         * 单个分片失败后的重试次数
+         */
+        private int maxRetries = 3;
+
+        /**
+         * 分片重试的基础等待时间，毫秒，按重试次数线性增加
+         */
+        private long retryBackoffMillis = 1000;
+
+        /**
+         * 断点记录的保存目录
+         */
+        private String stateDir = System.getProperty("java.io.tmpdir") + "/dolphinscheduler-upload";
+
+        /**
+         * 是否根据文件内容跳过已上传过的资源
+         */
+        private boolean dedup = false;
+
+        public boolean isChunked() {
+            return chunked;
+        }
+
+        public void setChunked(boolean chunked) {
+            this.chunked = chunked;
+        }
+
+        public long getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(long partSize) {
+            this.partSize = partSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public long getRetryBackoffMillis() {
+            return retryBackoffMillis;
+        }
+
+        public void setRetryBackoffMillis(long retryBackoffMillis) {
+            this.retryBackoffMillis = retryBackoffMillis;
+        }
+
+        public String getStateDir() {
+            return stateDir;
+        }
+
+        public void setStateDir(String stateDir) {
+            this.stateDir = stateDir;
+        }
+
+        public boolean isDedup() {
+            return dedup;
+        }
+
+        public void setDedup(boolean dedup) {
+            this.dedup = dedup;
+        }
+    }
+
+    /**
+     * 登录会话配置
+     */
+    public static class Session {
+
+        /**
+         * 会话有效期，秒，与服务端 session 超时时间保持一致
+         */
+        private long timeoutSeconds = 7200;
+
+        /**
+         * 在有效期的多少比例时提前刷新会话
+         */
+        private double refreshRatio = 0.8D;
+
+        public long getTimeoutSeconds() {
+            return timeoutSeconds;
+        }
+
+        public void setTimeoutSeconds(long timeoutSeconds) {
+            this.timeoutSeconds = timeoutSeconds;
+        }
+
+        public double getRefreshRatio() {
+            return refreshRatio;
+        }
+
+        public void setRefreshRatio(double refreshRatio) {
+            this.refreshRatio = refreshRatio;
+        }
+    }
+
+    /**
+     * 接口重试配置，默认只重试 GET 接口
+     */
+    public static class Retry {
+
+        /**
+         * 最大尝试次数，含第一次调用
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 第一次重试前的等待时间，毫秒
+         */
+        private long initialBackoffMillis = 200;
+
+        /**
+         * 最大等待时间，毫秒
+         */
+        private long maxBackoffMillis = 5000;
+
+        /**
+         * 每次重试等待时间的增长倍数
+         */
+        private double multiplier = 2.0D;
+
+        /**
+         * 按方法名覆盖最大尝试次数，如 submitTask: 1
+         */
+        private Map<String, Integer> methodMaxAttempts = new HashMap<>();
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public long getInitialBackoffMillis() {
+            return initialBackoffMillis;
+        }
+
+        public void setInitialBackoffMillis(long initialBackoffMillis) {
+            this.initialBackoffMillis = initialBackoffMillis;
+        }
+
+        public long getMaxBackoffMillis() {
+            return maxBackoffMillis;
+        }
+
+        public void setMaxBackoffMillis(long maxBackoffMillis) {
+            this.maxBackoffMillis = maxBackoffMillis;
+        }
+
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        public Map<String, Integer> getMethodMaxAttempts() {
+            return methodMaxAttempts;
+        }
+
+        public void setMethodMaxAttempts(Map<String, Integer> methodMaxAttempts) {
+            this.methodMaxAttempts = methodMaxAttempts;
+        }
+    }
+
+    /**
+     * 接口熔断配置
+     */
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+
+        /**
+         * 连续失败多少次后熔断
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * 熔断持续时间，毫秒，之后进入半开状态
+         */
+        private long openDurationMillis = 30000;
+
+        /**
+         * 半开状态下允许的试探调用数
+         */
+        private int halfOpenMaxCalls = 1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public long getOpenDurationMillis() {
+            return openDurationMillis;
+        }
+
+        public void setOpenDurationMillis(long openDurationMillis) {
+            this.openDurationMillis = openDurationMillis;
+        }
+
+        public int getHalfOpenMaxCalls() {
+            return halfOpenMaxCalls;
+        }
+
+        public void setHalfOpenMaxCalls(int halfOpenMaxCalls) {
+            this.halfOpenMaxCalls = halfOpenMaxCalls;
+        }
+    }
+
+    /**
+     * 幂等提交配置
+     */
+    public static class Idempotency {
+
+        /**
+         * 最多保留的提交键数量
+         */
+        private long maxKeys = 10000;
+
+        /**
+         * 提交键保留时间，秒
+         */
+        private long expireSeconds = 3600;
+
+        public long getMaxKeys() {
+            return maxKeys;
+        }
+
+        public void setMaxKeys(long maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+
+        public long getExpireSeconds() {
+            return expireSeconds;
+        }
+
+        public void setExpireSeconds(long expireSeconds) {
+            this.expireSeconds = expireSeconds;
+        }
+    }
+
+    /**
+     * worker group、环境等查询缓存配置
+     */
+    public static class Lookup {
+
+        /**
+         * 缓存有效期，秒
+         */
+        private long cacheTtlSeconds = 300;
+
+        /**
+         * 最多缓存的查询结果数
+         */
+        private long maxEntries = 64;
+
+        /**
+         * 全量查询时的每页大小
+         */
+        private int pageSize = 100;
+
+        public long getCacheTtlSeconds() {
+            return cacheTtlSeconds;
+        }
+
+        public void setCacheTtlSeconds(long cacheTtlSeconds) {
+            this.cacheTtlSeconds = cacheTtlSeconds;
+        }
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+    }
+
+    /**
+     * 工作流提交配置
+     */
+    public static class Submit {
+
+        /**
+         * startParams 序列化后的最大字节数，超过时拒绝提交，小于等于 0 时不限制
+         */
+        private long maxStartParamsBytes = 1024L * 1024;
+
+        /**
+         * 是否合并相同的并发提交：项目、工作流定义、scheduleTime 与 startParams 相同的提交进行中时，
+         * 后来的调用共享其实例与结果，各自按自己的超时时间等待，所有调用方都超时后停止跟踪该实例
+         */
+        private boolean singleFlight = false;
+
+        public long getMaxStartParamsBytes() {
+            return maxStartParamsBytes;
+        }
+
+        public void setMaxStartParamsBytes(long maxStartParamsBytes) {
+            this.maxStartParamsBytes = maxStartParamsBytes;
+        }
+
+        public boolean isSingleFlight() {
+            return singleFlight;
+        }
+
+        public void setSingleFlight(boolean singleFlight) {
+            this.singleFlight = singleFlight;
+        }
+    }
+
+    /**
+     * HTTP 传输配置
+     */
+    public static class Transport {
+
+        /**
+         * 异步 API 的传输方式：SYNC 在线程池中调用同步接口，ASYNC 使用非阻塞 HTTP 客户端
+         */
+        private TransportMode mode = TransportMode.SYNC;
+
+        /**
+         * SYNC 模式下异步 API 的线程数
+         */
+        private int executorThreads = 16;
+
+        /**
+         * ASYNC 模式下的 IO 线程数，小于等于 0 时为 CPU 核数
+         */
+        private int ioThreads = 0;
+
+        /**
+         * ASYNC 模式下的最大连接数
+         */
+        private int maxConnections = 200;
+
+        /**
+         * ASYNC 模式下每个地址的最大连接数
+         */
+        private int maxConnectionsPerRoute = 200;
+
+        /**
+         * 连接超时，毫秒
+         */
+        private int connectTimeoutMillis = 10000;
+
+        /**
+         * 读超时，毫秒
+         */
+        private int socketTimeoutMillis = 60000;
+
+        public boolean isAsync() {
+            return mode == TransportMode.ASYNC;
+        }
+
+        public TransportMode getMode() {
+            return mode;
+        }
+
+        public void setMode(TransportMode mode) {
+            this.mode = mode;
+        }
+
+        public int getExecutorThreads() {
+            return executorThreads;
+        }
+
+        public void setExecutorThreads(int executorThreads) {
+            this.executorThreads = executorThreads;
+        }
+
+        public int getIoThreads() {
+            return ioThreads;
+        }
+
+        public void setIoThreads(int ioThreads) {
+            this.ioThreads = ioThreads;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public int getConnectTimeoutMillis() {
+            return connectTimeoutMillis;
+        }
+
+        public void setConnectTimeoutMillis(int connectTimeoutMillis) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+        }
+
+        public int getSocketTimeoutMillis() {
+            return socketTimeoutMillis;
+        }
+
+        public void setSocketTimeoutMillis(int socketTimeoutMillis) {
+            this.socketTimeoutMillis = socketTimeoutMillis;
+        }
+    }
+
+    /**
+     * HTTP 压缩与条件请求配置
+     */
+    public static class Http {
+
+        /**
+         * 是否协商 gzip 压缩传输
+         */
+        private boolean compression = true;
+
+        /**
+         * GET 列表接口是否使用 ETag / If-Modified-Since 条件请求
+         */
+        private boolean conditionalRequests = true;
+
+        /**
+         * 条件请求最多缓存的响应数
+         */
+        private long responseCacheMaxEntries = 64;
+
+        public boolean isCompression() {
+            return compression;
+        }
+
+        public void setCompression(boolean compression) {
+            this.compression = compression;
+        }
+
+        public boolean isConditionalRequests() {
+            return conditionalRequests;
+        }
+
+        public void setConditionalRequests(boolean conditionalRequests) {
+            this.conditionalRequests = conditionalRequests;
+        }
+
+        public long getResponseCacheMaxEntries() {
+            return responseCacheMaxEntries;
+        }
+
+        public void setResponseCacheMaxEntries(long responseCacheMaxEntries) {
+            this.responseCacheMaxEntries = responseCacheMaxEntries;
+        }
+    }
+
+    /**
+     * 集群状态轮询配置
+     */
+    public static class Cluster {
+
+        /**
+         * master、worker 状态轮询间隔，毫秒
+         */
+        private long pollIntervalMillis = 10000;
+
+        /**
+         * cpu、内存使用率变化超过该值时视为负载变化
+         */
+        private double loadChangeThreshold = 0.1D;
+
+        public long getPollIntervalMillis() {
+            return pollIntervalMillis;
+        }
+
+        public void setPollIntervalMillis(long pollIntervalMillis) {
+            this.pollIntervalMillis = pollIntervalMillis;
+        }
+
+        public double getLoadChangeThreshold() {
+            return loadChangeThreshold;
+        }
+
+        public void setLoadChangeThreshold(double loadChangeThreshold) {
+            this.loadChangeThreshold = loadChangeThreshold;
+        }
+    }
+
+    /**
+     * worker group 自动选择配置
+     */
+    public static class Placement {
+
+        /**
+         * CPU 使用率权重
+         */
+        private double cpuWeight = 1.0D;
+
+        /**
+         * 内存使用率权重
+         */
+        private double memoryWeight = 1.0D;
+
+        /**
+         * 系统负载（相对 maxCpuloadAvg）权重
+         */
+        private double loadWeight = 1.0D;
+
+        /**
+         * 排队任务数（相对执行线程数）权重
+         */
+        private double queueWeight = 1.0D;
+
+        /**
+         * 同一份集群状态内每分配一次给 group 增加的负载，按 group 内 worker 数平摊
+         */
+        private double assignmentPenalty = 0.05D;
+
+        public double getCpuWeight() {
+            return cpuWeight;
+        }
+
+        public void setCpuWeight(double cpuWeight) {
+            this.cpuWeight = cpuWeight;
+        }
+
+        public double getMemoryWeight() {
+            return memoryWeight;
+        }
+
+        public void setMemoryWeight(double memoryWeight) {
+            this.memoryWeight = memoryWeight;
+        }
+
+        public double getLoadWeight() {
+            return loadWeight;
+        }
+
+        public void setLoadWeight(double loadWeight) {
+            this.loadWeight = loadWeight;
+        }
+
+        public double getQueueWeight() {
+            return queueWeight;
+        }
+
+        public void setQueueWeight(double queueWeight) {
+            this.queueWeight = queueWeight;
+        }
+
+        public double getAssignmentPenalty() {
+            return assignmentPenalty;
+        }
+
+        public void setAssignmentPenalty(double assignmentPenalty) {
+            this.assignmentPenalty = assignmentPenalty;
+        }
+    }
+
+    /**
+     * ID 生成配置
+     */
+    public static class Id {
+
+        /**
+         * 雪花 ID 的 worker id，0 ~ 1023，多个 JVM 应配置不同的值；小于 0 时根据主机地址与进程号生成。
+         * ID 生成器在 JVM 内共享，同一个 JVM 中的多个 DsClient 配置不同的值时后创建的构造失败
+         */
+        private long workerId = -1;
+
+        public long getWorkerId() {
+            return workerId;
+        }
+
+        public void setWorkerId(long workerId) {
+            this.workerId = workerId;
+        }
+    }
+
+    /**
+     * 订阅日志配置
+     */
+    public static class Journal {
+
+        /**
+         * 是否记录活动订阅，重启后可恢复
+         */
+        private boolean enabled = false;
+
+        /**
+         * 日志文件目录
+         */
+        private String dir = "tmp/dolphinscheduler-journal";
+
+        /**
+         * 日志文件初始大小，写满时先压缩再扩容
+         */
+        private long initialSizeBytes = 16L * 1024 * 1024;
+
+        /**
+         * 每次写入后是否强制刷盘，关闭时只保证进程崩溃后不丢失
+         */
+        private boolean syncOnWrite = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDir() {
+            return dir;
+        }
+
+        public void setDir(String dir) {
+            this.dir = dir;
+        }
+
+        public long getInitialSizeBytes() {
+            return initialSizeBytes;
+        }
+
+        public void setInitialSizeBytes(long initialSizeBytes) {
+            this.initialSizeBytes = initialSizeBytes;
+        }
+
+        public boolean isSyncOnWrite() {
+            return syncOnWrite;
+        }
+
+        public void setSyncOnWrite(boolean syncOnWrite) {
+            this.syncOnWrite = syncOnWrite;
+        }
+    }
+
+    /**
+     * 实例状态跟踪配置
+     */
+    public static class Tracking {
+
+        /**
+         * 实例状态跟踪方式：AUTO、PUSH、POLL
+         */
+        private TrackingMode mode = TrackingMode.AUTO;
+
+        /**
+         * AUTO 模式下订阅成功后等待 master 推送的时间，没有收到推送时开始轮询
+         */
+        private long pushGraceMillis = 30000;
+
+        /**
+         * 单个实例的最小轮询间隔，毫秒
+         */
+        private long minIntervalMillis = 1000;
+
+        /**
+         * 单个实例的最大轮询间隔，毫秒
+         */
+        private long maxIntervalMillis = 60000;
+
+        /**
+         * 不知道预期耗时时，轮询间隔为已运行时间乘以该系数
+         */
+        private double ageFactor = 0.1D;
+
+        /**
+         * 查询实例的每页大小
+         */
+        private int pageSize = 100;
+
+        /**
+         * 一次查询最多翻页数
+         */
+        private int maxPages = 5;
+
+        /**
+         * 每轮最多发起的查询数
+         */
+        private int maxRequestsPerRound = 20;
+
+        public TrackingMode getMode() {
+            return mode;
+        }
+
+        public void setMode(TrackingMode mode) {
+            this.mode = mode;
+        }
+
+        public long getPushGraceMillis() {
+            return pushGraceMillis;
+        }
+
+        public void setPushGraceMillis(long pushGraceMillis) {
+            this.pushGraceMillis = pushGraceMillis;
+        }
+
+        public long getMinIntervalMillis() {
+            return minIntervalMillis;
+        }
+
+        public void setMinIntervalMillis(long minIntervalMillis) {
+            this.minIntervalMillis = minIntervalMillis;
+        }
+
+        public long getMaxIntervalMillis() {
+            return maxIntervalMillis;
+        }
+
+        public void setMaxIntervalMillis(long maxIntervalMillis) {
+            this.maxIntervalMillis = maxIntervalMillis;
+        }
+
+        public double getAgeFactor() {
+            return ageFactor;
+        }
+
+        public void setAgeFactor(double ageFactor) {
+            this.ageFactor = ageFactor;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getMaxPages() {
+            return maxPages;
+        }
+
+        public void setMaxPages(int maxPages) {
+            this.maxPages = maxPages;
+        }
+
+        public int getMaxRequestsPerRound() {
+            return maxRequestsPerRound;
+        }
+
+        public void setMaxRequestsPerRound(int maxRequestsPerRound) {
+            this.maxRequestsPerRound = maxRequestsPerRound;
+        }
+    }
+
+    /**
+     * 补数节流配置
+     */
+    public static class Backfill {
+
+        /**
+         * worker 平均 cpu 使用率超过该值时暂停提交补数区间
+         */
+        private double maxCpuUsage = 0.8D;
+
+        /**
+         * worker 平均内存使用率超过该值时暂停提交补数区间
+         */
+        private double maxMemoryUsage = 0.9D;
+
+        /**
+         * worker 平均排队任务数与执行线程数之比超过该值时暂停提交补数区间
+         */
+        private double maxQueueRatio = 1.0D;
+
+        public double getMaxCpuUsage() {
+            return maxCpuUsage;
+        }
+
+        public void setMaxCpuUsage(double maxCpuUsage) {
+            this.maxCpuUsage = maxCpuUsage;
+        }
+
+        public double getMaxMemoryUsage() {
+            return maxMemoryUsage;
+        }
+
+        public void setMaxMemoryUsage(double maxMemoryUsage) {
+            this.maxMemoryUsage = maxMemoryUsage;
+        }
+
+        public double getMaxQueueRatio() {
+            return maxQueueRatio;
+        }
+
+        public void setMaxQueueRatio(double maxQueueRatio) {
+            this.maxQueueRatio = maxQueueRatio;
+        }
+    }
+
+    /**
+     * 出站提交队列配置
+     */
+    public static class Outbound {
+
+        /**
+         * 是否开启出站队列，开启后可通过 enqueueTask 提交，API 服务不可用时提交保存在本地
+         */
+        private boolean enabled = false;
+
+        /**
+         * 队列文件目录
+         */
+        private String dir = "tmp/dolphinscheduler-outbound";
+
+        /**
+         * 段文件大小，写满后新建下一段
+         */
+        private long segmentBytes = 64L * 1024 * 1024;
+
+        /**
+         * 每秒最多发送的提交数，小于等于 0 时不限速
+         */
+        private double ratePerSecond = 10D;
+
+        /**
+         * 发送失败后的初始重试间隔，之后每次翻倍
+         */
+        private long minBackoffMillis = 1000L;
+
+        /**
+         * 发送失败后的最大重试间隔
+         */
+        private long maxBackoffMillis = 60000L;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDir() {
+            return dir;
+        }
+
+        public void setDir(String dir) {
+            this.dir = dir;
+        }
+
+        public long getSegmentBytes() {
+            return segmentBytes;
+        }
+
+        public void setSegmentBytes(long segmentBytes) {
+            this.segmentBytes = segmentBytes;
+        }
+
+        public double getRatePerSecond() {
+            return ratePerSecond;
+        }
+
+        public void setRatePerSecond(double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        public long getMinBackoffMillis() {
+            return minBackoffMillis;
+        }
+
+        public void setMinBackoffMillis(long minBackoffMillis) {
+            this.minBackoffMillis = minBackoffMillis;
+        }
+
+        public long getMaxBackoffMillis() {
+            return maxBackoffMillis;
+        }
+
+        public void setMaxBackoffMillis(long maxBackoffMillis) {
+            this.maxBackoffMillis = maxBackoffMillis;
+        }
+    }
+
+    /**
+     * 多租户公平调度配置
+     */
+    public static class FairShare {
+
+        /**
+         * 发送线程数
+         */
+        private int threads = 4;
+
+        /**
+         * 未单独配置的租户的权重
+         */
+        private int defaultWeight = 1;
+
+        /**
+         * 未单独配置的租户同时发送中的提交数上限
+         */
+        private int defaultMaxConcurrency = 2;
+
+        /**
+         * 租户的权重
+         */
+        private Map<String, Integer> weights = new HashMap<>();
+
+        /**
+         * 租户同时发送中的提交数上限
+         */
+        private Map<String, Integer> maxConcurrency = new HashMap<>();
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getDefaultWeight() {
+            return defaultWeight;
+        }
+
+        public void setDefaultWeight(int defaultWeight) {
+            this.defaultWeight = defaultWeight;
+        }
+
+        public int getDefaultMaxConcurrency() {
+            return defaultMaxConcurrency;
+        }
+
+        public void setDefaultMaxConcurrency(int defaultMaxConcurrency) {
+            this.defaultMaxConcurrency = defaultMaxConcurrency;
+        }
+
+        public Map<String, Integer> getWeights() {
+            return weights;
+        }
+
+        public void setWeights(Map<String, Integer> weights) {
+            this.weights = weights;
+        }
+
+        public Map<String, Integer> getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(Map<String, Integer> maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
+
+    /**
+     * master 通信配置
+     */
+    public static class Rpc {
+
+        /**
+         * 同一个 JVM 中的 DsClient 是否共享一个 master 通信客户端（一组 event loop 线程）
+         */
+        private boolean shared = true;
+
+        /**
+         * event loop 线程数，小于等于 0 时使用 DolphinScheduler 的默认值（CPU 核数 * 2）
+         */
+        private int workerThreads = 0;
+
+        /**
+         * 发送缓冲区大小，小于等于 0 时使用默认值
+         */
+        private int sendBufferSize = 65535;
+
+        /**
+         * 接收缓冲区大小，小于等于 0 时使用默认值
+         */
+        private int receiveBufferSize = 65535;
+
+        /**
+         * 连接超时时间
+         */
+        private int connectTimeoutMillis = 3000;
+
+        private boolean tcpNoDelay = true;
+
+        private boolean soKeepalive = true;
+
+        public boolean isShared() {
+            return shared;
+        }
+
+        public void setShared(boolean shared) {
+            this.shared = shared;
+        }
+
+        public int getWorkerThreads() {
+            return workerThreads;
+        }
+
+        public void setWorkerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+        }
+
+        public int getSendBufferSize() {
+            return sendBufferSize;
+        }
+
+        public void setSendBufferSize(int sendBufferSize) {
+            this.sendBufferSize = sendBufferSize;
+        }
+
+        public int getReceiveBufferSize() {
+            return receiveBufferSize;
+        }
+
+        public void setReceiveBufferSize(int receiveBufferSize) {
+            this.receiveBufferSize = receiveBufferSize;
+        }
+
+        public int getConnectTimeoutMillis() {
+            return connectTimeoutMillis;
+        }
+
+        public void setConnectTimeoutMillis(int connectTimeoutMillis) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+        }
+
+        public boolean isTcpNoDelay() {
+            return tcpNoDelay;
+        }
+
+        public void setTcpNoDelay(boolean tcpNoDelay) {
+            this.tcpNoDelay = tcpNoDelay;
+        }
+
+        public boolean isSoKeepalive() {
+            return soKeepalive;
+        }
+
+        public void setSoKeepalive(boolean soKeepalive) {
+            this.soKeepalive = soKeepalive;
+        }
+    }
+
+    /**
+     * 启动配置
+     */
+    public static class Startup {
+
+        /**
+         * 初始化方式，LAZY 与 ASYNC 在构造时不访问 API 服务与 master
+         */
+        private InitMode mode = InitMode.EAGER;
+
+        public InitMode getMode() {
+            return mode;
+        }
+
+        public void setMode(InitMode mode) {
+            this.mode = mode;
+        }
+    }
 }
@@ -2,7 +2,6 @@ package com.apache.dolphinscheduler.sdk.processer;
 
 import com.google.common.base.Preconditions;
 import io.netty.channel.Channel;
-import org.apache.commons.lang.StringUtils;
 import org.apache.dolphinscheduler.common.utils.JSONUtils;
 import org.apache.dolphinscheduler.remote.command.Command;
 import org.apache.dolphinscheduler.remote.command.CommandType;
@@ -38,10 +37,11 @@ public class ProcessInstanceStateProcessor implements NettyRequestProcessor {
 
             ProcessInstanceStateCommand.ConsumerType type = processInstanceStateCommand.getConsumerType();
             if (type.equals(ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE)){
-                for (Map.Entry<String,ProcessStateCallback> entry : SUB_ONE.entrySet()) {
-                    if (processInstanceStateCommand.getId().equals(entry.getKey())){
-                        entry.getValue().callback(processInstanceStateCommand);
-                    }
+                // 按订阅 ID 直接查找，一个订阅 ID 可以对应多个 command id
+                String id = processInstanceStateCommand.getId();
+                ProcessStateCallback callback = null == id ? null : SUB_ONE.get(id);
+                if (null != callback){
+                    callback.callback(processInstanceStateCommand);
                 }
             }else {
                 SUB_ALL.forEach((k, v)->{
@@ -79,7 +79,6 @@ public class ProcessInstanceStateProcessor implements NettyRequestProcessor {
      * @param consumerType
      */
     public static void removeListener(@NonNull String id, ProcessInstanceStateCommand.ConsumerType consumerType){
-        ProcessStateCallback callback = null;
         Map<String,ProcessStateCallback> removeMaps =null;
         switch (consumerType){
             case SUBSCRIBE_ONE:{
@@ -96,16 +95,7 @@ public class ProcessInstanceStateProcessor implements NettyRequestProcessor {
         if (null == removeMaps){
             return;
         }
-
-        for (Map.Entry<String,ProcessStateCallback> entry : removeMaps.entrySet()) {
-            if (StringUtils.equals(entry.getKey(),id)){
-                callback = entry.getValue();
-                break;
-            }
-        }
-        if (null != callback){
-            removeMaps.remove(id,callback);
-        }
+        removeMaps.remove(id);
     }
 
 
@@ -0,0 +1,60 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.Environment;
+import com.apache.dolphinscheduler.sdk.remote.model.MasterServer;
+import com.apache.dolphinscheduler.sdk.remote.model.PageInfo;
+import com.apache.dolphinscheduler.sdk.remote.model.SubmitResponse;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerGroup;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerServer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DolphinScheduler 异步 API，调用立即返回 future。token 由 {@link SessionManager} 管理，不需要调用方传入。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ * @see DsRemoteApiService
+ */
+public interface AsyncDsRemoteApiService extends AutoCloseable {
+
+    /**
+     * 提交任务，表单由 SubmissionTemplate 预先编码
+     * @param projectCode
+     * @param form application/x-www-form-urlencoded 表单
+     * @return
+     */
+    CompletableFuture<DsResult<SubmitResponse>> startProcessInstance(String projectCode, byte[] form);
+
+    /**
+     * 获取当前所有的 master。
+     * @return
+     */
+    CompletableFuture<DsResult<List<MasterServer>>> listMasters();
+
+    /**
+     * 获取当前所有的 workers。
+     * @return
+     */
+    CompletableFuture<DsResult<List<WorkerServer>>> listWorkers();
+
+    /**
+     * 分页查询 workers group 分组
+     * @param searchVal
+     * @param page
+     * @param pageSize
+     * @return
+     */
+    CompletableFuture<DsResult<PageInfo<WorkerGroup>>> queryWorkerGroupPage(String searchVal, int page, int pageSize);
+
+    /**
+     * 分页查询 env 环境
+     * @param searchVal
+     * @param page
+     * @param pageSize
+     * @return
+     */
+    CompletableFuture<DsResult<PageInfo<Environment>>> queryEnvironmentPage(String searchVal, int page, int pageSize);
+}
@@ -0,0 +1,107 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 为 GET 请求加上条件请求头的 Feign Client，304 时返回缓存的响应体
+ *
+ * @author ysear
+ * @date 2026/10/19
+ * @see ConditionalResponseCache
+ */
+public class ConditionalGetClient implements Client {
+
+    private final Client delegate;
+
+    private final ConditionalResponseCache cache;
+
+    public ConditionalGetClient(Client delegate, ConditionalResponseCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET) {
+            return delegate.execute(request, options);
+        }
+        final String key = ConditionalResponseCache.key(request.url(), header(request.headers(), "token"));
+        ConditionalResponseCache.Entry cached = cache.get(key);
+        Request conditional = request;
+        if (null != cached) {
+            Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+            if (null != cached.getEtag()) {
+                headers.put(ConditionalResponseCache.IF_NONE_MATCH, Collections.singletonList(cached.getEtag()));
+            }
+            if (null != cached.getLastModified()) {
+                headers.put(ConditionalResponseCache.IF_MODIFIED_SINCE, Collections.singletonList(cached.getLastModified()));
+            }
+            conditional = Request.create(request.httpMethod(), request.url(), headers, request.requestBody());
+        }
+
+        Response response = delegate.execute(conditional, options);
+        if (response.status() == ConditionalResponseCache.HTTP_NOT_MODIFIED) {
+            ConditionalResponseCache.Entry entry = cache.revalidated(key);
+            if (null != entry) {
+                response.close();
+                Map<String, Collection<String>> headers = new LinkedHashMap<>(response.headers());
+                if (null != entry.getContentType()) {
+                    headers.put("Content-Type", Collections.singletonList(entry.getContentType()));
+                }
+                return Response.builder()
+                        .status(200)
+                        .reason("OK")
+                        .headers(headers)
+                        .request(request)
+                        .body(entry.getBody())
+                        .build();
+            }
+            return response;
+        }
+        if (response.status() != 200 || null == response.body()) {
+            return response;
+        }
+        String etag = header(response.headers(), ConditionalResponseCache.ETAG);
+        String lastModified = header(response.headers(), ConditionalResponseCache.LAST_MODIFIED);
+        if (null == etag && null == lastModified) {
+            cache.put(key, null, null, null, null);
+            return response;
+        }
+        byte[] body;
+        try {
+            body = Util.toByteArray(response.body().asInputStream());
+        } finally {
+            response.close();
+        }
+        cache.put(key, etag, lastModified, header(response.headers(), "Content-Type"), body);
+        return Response.builder()
+                .status(response.status())
+                .reason(response.reason())
+                .headers(response.headers())
+                .request(request)
+                .body(body)
+                .build();
+    }
+
+    /**
+     * 读取响应头，忽略大小写
+     */
+    static String header(Map<String, Collection<String>> headers, String name) {
+        for (Map.Entry<String, Collection<String>> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey()) && null != entry.getValue() && !entry.getValue().isEmpty()) {
+                return new ArrayList<>(entry.getValue()).get(0);
+            }
+        }
+        return null;
+    }
+}
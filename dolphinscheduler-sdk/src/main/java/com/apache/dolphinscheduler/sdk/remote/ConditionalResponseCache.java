@@ -0,0 +1,131 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GET 响应的本地缓存，用于条件请求。
+ * <p>
+ * 服务端返回 ETag 或 Last-Modified 时保存响应体，下次请求带上 If-None-Match / If-Modified-Since，
+ * 服务端返回 304 时直接使用缓存的响应体，列表没有变化时只传输响应头。服务端不返回校验头时不缓存。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class ConditionalResponseCache {
+
+    public static final String ETAG = "ETag";
+
+    public static final String LAST_MODIFIED = "Last-Modified";
+
+    public static final String IF_NONE_MATCH = "If-None-Match";
+
+    public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    public static final int HTTP_NOT_MODIFIED = 304;
+
+    private final Cache<String, Entry> cache;
+
+    private final AtomicLong notModified = new AtomicLong();
+
+    private final AtomicLong modified = new AtomicLong();
+
+    public ConditionalResponseCache(long maxEntries) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * @param url 请求地址
+     * @param token 登录 token，不同用户看到的列表可能不同
+     * @return 缓存键
+     */
+    public static String key(String url, String token) {
+        return (null == token ? "" : token) + ' ' + url;
+    }
+
+    public Entry get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 保存 200 响应，没有校验头时移除旧的缓存
+     */
+    public void put(String key, String etag, String lastModified, String contentType, byte[] body) {
+        modified.incrementAndGet();
+        if (null == etag && null == lastModified) {
+            cache.invalidate(key);
+            return;
+        }
+        cache.put(key, new Entry(etag, lastModified, contentType, body));
+    }
+
+    /**
+     * 记录一次 304
+     */
+    public Entry revalidated(String key) {
+        Entry entry = cache.getIfPresent(key);
+        if (null != entry) {
+            notModified.incrementAndGet();
+        }
+        return entry;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return 返回 304 的次数
+     */
+    public long getNotModifiedCount() {
+        return notModified.get();
+    }
+
+    /**
+     * @return 返回完整响应的次数
+     */
+    public long getModifiedCount() {
+        return modified.get();
+    }
+
+    /**
+     * 缓存的响应
+     */
+    public static final class Entry {
+
+        private final String etag;
+
+        private final String lastModified;
+
+        private final String contentType;
+
+        private final byte[] body;
+
+        Entry(String etag, String lastModified, String contentType, byte[] body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -1,6 +1,15 @@
 package com.apache.dolphinscheduler.sdk.remote;
 
 import com.alibaba.fastjson.JSON;
+import com.apache.dolphinscheduler.sdk.configuration.DolphinSchedulerProperties;
+import com.apache.dolphinscheduler.sdk.remote.resilience.CircuitBreaker;
+import com.apache.dolphinscheduler.sdk.remote.resilience.RetryPolicy;
+import com.apache.dolphinscheduler.sdk.remote.upload.FileChannelBody;
+import com.apache.dolphinscheduler.sdk.remote.upload.FilePart;
+import com.apache.dolphinscheduler.sdk.remote.upload.MeteredHttpEntity;
+import com.apache.dolphinscheduler.sdk.remote.upload.MultipartFileBody;
+import com.apache.dolphinscheduler.sdk.remote.upload.UploadListener;
+import com.apache.dolphinscheduler.sdk.remote.upload.UploadStatistics;
 import com.google.common.net.MediaType;
 import feign.*;
 import feign.codec.Decoder;
@@ -20,6 +29,7 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.web.multipart.MultipartFile;
 import org.apache.http.entity.mime.*;
@@ -29,8 +39,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -55,16 +63,92 @@ public class DsClientFactory implements MethodInterceptor{
 
     static final Pattern VAR_PATTERN = Pattern.compile("(\\{\\s*(\\w|\\.|-|_)+\\s*\\})");
 
+    private static final int HTTP_UNAUTHORIZED = 401;
+
+    private static final ContentType TEXT_PLAIN_UTF8 = ContentType.create("text/plain", StandardCharsets.UTF_8);
+
+    /**
+     * 上传时是否强制 chunked 传输
+     */
+    private boolean chunkedUpload;
+
+    /**
+     * 上传进度监听
+     */
+    private UploadListener uploadListener;
+
+    /**
+     * 幂等（GET）接口默认的重试策略
+     */
+    private RetryPolicy defaultRetryPolicy = RetryPolicy.NEVER;
+
+    /**
+     * 按方法名配置的重试策略
+     */
+    private final Map<String, RetryPolicy> methodRetryPolicies = new HashMap<>();
+
+    /**
+     * API 服务熔断器，为 null 时不熔断
+     */
+    private CircuitBreaker circuitBreaker;
+
+    /**
+     * GET 条件请求缓存，为 null 时不使用条件请求
+     */
+    private ConditionalResponseCache responseCache;
+
+    /**
+     * 接口中 token 参数实际使用的请求头，未配置访问令牌时以 sessionId 发送登录会话
+     */
+    private String credentialHeader = SessionManager.SESSION_HEADER;
+
     public DsClientFactory() {
-        httpClient = HttpClientBuilder.create().build();
+        this(true);
+    }
+
+    /**
+     * @param compression 是否协商 gzip/deflate 压缩传输，响应自动解压
+     */
+    private DsClientFactory(boolean compression) {
+        HttpClientBuilder builder = HttpClientBuilder.create();
+        if (!compression) {
+            builder.disableContentCompression();
+        }
+        httpClient = builder.build();
+    }
+
+    public DsClientFactory(DolphinSchedulerProperties properties) {
+        this(properties.getHttp().isCompression());
+        this.credentialHeader = SessionManager.credentialHeader(properties.getToken());
+        if (properties.getHttp().isConditionalRequests()) {
+            this.responseCache = new ConditionalResponseCache(properties.getHttp().getResponseCacheMaxEntries());
+        }
+        this.chunkedUpload = properties.getUpload().isChunked();
+        DolphinSchedulerProperties.Retry retry = properties.getRetry();
+        this.defaultRetryPolicy = new RetryPolicy(retry.getMaxAttempts(), retry.getInitialBackoffMillis(),
+                retry.getMaxBackoffMillis(), retry.getMultiplier());
+        retry.getMethodMaxAttempts().forEach((method, attempts) ->
+                methodRetryPolicies.put(method, defaultRetryPolicy.withMaxAttempts(attempts)));
+        DolphinSchedulerProperties.CircuitBreaker breaker = properties.getCircuitBreaker();
+        if (breaker.isEnabled()) {
+            this.circuitBreaker = new CircuitBreaker(properties.getUrl(), breaker.getFailureThreshold(),
+                    breaker.getOpenDurationMillis(), breaker.getHalfOpenMaxCalls());
+        }
     }
 
     public <T> T newInstance(Class<T> apiClazz, String url) {
-        T target = Feign.builder().client(new ApacheHttpClient(httpClient))
+        Client client = new ApacheHttpClient(httpClient);
+        if (responseCache != null) {
+            client = new ConditionalGetClient(client, responseCache);
+        }
+        T target = Feign.builder().client(client)
+                // 重试由 invoke 按方法策略处理
+                .retryer(Retryer.NEVER_RETRY)
                 .logger(new Logger.JavaLogger())
                 .logLevel(Logger.Level.FULL)
                 .encoder(feignEncoder())
                 .decoder(feignDecoder())
+                .requestInterceptor(this::applyCredentialHeader)
                 .target(apiClazz, url);
         this.restfulUrl = url;
         ProxyFactory proxyFactory = new ProxyFactory();
@@ -74,6 +158,20 @@ public class DsClientFactory implements MethodInterceptor{
         return (T)proxyFactory.getProxy();
     }
 
+    /**
+     * 接口统一以 token 请求头声明凭证，使用登录会话时改为 sessionId 请求头发送
+     */
+    private void applyCredentialHeader(RequestTemplate template) {
+        Collection<String> credential = template.headers().get(SessionManager.TOKEN_HEADER);
+        if (null == credential || SessionManager.TOKEN_HEADER.equals(credentialHeader)) {
+            return;
+        }
+        List<String> values = new ArrayList<>(credential);
+        // 值为空时移除该请求头
+        template.header(SessionManager.TOKEN_HEADER, Collections.emptyList());
+        template.header(credentialHeader, values);
+    }
+
     /**
      * 解码器实现
      * @return
@@ -101,9 +199,8 @@ public class DsClientFactory implements MethodInterceptor{
                 return NumberUtils.createNumber(bodyStr).intValue();
             }
 
-            // JSON 类型或者为对象类型
-            String bodyStr = new String(Util.toByteArray(response.body().asInputStream()), StandardCharsets.UTF_8);
-            return JSON.parseObject(bodyStr, type);
+            // JSON 类型或者为对象类型，按返回值的泛型类型直接从字节反序列化，不经过中间的 String 与 Map
+            return JSON.parseObject(Util.toByteArray(response.body().asInputStream()), type);
         };
     }
 
@@ -136,31 +233,14 @@ public class DsClientFactory implements MethodInterceptor{
                 // 复杂类型，对象类型 转为 JSON 发送
                 template.body(JSON.toJSONString(object));
             } else if (object instanceof Map) {
-                StringBuilder bodyData = new StringBuilder();
+                // 表单，值一次遍历编码后直接写入字节缓冲区
+                FormBodyWriter form = new FormBodyWriter();
                 Map<String, Object> data = (Map) object;
-                int i = 0;
                 for (Map.Entry<String, Object> entry : data.entrySet()) {
-                    if (i > 0) {
-                        bodyData.append("&");
-                    }
-                    i++;
-                    bodyData.append(entry.getKey());
-                    bodyData.append("=");
-                    if (entry.getValue() == null) {
-                        continue;
-                    }
-                    final String value = entry.getValue() instanceof String ? (String) entry.getValue() : String.valueOf(entry.getValue());
-                    if (value.contains(":") || value.contains("{") || value.contains("[") || value.contains("&")) {
-                        try {
-                            bodyData.append(URLEncoder.encode(value, "UTF-8"));
-                        } catch (UnsupportedEncodingException e) {
-
-                        }
-                    } else {
-                        bodyData.append(value);
-                    }
+                    final Object value = entry.getValue();
+                    form.field(entry.getKey(), value == null || value instanceof CharSequence ? (CharSequence) value : String.valueOf(value));
                 }
-                template.body(bodyData.toString());
+                template.body(Request.Body.encoded(form.toByteArray(), StandardCharsets.UTF_8));
             }
         };
     }
@@ -204,7 +284,7 @@ public class DsClientFactory implements MethodInterceptor{
         boolean isMutilForm = false;
         for (Object argument : arguments) {
             // 文件
-            isMutilForm = argument instanceof File || argument instanceof MultipartFile;
+            isMutilForm = isFilePart(argument);
             if (isMutilForm) {
                 // 有一个是文件的，则是上传
                 break;
@@ -213,7 +293,7 @@ public class DsClientFactory implements MethodInterceptor{
         Object result = null;
         if (!isMutilForm) {
             // 普通表单
-            result = invocation.proceed();
+            result = invokeWithRetry(invocation);
         } else {
             // 文件上传
             result = new HashMap<>();
@@ -249,6 +329,102 @@ public class DsClientFactory implements MethodInterceptor{
         return result;
     }
 
+    /**
+     * 按方法的重试策略调用接口，失败时指数退避重试，并由熔断器统计服务端故障
+     * @param invocation
+     * @return
+     */
+    Object invokeWithRetry(MethodInvocation invocation) throws Throwable {
+        final RetryPolicy policy = getRetryPolicy(invocation.getMethod());
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            if (circuitBreaker != null) {
+                circuitBreaker.acquire();
+            }
+            boolean recorded = false;
+            try {
+                MethodInvocation current = invocation instanceof ProxyMethodInvocation
+                        ? ((ProxyMethodInvocation) invocation).invocableClone() : invocation;
+                Object result = current.proceed();
+                if (circuitBreaker != null) {
+                    circuitBreaker.onSuccess();
+                }
+                recorded = true;
+                return result;
+            } catch (FeignException e) {
+                boolean retryable = isRetryable(e);
+                if (circuitBreaker != null) {
+                    if (retryable) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        // 4xx 等业务错误说明服务端可用
+                        circuitBreaker.onSuccess();
+                    }
+                }
+                recorded = true;
+                if (!retryable || attempt >= policy.getMaxAttempts()) {
+                    throw e;
+                }
+                long backoff = policy.backoffMillis(attempt);
+                log.warn("call {} failed (attempt {}/{}), retry in {} ms: {}", invocation.getMethod().getName(),
+                        attempt, policy.getMaxAttempts(), backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    // 受检异常经代理抛出会变成 UndeclaredThrowableException，保留中断标记后抛出上一次的失败
+                    Thread.currentThread().interrupt();
+                    e.addSuppressed(interrupted);
+                    throw e;
+                }
+            } finally {
+                if (!recorded && circuitBreaker != null) {
+                    circuitBreaker.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * 连接失败、超时、429 与 5xx 网关错误可以重试，其余错误说明请求本身有问题
+     */
+    static boolean isRetryable(FeignException e) {
+        return e instanceof RetryableException || isRetryable(e.status());
+    }
+
+    static boolean isRetryable(int status) {
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * 方法的重试策略：优先使用按方法名配置的策略，否则 GET 使用默认策略，其余（如 submitTask）不重试
+     */
+    RetryPolicy getRetryPolicy(Method method) {
+        RequestLine requestLine = method.getAnnotation(RequestLine.class);
+        return getRetryPolicy(method.getName(), requestLine != null && requestLine.value().trim().startsWith("GET "));
+    }
+
+    /**
+     * @param methodName 接口方法名
+     * @param idempotent 是否幂等（GET）
+     * @return 重试策略
+     */
+    public RetryPolicy getRetryPolicy(String methodName, boolean idempotent) {
+        RetryPolicy policy = methodRetryPolicies.get(methodName);
+        if (policy != null) {
+            return policy;
+        }
+        return idempotent ? defaultRetryPolicy : RetryPolicy.NEVER;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public ConditionalResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     /**
      * 根据 String 的 ${field} 按照 map 中的参数替换，组成一个新的 SQL 返回。
      * @param valStr 支持 ${field} 的变量替换
@@ -295,8 +471,12 @@ public class DsClientFactory implements MethodInterceptor{
                              Class<T> returnType) {
         final HashMap<String, String> params = new HashMap<>();
         for (Map.Entry<ParameterInfo, Object> entry : form.entrySet()) {
-            String v = (entry.getValue() instanceof String ? (String) entry.getValue() : String.valueOf(entry.getValue()));
-            params.put(entry.getKey().getName(), v);
+            Object value = entry.getValue();
+            if (value == null || isFilePart(value)) {
+                // 文件不参与 url 变量替换
+                continue;
+            }
+            params.put(entry.getKey().getName(), value instanceof String ? (String) value : String.valueOf(value));
         }
 
         // url 中有 {} 变量替换的情况
@@ -308,72 +488,130 @@ public class DsClientFactory implements MethodInterceptor{
         // 设置编码
         multipartEntityBuilder.seContentType(ContentType.create("multipart/form-data", StandardCharsets.UTF_8));
 
-        InputStream in = null;
         try {
-            log.info("form: " + form);
+            log.debug("form: {}", params);
             if(headers != null && headers.value().length > 0) {
                 for (String header : headers.value()) {
                     final String[] split = header.split(":\\s");
                     if (split.length >= 2) {
                         String contentValue = StringUtils.trimToEmpty(split[1]);
                         if(contentValue.startsWith("{") && contentValue.endsWith("}")) {
-                            Object v = form.get(new ParameterInfo(
-                                    StringUtils.trimToEmpty(contentValue.substring(1, contentValue.length() - 1))));
-                            contentValue = v instanceof String ? (String)v : String.valueOf(v);
+                            contentValue = params.get(StringUtils.trimToEmpty(contentValue.substring(1, contentValue.length() - 1)));
                         }
-                        log.info("add header: {}: {}", split[0], contentValue);
-                        request.setHeader(split[0], contentValue);
+                        String name = SessionManager.TOKEN_HEADER.equals(split[0]) ? credentialHeader : split[0];
+                        log.debug("add header: {}: {}", name, contentValue);
+                        request.setHeader(name, contentValue);
                     }
                 }
             } else {
-                request.setHeader("sessionId", (String) form.get("sessionId"));
+                request.setHeader("sessionId", params.get("sessionId"));
             }
 
             for (Map.Entry<ParameterInfo, Object> entry : form.entrySet()) {
-                if (entry.getValue() instanceof File || entry.getValue() instanceof MultipartFile) {
-                    if (entry.getValue() instanceof File) {
-                        multipartEntityBuilder.addPart(entry.getKey().getName(), new FileBody((File) entry.getValue()));
-                        //String name = ((File) entry.getValue()).getName();
-                        //multipartEntityBuilder.addPart("name", new StringBody(name, ContentType.MULTIPART_FORM_DATA));
-                    } else {
-                        MultipartFile uploadFile = (MultipartFile) entry.getValue();
-                        in = uploadFile.getInputStream();
-                        try {
-                            String name = ((MultipartFile) entry.getValue()).getOriginalFilename();
-                            multipartEntityBuilder.addPart(entry.getKey().getName(), new InputStreamBody(in, ContentType.MULTIPART_FORM_DATA, name));
-                            multipartEntityBuilder.addTextBody("name", name);
-                        } finally {
-                            in.close();
-                        }
+                Object value = entry.getValue();
+                if (value == null) {
+                    continue;
+                }
+                if (value instanceof File) {
+                    // 文件内容在发送时才通过 FileChannel 写出
+                    multipartEntityBuilder.addPart(entry.getKey().getName(), new FileChannelBody((File) value));
+                } else if (value instanceof FilePart) {
+                    // 分片，只发送文件的一个区间
+                    FilePart part = (FilePart) value;
+                    multipartEntityBuilder.addPart(entry.getKey().getName(),
+                            new FileChannelBody(part.getFile(), part.getOffset(), part.getLength(), part.getName()));
+                } else if (value instanceof MultipartFile) {
+                    // 流在发送时才打开，发送完成后关闭
+                    MultipartFile uploadFile = (MultipartFile) value;
+                    multipartEntityBuilder.addPart(entry.getKey().getName(), new MultipartFileBody(uploadFile));
+                    if (!form.containsKey(new ParameterInfo("name"))) {
+                        multipartEntityBuilder.addTextBody("name", uploadFile.getOriginalFilename());
                     }
                 } else {
                     multipartEntityBuilder.addTextBody(entry.getKey().getName(),
-                            (entry.getValue() instanceof String ? (String) entry.getValue() : String.valueOf(entry.getValue())));
+                            value instanceof String ? (String) value : String.valueOf(value),
+                            TEXT_PLAIN_UTF8);
                 }
             }
 
-            request.setEntity(multipartEntityBuilder.build());
+            MeteredHttpEntity entity = new MeteredHttpEntity(multipartEntityBuilder.build(), newUrl, chunkedUpload, uploadListener);
+            request.setEntity(entity);
+            if (circuitBreaker != null) {
+                circuitBreaker.acquire();
+            }
+            boolean recorded = false;
             try(CloseableHttpResponse response = httpClient.execute(request);) {
-                if (response.getStatusLine().getStatusCode() == 200) {
-                    final HttpEntity entity = response.getEntity();
-                    String json = EntityUtils.toString(entity, StandardCharsets.UTF_8);
-                    log.info(json);
-                    EntityUtils.consumeQuietly(entity);
+                UploadStatistics statistics = entity.getStatistics();
+                if (statistics != null) {
+                    log.info("upload finished: {}", statistics);
+                }
+                final int status = response.getStatusLine().getStatusCode();
+                if (circuitBreaker != null) {
+                    // 与普通接口一致，只有网关错误与限流计为服务端故障
+                    if (isRetryable(status)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                }
+                recorded = true;
+                final HttpEntity responseEntity = response.getEntity();
+                if (status == 200) {
+                    String json = EntityUtils.toString(responseEntity, StandardCharsets.UTF_8);
+                    log.debug(json);
                     return JSON.parseObject(json, returnType);
+                } else if (status == HTTP_UNAUTHORIZED) {
+                    // 交由 SessionManager 重新登录后重试
+                    EntityUtils.consumeQuietly(responseEntity);
+                    throw new HttpStatusException(HTTP_UNAUTHORIZED, request.getURI() + " " + response.getStatusLine());
                 } else {
-                    log.error("execute {} error.", request.getURI());
+                    EntityUtils.consumeQuietly(responseEntity);
+                    log.error("execute {} error, status: {}", request.getURI(), response.getStatusLine());
+                }
+            } catch (IOException e) {
+                if (!recorded && circuitBreaker != null) {
+                    // 连接失败或超时
+                    circuitBreaker.onFailure();
+                    recorded = true;
+                }
+                throw e;
+            } finally {
+                if (!recorded && circuitBreaker != null) {
+                    circuitBreaker.release();
                 }
             }
         } catch (IOException e) {
             log.error("execute rest api error.", e);
-        } finally {
-            if (in != null) {
-                try {
-                    in.close();
-                } catch (IOException e) {
-                }
-            }
         }
         return null;
     }
+
+    /**
+     * 是否是需要以文件方式上传的参数
+     * @param value 参数值
+     * @return
+     */
+    static boolean isFilePart(Object value) {
+        return value instanceof File || value instanceof MultipartFile || value instanceof FilePart;
+    }
+
+    public boolean isChunkedUpload() {
+        return chunkedUpload;
+    }
+
+    /**
+     * 上传时是否强制使用 chunked 传输，默认在长度已知时发送 Content-Length
+     * @param chunkedUpload
+     */
+    public void setChunkedUpload(boolean chunkedUpload) {
+        this.chunkedUpload = chunkedUpload;
+    }
+
+    public UploadListener getUploadListener() {
+        return uploadListener;
+    }
+
+    public void setUploadListener(UploadListener uploadListener) {
+        this.uploadListener = uploadListener;
+    }
 }
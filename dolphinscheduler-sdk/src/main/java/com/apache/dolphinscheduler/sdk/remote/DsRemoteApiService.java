@@ -1,11 +1,27 @@
 package com.apache.dolphinscheduler.sdk.remote;
 
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.Environment;
+import com.apache.dolphinscheduler.sdk.remote.model.MasterServer;
+import com.apache.dolphinscheduler.sdk.remote.model.PageInfo;
+import com.apache.dolphinscheduler.sdk.remote.model.ProcessInstance;
+import com.apache.dolphinscheduler.sdk.remote.model.SubmitResponse;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerGroup;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerServer;
+import com.apache.dolphinscheduler.sdk.remote.upload.FilePart;
 import feign.Body;
 import feign.Headers;
 import feign.Param;
 import feign.RequestLine;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.util.List;
 
 /**
+ * 接口中的 token 参数为 {@link SessionManager} 提供的凭证，统一声明为 token 请求头，
+ * 使用登录会话时由 {@link DsClientFactory} 改为 sessionId 请求头发送
+ *
  * @author ysear
  * @date 2022/12/30
  */
@@ -30,7 +46,7 @@ public interface DsRemoteApiService {
     /**
      * 提交任务
      *
-     * @param token Session Id
+     * @param token 凭证，未配置访问令牌时为登录会话，由 DsClientFactory 以 sessionId 请求头发送
      * @param projectCode 项目编码
      * @param taskCode 任务编码
      * @param scheduleTime 任务定时管理
@@ -113,5 +129,157 @@ public interface DsRemoteApiService {
                            @Param(value = "pageSize") int pageSize);
 
 
+    /**
+     * 上传资源文件，含有 File 参数的方法由 DsClientFactory 以 multipart 流式发送
+     * @param token
+     * @param type 资源类型 FILE,UDF
+     * @param name 资源名称
+     * @param description 描述
+     * @param pid 父目录 ID，根目录为 -1
+     * @param currentDir 当前目录，如：/
+     * @param file 文件
+     * @return
+     */
+    @RequestLine("POST /resources")
+    @Headers({"token: {token}"})
+    Result createResource(@Param(value = "token") String token,
+                          @Param(value = "type") String type,
+                          @Param(value = "name") String name,
+                          @Param(value = "description") String description,
+                          @Param(value = "pid") int pid,
+                          @Param(value = "currentDir") String currentDir,
+                          @Param(value = "file") File file);
+
+    /**
+     * 上传资源文件
+     * @see #createResource(String, String, String, String, int, String, File)
+     */
+    @RequestLine("POST /resources")
+    @Headers({"token: {token}"})
+    Result createResource(@Param(value = "token") String token,
+                          @Param(value = "type") String type,
+                          @Param(value = "name") String name,
+                          @Param(value = "description") String description,
+                          @Param(value = "pid") int pid,
+                          @Param(value = "currentDir") String currentDir,
+                          @Param(value = "file") MultipartFile file);
+
+    /**
+     * 上传文件的一个分片
+     * @see #createResource(String, String, String, String, int, String, File)
+     */
+    @RequestLine("POST /resources")
+    @Headers({"token: {token}"})
+    Result createResource(@Param(value = "token") String token,
+                          @Param(value = "type") String type,
+                          @Param(value = "name") String name,
+                          @Param(value = "description") String description,
+                          @Param(value = "pid") int pid,
+                          @Param(value = "currentDir") String currentDir,
+                          @Param(value = "file") FilePart file);
+
+    /**
+     * 提交任务，返回带类型的结果
+     * @see #submitTask(String, String, String, String, String, String, int, String, String, String, String, String, String, String, String, String, int)
+     */
+    @RequestLine("POST /projects/{projectCode}/executors/start-process-instance")
+    @Headers({"Content-Type: application/x-www-form-urlencoded", "token: {token}"})
+    DsResult<SubmitResponse> startProcessInstance(@Param(value = "token") String token,
+                                                  @Param(value = "projectCode") String projectCode,
+                                                  @Param(value = "processDefinitionCode") String taskCode,
+                                                  @Param(value = "scheduleTime", encoded = true) String scheduleTime,
+                                                  @Param(value = "failureStrategy") String failureStrategy,
+                                                  @Param(value = "warningType") String warningType,
+                                                  @Param(value = "warningGroupId") int warningGroupId,
+                                                  @Param(value = "execType") String execType,
+                                                  @Param(value = "startNodeList") String startNodeList,
+                                                  @Param(value = "taskDependType") String taskDependType,
+                                                  @Param(value = "runMode") String runMode,
+                                                  @Param(value = "processInstancePriority") String processInstancePriority,
+                                                  @Param(value = "workerGroup") String workerGroup,
+                                                  @Param(value = "environmentCode") String environmentCode,
+                                                  @Param(value = "startParams") String startParams,
+                                                  @Param(value = "expectedParallelismNumber") String expectedParallelismNumber,
+                                                  @Param(value = "dryRun") int dryRun);
+
+    /**
+     * 提交任务，表单由 SubmissionTemplate 预先编码
+     * @param token
+     * @param projectCode
+     * @param form application/x-www-form-urlencoded 表单
+     * @return
+     */
+    @RequestLine("POST /projects/{projectCode}/executors/start-process-instance")
+    @Headers({"Content-Type: application/x-www-form-urlencoded", "token: {token}"})
+    DsResult<SubmitResponse> startProcessInstance(@Param(value = "token") String token,
+                                                  @Param(value = "projectCode") String projectCode,
+                                                  byte[] form);
+
+    /**
+     * 获取当前所有的 master。
+     * @param token
+     * @return
+     */
+    @RequestLine("GET /monitor/masters")
+    @Headers({"Content-Type: application/x-www-form-urlencoded", "token: {token}"})
+    DsResult<List<MasterServer>> listMasters(@Param(value = "token") String token);
+
+    /**
+     * 获取当前所有的 workers。
+     * @param token
+     * @return
+     */
+    @RequestLine("GET /monitor/workers")
+    @Headers({"Content-Type: application/x-www-form-urlencoded", "token: {token}"})
+    DsResult<List<WorkerServer>> listWorkers(@Param(value = "token") String token);
+
+    /**
+     * 分页查询 workers group 分组
+     * @param token
+     * @param searchVal
+     * @param page
+     * @param pageSize
+     * @return
+     */
+    @RequestLine("GET /worker-groups?pageSize={pageSize}&pageNo={page}&searchVal={searchVal}")
+    @Headers({"Content-Type: application/x-www-form-urlencoded", "token: {token}"})
+    DsResult<PageInfo<WorkerGroup>> queryWorkerGroupPage(@Param(value = "token") String token,
+                                                         @Param(value = "searchVal") String searchVal,
+                                                         @Param(value = "page") int page,
+                                                         @Param(value = "pageSize") int pageSize);
+
+    /**
+     * 分页查询 env 环境
+     * @param token
+     * @param searchVal
+     * @param page
+     * @param pageSize
+     * @return
+     */
+    @RequestLine("GET /environment/list-paging?pageSize={pageSize}&pageNo={page}&searchVal={searchVal}")
+    @Headers({"Content-Type: application/x-www-form-urlencoded", "token: {token}"})
+    DsResult<PageInfo<Environment>> queryEnvironmentPage(@Param(value = "token") String token,
+                                                         @Param(value = "searchVal") String searchVal,
+                                                         @Param(value = "page") int page,
+                                                         @Param(value = "pageSize") int pageSize);
+
+    /**
+     * 分页查询工作流实例，按开始时间倒序
+     * @param token
+     * @param projectCode
+     * @param processDefineCode 工作流定义编码
+     * @param startDate 开始时间不早于该时间，yyyy-MM-dd HH:mm:ss
+     * @param page
+     * @param pageSize
+     * @return
+     */
+    @RequestLine("GET /projects/{projectCode}/process-instances?processDefineCode={processDefineCode}&startDate={startDate}&pageNo={page}&pageSize={pageSize}")
+    @Headers({"Content-Type: application/x-www-form-urlencoded", "token: {token}"})
+    DsResult<PageInfo<ProcessInstance>> queryProcessInstancePage(@Param(value = "token") String token,
+                                                                 @Param(value = "projectCode") String projectCode,
+                                                                 @Param(value = "processDefineCode") String processDefineCode,
+                                                                 @Param(value = "startDate") String startDate,
+                                                                 @Param(value = "page") int page,
+                                                                 @Param(value = "pageSize") int pageSize);
 
 }
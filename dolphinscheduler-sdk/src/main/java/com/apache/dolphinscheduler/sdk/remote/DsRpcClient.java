@@ -1,5 +1,6 @@
 package com.apache.dolphinscheduler.sdk.remote;
 
+import com.apache.dolphinscheduler.sdk.configuration.DolphinSchedulerProperties;
 import com.apache.dolphinscheduler.sdk.processer.ProcessInstanceStateProcessor;
 import com.google.common.net.HostAndPort;
 import io.netty.channel.Channel;
@@ -13,13 +14,34 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * master 通信客户端。
+ * <p>
+ * 共享模式下同一个 JVM 中的所有 DsClient 使用同一个 NettyRemotingClient（同一组 event loop 线程），
+ * 按引用计数在最后一个使用者关闭时关闭；实例状态的监听本来就是 JVM 内共享的（见 {@link ProcessInstanceStateProcessor}）。
+ * 共享的客户端使用第一个使用者的配置。
+ * <p>
+ * epoll 与内存分配方式由 Netty 与 DolphinScheduler 在类加载时从 JVM 全局的系统属性读取，会影响同一 JVM 中的所有 Netty 使用方，
+ * 这里不做设置，需要时由应用在启动参数中指定：
+ * <ul>
+ *     <li>-Dnetty.epoll.enable=false：DolphinScheduler remote 模块在 Linux 上默认使用 epoll，设为 false 时使用 NIO</li>
+ *     <li>-Dio.netty.allocator.type=pooled：使用池化的 ByteBuf 分配器</li>
+ *     <li>-Dio.netty.noPreferDirect=false：优先使用直接内存</li>
+ * </ul>
+ *
  * @author ysear
  * @date 2022/12/30
  */
 public class DsRpcClient implements AutoCloseable{
 
+    private static final Object SHARED_LOCK = new Object();
+
+    private static NettyRemotingClient sharedRemotingClient;
+
+    private static int sharedReferences;
+
     private final Logger logger = LoggerFactory.getLogger(DsRpcClient.class);
 
     /**
@@ -32,21 +54,70 @@ public class DsRpcClient implements AutoCloseable{
      */
     private NettyRemotingClient remotingClient;
 
+    private final boolean shared;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
     public DsRpcClient() {
-        connection();
+        this(new DolphinSchedulerProperties.Rpc());
     }
 
-    private void connection() {
-        if (null == remotingClient){
-            this.remotingClient = new NettyRemotingClient(new NettyClientConfig());
-        }
-        this.remotingClient.registerProcessor(CommandType.PROCESS_INSTANCE_STATE,new ProcessInstanceStateProcessor());
+    public DsRpcClient(DolphinSchedulerProperties.Rpc rpc) {
+        this.shared = rpc.isShared();
+        connection(rpc);
+    }
 
+    private void connection(DolphinSchedulerProperties.Rpc rpc) {
+        if (!shared) {
+            this.remotingClient = newRemotingClient(rpc);
+            return;
+        }
+        synchronized (SHARED_LOCK) {
+            if (null == sharedRemotingClient) {
+                sharedRemotingClient = newRemotingClient(rpc);
+            } else {
+                logger.info("reuse the shared rpc client, settings of this client are ignored");
+            }
+            sharedReferences++;
+            this.remotingClient = sharedRemotingClient;
+        }
     }
 
+    private NettyRemotingClient newRemotingClient(DolphinSchedulerProperties.Rpc rpc) {
+        NettyClientConfig config = new NettyClientConfig();
+        if (rpc.getWorkerThreads() > 0) {
+            config.setWorkerThreads(rpc.getWorkerThreads());
+        }
+        if (rpc.getSendBufferSize() > 0) {
+            config.setSendBufferSize(rpc.getSendBufferSize());
+        }
+        if (rpc.getReceiveBufferSize() > 0) {
+            config.setReceiveBufferSize(rpc.getReceiveBufferSize());
+        }
+        if (rpc.getConnectTimeoutMillis() > 0) {
+            config.setConnectTimeoutMillis(rpc.getConnectTimeoutMillis());
+        }
+        config.setTcpNoDelay(rpc.isTcpNoDelay());
+        config.setSoKeepalive(rpc.isSoKeepalive());
+        NettyRemotingClient remotingClient = new NettyRemotingClient(config);
+        remotingClient.registerProcessor(CommandType.PROCESS_INSTANCE_STATE, new ProcessInstanceStateProcessor());
+        logger.info("rpc client started: workerThreads={}", config.getWorkerThreads());
+        return remotingClient;
+    }
 
     @Override
     public void close() throws Exception {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (shared) {
+            synchronized (SHARED_LOCK) {
+                if (--sharedReferences > 0) {
+                    return;
+                }
+                sharedRemotingClient = null;
+            }
+        }
         logger.info("Worker rpc client closing");
         remotingClient.close();
         logger.info("Worker rpc client closed");
@@ -0,0 +1,69 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.Environment;
+import com.apache.dolphinscheduler.sdk.remote.model.MasterServer;
+import com.apache.dolphinscheduler.sdk.remote.model.PageInfo;
+import com.apache.dolphinscheduler.sdk.remote.model.SubmitResponse;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerGroup;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerServer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 同步传输下的异步 API：在线程池中调用 {@link DsRemoteApiService}，并发数等于线程数
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class ExecutorDsRemoteApiService implements AsyncDsRemoteApiService {
+
+    private final DsRemoteApiService dsRemoteApiService;
+
+    private final SessionManager sessionManager;
+
+    private final ExecutorService executor;
+
+    public ExecutorDsRemoteApiService(DsRemoteApiService dsRemoteApiService,
+                                      SessionManager sessionManager,
+                                      ExecutorService executor) {
+        this.dsRemoteApiService = dsRemoteApiService;
+        this.sessionManager = sessionManager;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<DsResult<SubmitResponse>> startProcessInstance(String projectCode, byte[] form) {
+        return CompletableFuture.supplyAsync(() -> sessionManager.execute(token ->
+                dsRemoteApiService.startProcessInstance(token, projectCode, form)), executor);
+    }
+
+    @Override
+    public CompletableFuture<DsResult<List<MasterServer>>> listMasters() {
+        return CompletableFuture.supplyAsync(() -> sessionManager.execute(dsRemoteApiService::listMasters), executor);
+    }
+
+    @Override
+    public CompletableFuture<DsResult<List<WorkerServer>>> listWorkers() {
+        return CompletableFuture.supplyAsync(() -> sessionManager.execute(dsRemoteApiService::listWorkers), executor);
+    }
+
+    @Override
+    public CompletableFuture<DsResult<PageInfo<WorkerGroup>>> queryWorkerGroupPage(String searchVal, int page, int pageSize) {
+        return CompletableFuture.supplyAsync(() -> sessionManager.execute(token ->
+                dsRemoteApiService.queryWorkerGroupPage(token, searchVal, page, pageSize)), executor);
+    }
+
+    @Override
+    public CompletableFuture<DsResult<PageInfo<Environment>>> queryEnvironmentPage(String searchVal, int page, int pageSize) {
+        return CompletableFuture.supplyAsync(() -> sessionManager.execute(token ->
+                dsRemoteApiService.queryEnvironmentPage(token, searchVal, page, pageSize)), executor);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
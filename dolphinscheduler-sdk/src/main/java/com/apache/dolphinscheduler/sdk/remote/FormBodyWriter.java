@@ -0,0 +1,301 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * application/x-www-form-urlencoded 表单构建器。
+ * <p>
+ * 字段值在写入时一次遍历完成 UTF-8 与百分号编码，直接写入表单的字节缓冲区，不产生中间字符串。
+ * 编码规则与 {@link java.net.URLEncoder} 一致。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class FormBodyWriter {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes();
+
+    /**
+     * 不需要编码的 ASCII 字符
+     */
+    private static final boolean[] UNRESERVED = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+        UNRESERVED['-'] = true;
+        UNRESERVED['_'] = true;
+        UNRESERVED['.'] = true;
+        UNRESERVED['*'] = true;
+    }
+
+    private byte[] buf;
+
+    private int count;
+
+    /**
+     * 当前字段名，用于错误提示
+     */
+    private String fieldName;
+
+    /**
+     * 当前字段编码前的 UTF-8 字节数
+     */
+    private long fieldBytes;
+
+    /**
+     * 当前字段允许的最大字节数
+     */
+    private long fieldLimit = Long.MAX_VALUE;
+
+    /**
+     * 跨多次写入的高代理字符
+     */
+    private char pendingHighSurrogate;
+
+    public FormBodyWriter() {
+        this(256);
+    }
+
+    public FormBodyWriter(int initialCapacity) {
+        this.buf = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * 追加一个字段，值为 null 时写为空值
+     */
+    public FormBodyWriter field(String name, CharSequence value) {
+        return field(name, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * 追加一个字段
+     * @param maxBytes 值编码前的最大 UTF-8 字节数
+     * @throws IllegalArgumentException 值超过 maxBytes
+     */
+    public FormBodyWriter field(String name, CharSequence value, long maxBytes) {
+        beginField(name, maxBytes);
+        if (value != null) {
+            for (int i = 0, len = value.length(); i < len; i++) {
+                writeChar(value.charAt(i));
+            }
+        }
+        endField();
+        return this;
+    }
+
+    /**
+     * 开始一个字段，返回的 Writer 写入的内容会被编码为该字段的值，关闭 Writer 时结束该字段。
+     * 适合将 JSON 等内容直接序列化到表单中。
+     * @param maxBytes 值编码前的最大 UTF-8 字节数
+     */
+    public FieldWriter fieldWriter(String name, long maxBytes) {
+        beginField(name, maxBytes);
+        return new FieldWriter();
+    }
+
+    /**
+     * 追加已经编码好的表单片段，如 {@code a=1&b=2}
+     */
+    public FormBodyWriter appendEncoded(byte[] encoded) {
+        if (encoded.length == 0) {
+            return this;
+        }
+        if (count > 0) {
+            writeByte('&');
+        }
+        ensureCapacity(count + encoded.length);
+        System.arraycopy(encoded, 0, buf, count, encoded.length);
+        count += encoded.length;
+        return this;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * 编码单个值
+     */
+    public static byte[] encode(CharSequence value) {
+        FormBodyWriter writer = new FormBodyWriter(value == null ? 16 : value.length() + 16);
+        writer.fieldName = "";
+        if (value != null) {
+            for (int i = 0, len = value.length(); i < len; i++) {
+                writer.writeChar(value.charAt(i));
+            }
+        }
+        writer.endField();
+        return writer.toByteArray();
+    }
+
+    private void beginField(String name, long maxBytes) {
+        if (fieldName != null) {
+            throw new IllegalStateException("form field '" + fieldName + "' is not closed");
+        }
+        if (count > 0) {
+            writeByte('&');
+        }
+        for (int i = 0, len = name.length(); i < len; i++) {
+            writeEncoded(name.charAt(i));
+        }
+        writeByte('=');
+        this.fieldName = name;
+        this.fieldBytes = 0;
+        this.fieldLimit = maxBytes <= 0 ? Long.MAX_VALUE : maxBytes;
+    }
+
+    private void endField() {
+        if (pendingHighSurrogate != 0) {
+            // 不成对的代理字符，与 String#getBytes 一致写为 '?'
+            pendingHighSurrogate = 0;
+            writeCodePoint('?');
+        }
+        this.fieldName = null;
+        this.fieldLimit = Long.MAX_VALUE;
+    }
+
+    private void writeEncoded(char c) {
+        // 字段名只允许 ASCII
+        if (c < 128 && UNRESERVED[c]) {
+            writeByte(c);
+        } else {
+            writePercent(c & 0xFF);
+        }
+    }
+
+    private void writeChar(char c) {
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                writeCodePoint(Character.toCodePoint(high, c));
+                return;
+            }
+            writeCodePoint('?');
+        }
+        if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            writeCodePoint('?');
+        } else {
+            writeCodePoint(c);
+        }
+    }
+
+    private void writeCodePoint(int cp) {
+        if (cp < 0x80) {
+            countBytes(1);
+            if (UNRESERVED[cp]) {
+                writeByte(cp);
+            } else if (cp == ' ') {
+                writeByte('+');
+            } else {
+                writePercent(cp);
+            }
+        } else if (cp < 0x800) {
+            countBytes(2);
+            writePercent(0xC0 | (cp >> 6));
+            writePercent(0x80 | (cp & 0x3F));
+        } else if (cp < 0x10000) {
+            countBytes(3);
+            writePercent(0xE0 | (cp >> 12));
+            writePercent(0x80 | ((cp >> 6) & 0x3F));
+            writePercent(0x80 | (cp & 0x3F));
+        } else {
+            countBytes(4);
+            writePercent(0xF0 | (cp >> 18));
+            writePercent(0x80 | ((cp >> 12) & 0x3F));
+            writePercent(0x80 | ((cp >> 6) & 0x3F));
+            writePercent(0x80 | (cp & 0x3F));
+        }
+    }
+
+    private void countBytes(int n) {
+        fieldBytes += n;
+        if (fieldBytes > fieldLimit) {
+            String name = fieldName;
+            long limit = fieldLimit;
+            fieldName = null;
+            fieldLimit = Long.MAX_VALUE;
+            pendingHighSurrogate = 0;
+            throw new IllegalArgumentException(String.format("form field '%s' exceeds the limit of %d bytes", name, limit));
+        }
+    }
+
+    private void writePercent(int b) {
+        ensureCapacity(count + 3);
+        buf[count++] = '%';
+        buf[count++] = HEX[(b >> 4) & 0x0F];
+        buf[count++] = HEX[b & 0x0F];
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buf.length) {
+            int newCapacity = Math.max(buf.length << 1, minCapacity);
+            if (newCapacity < 0) {
+                throw new OutOfMemoryError("form body too large");
+            }
+            buf = Arrays.copyOf(buf, newCapacity);
+        }
+    }
+
+    /**
+     * 将写入内容编码为当前字段值的 Writer
+     */
+    public final class FieldWriter extends Writer {
+
+        private boolean closed;
+
+        private FieldWriter() {
+        }
+
+        @Override
+        public void write(int c) {
+            writeChar((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) {
+            for (int i = off, end = off + len; i < end; i++) {
+                writeChar(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            for (int i = off, end = off + len; i < end; i++) {
+                writeChar(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                endField();
+            }
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.TypeReference;
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.Environment;
+import com.apache.dolphinscheduler.sdk.remote.model.MasterServer;
+import com.apache.dolphinscheduler.sdk.remote.model.PageInfo;
+import com.apache.dolphinscheduler.sdk.remote.model.SubmitResponse;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerGroup;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerServer;
+import com.apache.dolphinscheduler.sdk.remote.resilience.CircuitBreaker;
+import com.apache.dolphinscheduler.sdk.remote.resilience.RetryPolicy;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.lang.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 基于 Apache HttpAsyncClient 的非阻塞 API 实现，少量 IO 线程即可驱动大量并发请求。
+ * <p>
+ * 与同步传输一致：按方法的重试策略退避重试，由熔断器统计服务端故障，返回 401 时重新登录并重试一次。
+ * 重试与重新登录在单独的调度线程中进行，不占用 IO 线程。
+ * GET 请求协商 gzip 压缩，并与同步传输共用条件请求缓存。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class HttpAsyncDsRemoteApiService implements AsyncDsRemoteApiService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpAsyncDsRemoteApiService.class);
+
+    private static final int HTTP_UNAUTHORIZED = 401;
+
+    private static final ContentType FORM_UTF8 = ContentType.create("application/x-www-form-urlencoded", StandardCharsets.UTF_8);
+
+    private static final Type SUBMIT_TYPE = new TypeReference<DsResult<SubmitResponse>>() {}.getType();
+
+    private static final Type MASTERS_TYPE = new TypeReference<DsResult<List<MasterServer>>>() {}.getType();
+
+    private static final Type WORKERS_TYPE = new TypeReference<DsResult<List<WorkerServer>>>() {}.getType();
+
+    private static final Type WORKER_GROUP_PAGE_TYPE = new TypeReference<DsResult<PageInfo<WorkerGroup>>>() {}.getType();
+
+    private static final Type ENVIRONMENT_PAGE_TYPE = new TypeReference<DsResult<PageInfo<Environment>>>() {}.getType();
+
+    private final String restfulUrl;
+
+    private final SessionManager sessionManager;
+
+    /**
+     * 熔断器，为 null 时不熔断
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * 按方法名与是否幂等返回重试策略
+     */
+    private final BiFunction<String, Boolean, RetryPolicy> retryPolicies;
+
+    private final CloseableHttpAsyncClient httpClient;
+
+    /**
+     * 重试退避与重新登录
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 是否协商 gzip 压缩传输
+     */
+    private final boolean compression;
+
+    /**
+     * GET 条件请求缓存，为 null 时不使用条件请求
+     */
+    private final ConditionalResponseCache responseCache;
+
+    public HttpAsyncDsRemoteApiService(String restfulUrl,
+                                       SessionManager sessionManager,
+                                       CircuitBreaker circuitBreaker,
+                                       BiFunction<String, Boolean, RetryPolicy> retryPolicies,
+                                       boolean compression,
+                                       ConditionalResponseCache responseCache,
+                                       int ioThreads,
+                                       int maxConnections,
+                                       int maxConnectionsPerRoute,
+                                       int connectTimeoutMillis,
+                                       int socketTimeoutMillis) {
+        this.restfulUrl = StringUtils.removeEnd(restfulUrl, "/");
+        this.sessionManager = sessionManager;
+        this.circuitBreaker = circuitBreaker;
+        this.retryPolicies = retryPolicies;
+        this.compression = compression;
+        this.responseCache = responseCache;
+        this.httpClient = HttpAsyncClients.custom()
+                .setDefaultIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(ioThreads > 0 ? ioThreads : Runtime.getRuntime().availableProcessors())
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setSoTimeout(socketTimeoutMillis)
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setSocketTimeout(socketTimeoutMillis)
+                        .build())
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("ds-async-io-%d").setDaemon(true).build())
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("ds-async-retry-%d").setDaemon(true).build());
+        this.httpClient.start();
+    }
+
+    @Override
+    public CompletableFuture<DsResult<SubmitResponse>> startProcessInstance(String projectCode, byte[] form) {
+        final String url = restfulUrl + "/projects/" + projectCode + "/executors/start-process-instance";
+        return call("startProcessInstance", false, SUBMIT_TYPE, token -> {
+            HttpPost post = new HttpPost(url);
+            post.setHeader(sessionManager.getCredentialHeader(), token);
+            post.setEntity(new ByteArrayEntity(form, FORM_UTF8));
+            return post;
+        });
+    }
+
+    @Override
+    public CompletableFuture<DsResult<List<MasterServer>>> listMasters() {
+        return call("listMasters", true, MASTERS_TYPE, token -> get(restfulUrl + "/monitor/masters", token));
+    }
+
+    @Override
+    public CompletableFuture<DsResult<List<WorkerServer>>> listWorkers() {
+        return call("listWorkers", true, WORKERS_TYPE, token -> get(restfulUrl + "/monitor/workers", token));
+    }
+
+    @Override
+    public CompletableFuture<DsResult<PageInfo<WorkerGroup>>> queryWorkerGroupPage(String searchVal, int page, int pageSize) {
+        final String url = restfulUrl + "/worker-groups?" + pageQuery(searchVal, page, pageSize);
+        return call("queryWorkerGroupPage", true, WORKER_GROUP_PAGE_TYPE, token -> get(url, token));
+    }
+
+    @Override
+    public CompletableFuture<DsResult<PageInfo<Environment>>> queryEnvironmentPage(String searchVal, int page, int pageSize) {
+        final String url = restfulUrl + "/environment/list-paging?" + pageQuery(searchVal, page, pageSize);
+        return call("queryEnvironmentPage", true, ENVIRONMENT_PAGE_TYPE, token -> get(url, token));
+    }
+
+    private HttpGet get(String url, String token) {
+        HttpGet get = new HttpGet(url);
+        get.setHeader(sessionManager.getCredentialHeader(), token);
+        if (compression) {
+            get.setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        if (null != responseCache) {
+            ConditionalResponseCache.Entry cached = responseCache.get(ConditionalResponseCache.key(url, token));
+            if (null != cached && null != cached.getEtag()) {
+                get.setHeader(ConditionalResponseCache.IF_NONE_MATCH, cached.getEtag());
+            }
+            if (null != cached && null != cached.getLastModified()) {
+                get.setHeader(ConditionalResponseCache.IF_MODIFIED_SINCE, cached.getLastModified());
+            }
+        }
+        return get;
+    }
+
+    private static String pageQuery(String searchVal, int page, int pageSize) {
+        return new String(new FormBodyWriter(64)
+                .field("pageSize", String.valueOf(pageSize))
+                .field("pageNo", String.valueOf(page))
+                .field("searchVal", searchVal)
+                .toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private <T> CompletableFuture<T> call(String methodName,
+                                          boolean idempotent,
+                                          Type type,
+                                          Function<String, HttpUriRequest> requestFactory) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        RetryPolicy policy = retryPolicies.apply(methodName, idempotent);
+        Attempt<T> attempt = new Attempt<>(methodName, type, requestFactory, policy, future);
+        // 第一次调用可能需要同步登录，登录放到调度线程中，避免阻塞调用方
+        String token = sessionManager.currentToken();
+        if (null != token) {
+            attempt.send(token);
+        } else {
+            scheduler.execute(() -> attempt.sendWithFreshToken(null));
+        }
+        return future;
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        httpClient.close();
+    }
+
+    /**
+     * 一次接口调用，包括重试与重新登录
+     */
+    private final class Attempt<T> implements FutureCallback<HttpResponse> {
+
+        private final String methodName;
+
+        private final Type type;
+
+        private final Function<String, HttpUriRequest> requestFactory;
+
+        private final RetryPolicy policy;
+
+        private final CompletableFuture<T> future;
+
+        private int attempt;
+
+        private boolean relogged;
+
+        private String token;
+
+        private HttpUriRequest request;
+
+        private Attempt(String methodName,
+                        Type type,
+                        Function<String, HttpUriRequest> requestFactory,
+                        RetryPolicy policy,
+                        CompletableFuture<T> future) {
+            this.methodName = methodName;
+            this.type = type;
+            this.requestFactory = requestFactory;
+            this.policy = policy;
+            this.future = future;
+        }
+
+        void sendWithFreshToken(String staleToken) {
+            try {
+                send(null == staleToken ? sessionManager.getToken() : sessionManager.relogin(staleToken).sessionId);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        void send(String token) {
+            if (future.isDone()) {
+                return;
+            }
+            this.token = token;
+            attempt++;
+            boolean acquired = false;
+            try {
+                if (circuitBreaker != null) {
+                    circuitBreaker.acquire();
+                    acquired = true;
+                }
+                request = requestFactory.apply(token);
+                httpClient.execute(request, this);
+            } catch (RuntimeException e) {
+                if (acquired) {
+                    circuitBreaker.release();
+                }
+                future.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void completed(HttpResponse response) {
+            int status = response.getStatusLine().getStatusCode();
+            byte[] body;
+            try {
+                body = readBody(response);
+            } catch (IOException e) {
+                failed(e);
+                return;
+            }
+            boolean cacheable = null != responseCache && request instanceof HttpGet;
+            String cacheKey = cacheable ? ConditionalResponseCache.key(request.getURI().toString(), token) : null;
+            if (status == ConditionalResponseCache.HTTP_NOT_MODIFIED && cacheable) {
+                ConditionalResponseCache.Entry cached = responseCache.revalidated(cacheKey);
+                if (null != cached) {
+                    status = 200;
+                    body = cached.getBody();
+                }
+            } else if (status == 200 && cacheable) {
+                responseCache.put(cacheKey, headerValue(response, ConditionalResponseCache.ETAG),
+                        headerValue(response, ConditionalResponseCache.LAST_MODIFIED),
+                        headerValue(response, HttpHeaders.CONTENT_TYPE), body);
+            }
+            if (status >= 200 && status < 300) {
+                recordSuccess();
+                try {
+                    future.complete(body.length == 0 ? null : JSON.parseObject(body, type));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+                return;
+            }
+            HttpStatusException error = new HttpStatusException(status,
+                    methodName + " " + new String(body, StandardCharsets.UTF_8));
+            if (status == HTTP_UNAUTHORIZED && !relogged && sessionManager.canRelogin()) {
+                recordSuccess();
+                relogged = true;
+                LOGGER.warn("session expired while calling {}, login again.", methodName);
+                final String stale = token;
+                scheduler.execute(() -> sendWithFreshToken(stale));
+                return;
+            }
+            if (isRetryable(status)) {
+                recordFailure();
+                retryOrFail(error);
+            } else {
+                // 4xx 等业务错误说明服务端可用
+                recordSuccess();
+                future.completeExceptionally(error);
+            }
+        }
+
+        @Override
+        public void failed(Exception e) {
+            recordFailure();
+            retryOrFail(e);
+        }
+
+        @Override
+        public void cancelled() {
+            if (circuitBreaker != null) {
+                circuitBreaker.release();
+            }
+            future.cancel(false);
+        }
+
+        private void retryOrFail(Throwable error) {
+            if (attempt >= policy.getMaxAttempts() || scheduler.isShutdown()) {
+                future.completeExceptionally(error);
+                return;
+            }
+            long backoff = policy.backoffMillis(attempt);
+            LOGGER.warn("call {} failed (attempt {}/{}), retry in {} ms: {}", methodName,
+                    attempt, policy.getMaxAttempts(), backoff, error.getMessage());
+            final String current = token;
+            scheduler.schedule(() -> send(current), backoff, TimeUnit.MILLISECONDS);
+        }
+
+        private void recordSuccess() {
+            if (circuitBreaker != null) {
+                circuitBreaker.onSuccess();
+            }
+        }
+
+        private void recordFailure() {
+            if (circuitBreaker != null) {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    /**
+     * 读取响应体，gzip 响应在此解压
+     */
+    private static byte[] readBody(HttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (null == entity) {
+            return new byte[0];
+        }
+        Header encoding = entity.getContentEncoding();
+        if (null != encoding && "gzip".equalsIgnoreCase(StringUtils.trim(encoding.getValue()))) {
+            entity = new GzipDecompressingEntity(entity);
+        }
+        return EntityUtils.toByteArray(entity);
+    }
+
+    private static String headerValue(HttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return null == header ? null : header.getValue();
+    }
+
+    /**
+     * 与同步传输一致：429 与 5xx 网关错误可以重试
+     */
+    private static boolean isRetryable(int status) {
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+}
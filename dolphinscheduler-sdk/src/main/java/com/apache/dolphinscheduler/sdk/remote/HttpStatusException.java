@@ -0,0 +1,21 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+/**
+ * 异步接口返回非 2xx 状态码
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class HttpStatusException extends RuntimeException {
+
+    private final int status;
+
+    public HttpStatusException(int status, String message) {
+        super("[" + status + "] " + message);
+        this.status = status;
+    }
+
+    public int status() {
+        return status;
+    }
+}
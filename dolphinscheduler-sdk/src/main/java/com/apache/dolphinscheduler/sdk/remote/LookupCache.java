@@ -0,0 +1,55 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * worker group、环境等基本不变的查询结果的读穿缓存，按 TTL 过期、按条目数淘汰。
+ * 同一个键的并发加载只会发起一次请求。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class LookupCache {
+
+    private final Cache<String, List<?>> cache;
+
+    public LookupCache(long ttlSeconds, long maxEntries) {
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * 读取缓存，不存在或已过期时调用 loader 加载
+     * @param key 键
+     * @param loader 加载
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(String key, Supplier<List<T>> loader) {
+        try {
+            return (List<T>) cache.get(key, loader::get);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
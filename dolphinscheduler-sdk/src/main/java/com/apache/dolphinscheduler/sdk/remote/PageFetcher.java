@@ -0,0 +1,21 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import java.util.List;
+
+/**
+ * 分页查询
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+@FunctionalInterface
+public interface PageFetcher<T> {
+
+    /**
+     * 查询一页
+     * @param pageNo 页码，从 1 开始
+     * @param pageSize 每页大小
+     * @return 当页数据，没有数据时返回空集合
+     */
+    List<T> fetch(int pageNo, int pageSize);
+}
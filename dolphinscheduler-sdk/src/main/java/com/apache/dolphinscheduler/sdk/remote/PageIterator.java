@@ -0,0 +1,94 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 按需翻页的迭代器，取到一页时立即异步预取下一页，消费当前页与请求下一页并行进行。
+ * 某页不满 pageSize 时结束。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class PageIterator<T> implements Iterator<T> {
+
+    /**
+     * 防止服务端忽略分页参数时无限翻页
+     */
+    private static final int MAX_PAGES = 10000;
+
+    private final PageFetcher<T> fetcher;
+
+    private final int pageSize;
+
+    private final Executor executor;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private CompletableFuture<List<T>> next;
+
+    private int nextPageNo = 1;
+
+    public PageIterator(PageFetcher<T> fetcher, int pageSize, Executor executor) {
+        this.fetcher = fetcher;
+        this.pageSize = pageSize <= 0 ? 10 : pageSize;
+        this.executor = executor;
+        this.next = fetchAsync();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            List<T> page = join(next);
+            next = page.size() >= pageSize && nextPageNo <= MAX_PAGES ? fetchAsync() : null;
+            current = page.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * @return 顺序流
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private CompletableFuture<List<T>> fetchAsync() {
+        final int pageNo = nextPageNo++;
+        return CompletableFuture.supplyAsync(() -> {
+            List<T> page = fetcher.fetch(pageNo, pageSize);
+            return page == null ? Collections.<T>emptyList() : page;
+        }, executor);
+    }
+
+    private static <T> List<T> join(CompletableFuture<List<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
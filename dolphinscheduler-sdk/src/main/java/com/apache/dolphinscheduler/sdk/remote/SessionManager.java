@@ -0,0 +1,300 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import feign.FeignException;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 登录会话管理。
+ * <p>
+ * 保存当前 sessionId，在会话过期前于后台重新登录；接口返回 401 时重新登录并重试一次。
+ * 并发的重新登录请求合并为一次，避免会话过期时所有调用方同时登录。
+ * 配置了访问令牌时直接使用该令牌，不做登录与刷新。
+ * 两种凭证由 DolphinScheduler 分别校验：登录会话通过 sessionId 请求头发送，访问令牌通过 token 请求头发送，
+ * 见 {@link #getCredentialHeader()}。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class SessionManager implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionManager.class);
+
+    private static final int HTTP_UNAUTHORIZED = 401;
+
+    /**
+     * 访问令牌的请求头
+     */
+    public static final String TOKEN_HEADER = "token";
+
+    /**
+     * 登录会话的请求头
+     */
+    public static final String SESSION_HEADER = "sessionId";
+
+    /**
+     * 后台刷新失败后的重试间隔
+     */
+    private static final long REFRESH_RETRY_MILLIS = 30_000L;
+
+    private final DsRemoteApiService dsRemoteApiService;
+
+    private final String userName;
+
+    private final String passWord;
+
+    /**
+     * 配置的访问令牌，为 null 时使用用户名密码登录
+     */
+    private final String accessToken;
+
+    /**
+     * 会话有效期，毫秒
+     */
+    private final long sessionTimeoutMillis;
+
+    /**
+     * 在有效期的多少比例时提前刷新
+     */
+    private final double refreshRatio;
+
+    private volatile Session current;
+
+    /**
+     * 进行中的登录请求
+     */
+    private final AtomicReference<CompletableFuture<Session>> inflightLogin = new AtomicReference<>();
+
+    private ScheduledExecutorService refresher;
+
+    private volatile ScheduledFuture<?> refreshTask;
+
+    public SessionManager(DsRemoteApiService dsRemoteApiService,
+                          String userName,
+                          String passWord,
+                          String accessToken,
+                          long sessionTimeoutMillis,
+                          double refreshRatio) {
+        this.dsRemoteApiService = dsRemoteApiService;
+        this.userName = userName;
+        this.passWord = passWord;
+        this.accessToken = StringUtils.trimToNull(accessToken);
+        this.sessionTimeoutMillis = sessionTimeoutMillis;
+        this.refreshRatio = Math.min(0.95D, Math.max(0.1D, refreshRatio));
+    }
+
+    /**
+     * @param accessToken 配置的访问令牌
+     * @return 发送凭证使用的请求头
+     */
+    public static String credentialHeader(String accessToken) {
+        return StringUtils.isBlank(accessToken) ? SESSION_HEADER : TOKEN_HEADER;
+    }
+
+    /**
+     * @return 发送 {@link #getToken()} 返回的凭证使用的请求头，配置了访问令牌时为 token，否则为 sessionId
+     */
+    public String getCredentialHeader() {
+        return credentialHeader(accessToken);
+    }
+
+    /**
+     * 登录并开启后台刷新，使用访问令牌时不做任何事
+     */
+    public synchronized void start() {
+        if (null != accessToken || null != refresher) {
+            return;
+        }
+        startLazily();
+        relogin(null);
+    }
+
+    /**
+     * 只开启后台刷新，第一次调用接口时登录
+     */
+    public synchronized void startLazily() {
+        if (null != accessToken || null != refresher) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("ds-session-refresh").setDaemon(true).build());
+    }
+
+    /**
+     * @return 当前可用的凭证，访问令牌或 sessionId，会话已过期时同步重新登录
+     */
+    public String getToken() {
+        if (null != accessToken) {
+            return accessToken;
+        }
+        Session session = current;
+        if (null == session || session.isExpired(sessionTimeoutMillis)) {
+            session = relogin(null == session ? null : session.sessionId);
+        }
+        return session.sessionId;
+    }
+
+    /**
+     * @return 当前未过期的凭证，需要登录时返回 null，不会阻塞
+     */
+    String currentToken() {
+        if (null != accessToken) {
+            return accessToken;
+        }
+        Session session = current;
+        return null == session || session.isExpired(sessionTimeoutMillis) ? null : session.sessionId;
+    }
+
+    /**
+     * @return 是否可以重新登录，使用访问令牌时不能
+     */
+    boolean canRelogin() {
+        return null == accessToken;
+    }
+
+    /**
+     * 使用当前凭证调用接口，返回 401 时重新登录后重试一次
+     * @param call 接口调用，普通接口抛出 {@link FeignException}，上传接口抛出 {@link HttpStatusException}
+     * @return
+     */
+    public <T> T execute(Function<String, T> call) {
+        String token = getToken();
+        try {
+            return call.apply(token);
+        } catch (FeignException | HttpStatusException e) {
+            if (status(e) != HTTP_UNAUTHORIZED || null != accessToken) {
+                throw e;
+            }
+            LOGGER.warn("session of user:{} expired, login again.", userName);
+            return call.apply(relogin(token).sessionId);
+        }
+    }
+
+    private static int status(RuntimeException e) {
+        return e instanceof FeignException ? ((FeignException) e).status() : ((HttpStatusException) e).status();
+    }
+
+    /**
+     * 重新登录。若会话已被其他线程刷新则直接返回新会话，并发调用共享同一次登录请求。
+     * @param staleToken 调用方认为已失效的 sessionId
+     * @return
+     */
+    Session relogin(String staleToken) {
+        Session session = current;
+        if (null != session && !StringUtils.equals(session.sessionId, staleToken) && !session.isExpired(sessionTimeoutMillis)) {
+            return session;
+        }
+        CompletableFuture<Session> future = new CompletableFuture<>();
+        while (!inflightLogin.compareAndSet(null, future)) {
+            CompletableFuture<Session> inflight = inflightLogin.get();
+            if (null != inflight) {
+                return join(inflight);
+            }
+        }
+        try {
+            // 抢到登录权之前可能已有其他线程完成了刷新
+            session = current;
+            if (null != session && !StringUtils.equals(session.sessionId, staleToken) && !session.isExpired(sessionTimeoutMillis)) {
+                future.complete(session);
+                return session;
+            }
+            Session fresh = login();
+            current = fresh;
+            scheduleRefresh(fresh);
+            future.complete(fresh);
+            return fresh;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightLogin.set(null);
+        }
+    }
+
+    private Session login() {
+        Result result = dsRemoteApiService.login(userName, passWord);
+        if (null == result || !Boolean.TRUE.equals(result.getSuccess())) {
+            throw new RuntimeException("login dolphinScheduler failed: " + (null == result ? "no response" : result.getMsg()));
+        }
+        String sessionId = null == result.getData() ? null : StringUtils.trimToNull(String.valueOf(result.getData().get("sessionId")));
+        if (null == sessionId || "null".equals(sessionId)) {
+            throw new RuntimeException("login to dolphinScheduler failed! not sessionId found");
+        }
+        LOGGER.info("user:{} Login to dolphinScheduler succeeded !", userName);
+        return new Session(sessionId, System.currentTimeMillis());
+    }
+
+    private void scheduleRefresh(Session session) {
+        ScheduledExecutorService executor = refresher;
+        if (null == executor || executor.isShutdown()) {
+            return;
+        }
+        ScheduledFuture<?> previous = refreshTask;
+        if (null != previous) {
+            previous.cancel(false);
+        }
+        long delay = (long) (sessionTimeoutMillis * refreshRatio);
+        refreshTask = executor.schedule(() -> refresh(session.sessionId), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh(String token) {
+        try {
+            relogin(token);
+        } catch (Exception e) {
+            LOGGER.error("refresh session of user:{} failed, retry in {} ms.", userName, REFRESH_RETRY_MILLIS, e);
+            ScheduledExecutorService executor = refresher;
+            if (null != executor && !executor.isShutdown()) {
+                refreshTask = executor.schedule(() -> refresh(token), REFRESH_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private static Session join(CompletableFuture<Session> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (null != refresher) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * 登录会话
+     */
+    static final class Session {
+
+        final String sessionId;
+
+        final long loginTime;
+
+        Session(String sessionId, long loginTime) {
+            this.sessionId = sessionId;
+            this.loginTime = loginTime;
+        }
+
+        boolean isExpired(long timeoutMillis) {
+            return System.currentTimeMillis() - loginTime >= timeoutMillis;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+/**
+ * 异步 API 的传输方式
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public enum TransportMode {
+
+    /**
+     * 在线程池中调用同步接口
+     */
+    SYNC,
+
+    /**
+     * 使用非阻塞 HTTP 客户端
+     */
+    ASYNC
+}
@@ -0,0 +1,93 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+/**
+ * 带类型的接口返回，data 由解码器直接反序列化为对应的模型
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class DsResult<T> {
+
+    /**
+     * Code编码
+     */
+    private Integer code;
+
+    /**
+     * 消息体
+     */
+    private String msg;
+
+    /**
+     * 数据
+     */
+    private T data;
+
+    /**
+     * 失败标记
+     */
+    private Boolean failed;
+
+    /**
+     * 成功标记
+     */
+    private Boolean success;
+
+    /**
+     * @return code 为 0 时表示成功
+     */
+    public boolean isOk() {
+        return code != null && code == 0;
+    }
+
+    public Integer getCode() {
+        return code;
+    }
+
+    public void setCode(Integer code) {
+        this.code = code;
+    }
+
+    public String getMsg() {
+        return msg;
+    }
+
+    public void setMsg(String msg) {
+        this.msg = msg;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    public Boolean getFailed() {
+        return failed;
+    }
+
+    public void setFailed(Boolean failed) {
+        this.failed = failed;
+    }
+
+    public Boolean getSuccess() {
+        return success;
+    }
+
+    public void setSuccess(Boolean success) {
+        this.success = success;
+    }
+
+    @Override
+    public String toString() {
+        return "DsResult{" +
+                "code=" + code +
+                ", msg='" + msg + '\'' +
+                ", data=" + data +
+                ", failed=" + failed +
+                ", success=" + success +
+                '}';
+    }
+}
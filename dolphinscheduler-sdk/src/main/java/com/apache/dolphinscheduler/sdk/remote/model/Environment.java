@@ -0,0 +1,120 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 环境
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class Environment {
+
+    private Integer id;
+
+    private Long code;
+
+    private String name;
+
+    /**
+     * 环境变量配置
+     */
+    private String config;
+
+    private String description;
+
+    /**
+     * 可使用该环境的 worker group
+     */
+    private List<String> workerGroups;
+
+    private Integer operator;
+
+    private Date createTime;
+
+    private Date updateTime;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Long getCode() {
+        return code;
+    }
+
+    public void setCode(Long code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getConfig() {
+        return config;
+    }
+
+    public void setConfig(String config) {
+        this.config = config;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<String> getWorkerGroups() {
+        return workerGroups == null ? Collections.emptyList() : workerGroups;
+    }
+
+    public void setWorkerGroups(List<String> workerGroups) {
+        this.workerGroups = workerGroups;
+    }
+
+    public Integer getOperator() {
+        return operator;
+    }
+
+    public void setOperator(Integer operator) {
+        this.operator = operator;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public Date getUpdateTime() {
+        return updateTime;
+    }
+
+    public void setUpdateTime(Date updateTime) {
+        this.updateTime = updateTime;
+    }
+
+    @Override
+    public String toString() {
+        return "Environment{" +
+                "id=" + id +
+                ", code=" + code +
+                ", name='" + name + '\'' +
+                ", workerGroups=" + workerGroups +
+                '}';
+    }
+}
@@ -0,0 +1,185 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+/**
+ * master/worker 上报的心跳与负载信息
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class HeartBeat {
+
+    private long startupTime;
+
+    private long reportTime;
+
+    /**
+     * CPU 使用率
+     */
+    private double cpuUsage;
+
+    /**
+     * 内存使用率
+     */
+    private double memoryUsage;
+
+    /**
+     * 系统负载
+     */
+    private double loadAverage;
+
+    /**
+     * 可用物理内存，G
+     */
+    private double availablePhysicalMemorySize;
+
+    private double maxCpuloadAvg;
+
+    private double reservedMemory;
+
+    private double diskAvailable;
+
+    private int processId;
+
+    /**
+     * 0 正常，1 繁忙
+     */
+    private int serverStatus;
+
+    private int workerHostWeight;
+
+    /**
+     * 等待执行的任务数
+     */
+    private int workerWaitingTaskCount;
+
+    /**
+     * 执行线程数
+     */
+    private int workerExecThreadCount;
+
+    public long getStartupTime() {
+        return startupTime;
+    }
+
+    public void setStartupTime(long startupTime) {
+        this.startupTime = startupTime;
+    }
+
+    public long getReportTime() {
+        return reportTime;
+    }
+
+    public void setReportTime(long reportTime) {
+        this.reportTime = reportTime;
+    }
+
+    public double getCpuUsage() {
+        return cpuUsage;
+    }
+
+    public void setCpuUsage(double cpuUsage) {
+        this.cpuUsage = cpuUsage;
+    }
+
+    public double getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    public void setMemoryUsage(double memoryUsage) {
+        this.memoryUsage = memoryUsage;
+    }
+
+    public double getLoadAverage() {
+        return loadAverage;
+    }
+
+    public void setLoadAverage(double loadAverage) {
+        this.loadAverage = loadAverage;
+    }
+
+    public double getAvailablePhysicalMemorySize() {
+        return availablePhysicalMemorySize;
+    }
+
+    public void setAvailablePhysicalMemorySize(double availablePhysicalMemorySize) {
+        this.availablePhysicalMemorySize = availablePhysicalMemorySize;
+    }
+
+    public double getMaxCpuloadAvg() {
+        return maxCpuloadAvg;
+    }
+
+    public void setMaxCpuloadAvg(double maxCpuloadAvg) {
+        this.maxCpuloadAvg = maxCpuloadAvg;
+    }
+
+    public double getReservedMemory() {
+        return reservedMemory;
+    }
+
+    public void setReservedMemory(double reservedMemory) {
+        this.reservedMemory = reservedMemory;
+    }
+
+    public double getDiskAvailable() {
+        return diskAvailable;
+    }
+
+    public void setDiskAvailable(double diskAvailable) {
+        this.diskAvailable = diskAvailable;
+    }
+
+    public int getProcessId() {
+        return processId;
+    }
+
+    public void setProcessId(int processId) {
+        this.processId = processId;
+    }
+
+    public int getServerStatus() {
+        return serverStatus;
+    }
+
+    public void setServerStatus(int serverStatus) {
+        this.serverStatus = serverStatus;
+    }
+
+    public int getWorkerHostWeight() {
+        return workerHostWeight;
+    }
+
+    public void setWorkerHostWeight(int workerHostWeight) {
+        this.workerHostWeight = workerHostWeight;
+    }
+
+    public int getWorkerWaitingTaskCount() {
+        return workerWaitingTaskCount;
+    }
+
+    public void setWorkerWaitingTaskCount(int workerWaitingTaskCount) {
+        this.workerWaitingTaskCount = workerWaitingTaskCount;
+    }
+
+    public int getWorkerExecThreadCount() {
+        return workerExecThreadCount;
+    }
+
+    public void setWorkerExecThreadCount(int workerExecThreadCount) {
+        this.workerExecThreadCount = workerExecThreadCount;
+    }
+
+    @Override
+    public String toString() {
+        return "HeartBeat{" +
+                "cpuUsage=" + cpuUsage +
+                ", memoryUsage=" + memoryUsage +
+                ", loadAverage=" + loadAverage +
+                ", availablePhysicalMemorySize=" + availablePhysicalMemorySize +
+                ", serverStatus=" + serverStatus +
+                ", workerWaitingTaskCount=" + workerWaitingTaskCount +
+                ", workerExecThreadCount=" + workerExecThreadCount +
+                ", reportTime=" + reportTime +
+                '}';
+    }
+}
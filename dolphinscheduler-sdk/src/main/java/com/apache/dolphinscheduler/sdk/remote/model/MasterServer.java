@@ -0,0 +1,129 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.annotation.JSONField;
+
+import java.util.Date;
+
+/**
+ * master 节点信息
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class MasterServer {
+
+    private Integer id;
+
+    private String host;
+
+    private Integer port;
+
+    /**
+     * 注册中心路径，最后一段为 host:port
+     */
+    private String zkDirectory;
+
+    /**
+     * 心跳信息，JSON 字符串
+     */
+    private String resInfo;
+
+    private Date createTime;
+
+    private Date lastHeartbeatTime;
+
+    @JSONField(serialize = false, deserialize = false)
+    private transient HeartBeat heartBeat;
+
+    /**
+     * @return 注册中心路径中的 host:port，没有时为 null
+     */
+    public String getAddress() {
+        if (zkDirectory == null) {
+            return null;
+        }
+        int index = zkDirectory.lastIndexOf('/');
+        String address = (index < 0 ? zkDirectory : zkDirectory.substring(index + 1)).trim();
+        return address.isEmpty() ? null : address;
+    }
+
+    /**
+     * @return 解析后的心跳信息，没有时为 null
+     */
+    public HeartBeat getHeartBeat() {
+        if (heartBeat == null && resInfo != null && resInfo.startsWith("{")) {
+            heartBeat = JSON.parseObject(resInfo, HeartBeat.class);
+        }
+        return heartBeat;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public Integer getPort() {
+        return port;
+    }
+
+    public void setPort(Integer port) {
+        this.port = port;
+    }
+
+    public String getZkDirectory() {
+        return zkDirectory;
+    }
+
+    public void setZkDirectory(String zkDirectory) {
+        this.zkDirectory = zkDirectory;
+    }
+
+    public String getResInfo() {
+        return resInfo;
+    }
+
+    public void setResInfo(String resInfo) {
+        this.resInfo = resInfo;
+        this.heartBeat = null;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public Date getLastHeartbeatTime() {
+        return lastHeartbeatTime;
+    }
+
+    public void setLastHeartbeatTime(Date lastHeartbeatTime) {
+        this.lastHeartbeatTime = lastHeartbeatTime;
+    }
+
+    @Override
+    public String toString() {
+        return "MasterServer{" +
+                "id=" + id +
+                ", host='" + host + '\'' +
+                ", port=" + port +
+                ", zkDirectory='" + zkDirectory + '\'' +
+                ", resInfo='" + resInfo + '\'' +
+                ", lastHeartbeatTime=" + lastHeartbeatTime +
+                '}';
+    }
+}
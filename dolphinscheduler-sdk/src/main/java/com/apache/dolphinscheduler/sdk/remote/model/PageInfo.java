@@ -0,0 +1,93 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 分页查询结果
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class PageInfo<T> {
+
+    /**
+     * 当页数据
+     */
+    private List<T> totalList;
+
+    /**
+     * 总条数
+     */
+    private Integer total;
+
+    /**
+     * 总页数
+     */
+    private Integer totalPage;
+
+    private Integer pageSize;
+
+    private Integer currentPage;
+
+    private Integer pageNo;
+
+    public List<T> getTotalList() {
+        return totalList == null ? Collections.emptyList() : totalList;
+    }
+
+    public void setTotalList(List<T> totalList) {
+        this.totalList = totalList;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    public Integer getTotalPage() {
+        return totalPage;
+    }
+
+    public void setTotalPage(Integer totalPage) {
+        this.totalPage = totalPage;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Integer getCurrentPage() {
+        return currentPage;
+    }
+
+    public void setCurrentPage(Integer currentPage) {
+        this.currentPage = currentPage;
+    }
+
+    public Integer getPageNo() {
+        return pageNo;
+    }
+
+    public void setPageNo(Integer pageNo) {
+        this.pageNo = pageNo;
+    }
+
+    @Override
+    public String toString() {
+        return "PageInfo{" +
+                "totalList=" + totalList +
+                ", total=" + total +
+                ", totalPage=" + totalPage +
+                ", pageSize=" + pageSize +
+                ", currentPage=" + currentPage +
+                '}';
+    }
+}
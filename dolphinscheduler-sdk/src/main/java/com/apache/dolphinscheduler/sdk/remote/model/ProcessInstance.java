@@ -0,0 +1,135 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+import java.util.Date;
+
+/**
+ * 工作流实例
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class ProcessInstance {
+
+    private Integer id;
+
+    private String name;
+
+    private Long processDefinitionCode;
+
+    /**
+     * 实例状态，ExecutionStatus 的名称，如 RUNNING_EXECUTION、SUCCESS
+     */
+    private String state;
+
+    private String commandType;
+
+    /**
+     * 命令创建时间，即提交时间
+     */
+    private Date commandStartTime;
+
+    private Date scheduleTime;
+
+    private Date startTime;
+
+    private Date endTime;
+
+    /**
+     * 执行该实例的 master
+     */
+    private String host;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getProcessDefinitionCode() {
+        return processDefinitionCode;
+    }
+
+    public void setProcessDefinitionCode(Long processDefinitionCode) {
+        this.processDefinitionCode = processDefinitionCode;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getCommandType() {
+        return commandType;
+    }
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public Date getCommandStartTime() {
+        return commandStartTime;
+    }
+
+    public void setCommandStartTime(Date commandStartTime) {
+        this.commandStartTime = commandStartTime;
+    }
+
+    public Date getScheduleTime() {
+        return scheduleTime;
+    }
+
+    public void setScheduleTime(Date scheduleTime) {
+        this.scheduleTime = scheduleTime;
+    }
+
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Date startTime) {
+        this.startTime = startTime;
+    }
+
+    public Date getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Date endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessInstance{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", processDefinitionCode=" + processDefinitionCode +
+                ", state='" + state + '\'' +
+                ", commandStartTime=" + commandStartTime +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", host='" + host + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+/**
+ * 启动工作流实例的返回
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class SubmitResponse {
+
+    /**
+     * command id，用于订阅实例状态
+     */
+    private Integer id;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    @Override
+    public String toString() {
+        return "SubmitResponse{" +
+                "id=" + id +
+                '}';
+    }
+}
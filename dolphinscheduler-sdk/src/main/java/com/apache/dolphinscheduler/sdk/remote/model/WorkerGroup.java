@@ -0,0 +1,105 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+import java.util.Date;
+
+/**
+ * worker 分组
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class WorkerGroup {
+
+    private Integer id;
+
+    private String name;
+
+    /**
+     * worker 地址列表，逗号分隔
+     */
+    private String addrList;
+
+    private String description;
+
+    private String otherParamsJson;
+
+    private boolean systemDefault;
+
+    private Date createTime;
+
+    private Date updateTime;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAddrList() {
+        return addrList;
+    }
+
+    public void setAddrList(String addrList) {
+        this.addrList = addrList;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getOtherParamsJson() {
+        return otherParamsJson;
+    }
+
+    public void setOtherParamsJson(String otherParamsJson) {
+        this.otherParamsJson = otherParamsJson;
+    }
+
+    public boolean isSystemDefault() {
+        return systemDefault;
+    }
+
+    public void setSystemDefault(boolean systemDefault) {
+        this.systemDefault = systemDefault;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public Date getUpdateTime() {
+        return updateTime;
+    }
+
+    public void setUpdateTime(Date updateTime) {
+        this.updateTime = updateTime;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkerGroup{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", addrList='" + addrList + '\'' +
+                ", systemDefault=" + systemDefault +
+                '}';
+    }
+}
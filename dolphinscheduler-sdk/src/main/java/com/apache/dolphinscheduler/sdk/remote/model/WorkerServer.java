@@ -0,0 +1,109 @@
+package com.apache.dolphinscheduler.sdk.remote.model;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * worker 节点信息
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class WorkerServer {
+
+    private Integer id;
+
+    private String host;
+
+    private Integer port;
+
+    /**
+     * 注册中心路径，形如 /nodes/worker/{workerGroup}/{host:port}
+     */
+    private List<String> zkDirectories;
+
+    /**
+     * 心跳信息
+     */
+    private HeartBeat heartBeatInfo;
+
+    private Date createTime;
+
+    private Date lastHeartbeatTime;
+
+    /**
+     * @return host:port
+     */
+    public String getAddress() {
+        return host + ":" + port;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public Integer getPort() {
+        return port;
+    }
+
+    public void setPort(Integer port) {
+        this.port = port;
+    }
+
+    public List<String> getZkDirectories() {
+        return zkDirectories == null ? Collections.emptyList() : zkDirectories;
+    }
+
+    public void setZkDirectories(List<String> zkDirectories) {
+        this.zkDirectories = zkDirectories;
+    }
+
+    public HeartBeat getHeartBeatInfo() {
+        return heartBeatInfo;
+    }
+
+    public void setHeartBeatInfo(HeartBeat heartBeatInfo) {
+        this.heartBeatInfo = heartBeatInfo;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public Date getLastHeartbeatTime() {
+        return lastHeartbeatTime;
+    }
+
+    public void setLastHeartbeatTime(Date lastHeartbeatTime) {
+        this.lastHeartbeatTime = lastHeartbeatTime;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkerServer{" +
+                "id=" + id +
+                ", host='" + host + '\'' +
+                ", port=" + port +
+                ", zkDirectories=" + zkDirectories +
+                ", heartBeatInfo=" + heartBeatInfo +
+                ", lastHeartbeatTime=" + lastHeartbeatTime +
+                '}';
+    }
+}
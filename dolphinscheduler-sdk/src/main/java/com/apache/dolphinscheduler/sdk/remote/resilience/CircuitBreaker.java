@@ -0,0 +1,221 @@
+package com.apache.dolphinscheduler.sdk.remote.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * API 服务熔断器。
+ * <p>
+ * 连续失败达到阈值后打开，打开期间的调用直接失败；经过 openDuration 后进入半开，
+ * 只放行有限个试探调用，试探成功则关闭，失败则重新打开。状态变化次数可通过 {@link #getMetrics()} 获取。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class CircuitBreaker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 状态变化监听
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateChange(State from, State to);
+    }
+
+    private final String name;
+
+    private final int failureThreshold;
+
+    private final long openDurationMillis;
+
+    private final int halfOpenMaxCalls;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicInteger halfOpenCalls = new AtomicInteger();
+
+    private volatile long openedAt;
+
+    private final AtomicLong opened = new AtomicLong();
+
+    private final AtomicLong halfOpened = new AtomicLong();
+
+    private final AtomicLong closed = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final List<StateListener> listeners = new CopyOnWriteArrayList<>();
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMillis, int halfOpenMaxCalls) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationMillis = Math.max(0, openDurationMillis);
+        this.halfOpenMaxCalls = Math.max(1, halfOpenMaxCalls);
+    }
+
+    /**
+     * 调用前检查，熔断中时抛出 {@link CircuitBreakerOpenException}
+     */
+    public void acquire() {
+        State current = state.get();
+        if (current == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis || !transition(State.OPEN, State.HALF_OPEN)) {
+                reject();
+            }
+            current = State.HALF_OPEN;
+        }
+        if (current == State.HALF_OPEN && halfOpenCalls.incrementAndGet() > halfOpenMaxCalls) {
+            halfOpenCalls.decrementAndGet();
+            reject();
+        }
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    public void onFailure() {
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.OPEN);
+        } else if (current == State.CLOSED && consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            transition(State.CLOSED, State.OPEN);
+        }
+    }
+
+    /**
+     * 调用未完成（如被其他原因中断）时释放半开名额
+     */
+    public void release() {
+        if (state.get() == State.HALF_OPEN) {
+            halfOpenCalls.updateAndGet(v -> Math.max(0, v - 1));
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public void addListener(StateListener listener) {
+        listeners.add(listener);
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(state.get(), consecutiveFailures.get(), opened.get(), halfOpened.get(), closed.get(), rejected.get());
+    }
+
+    private void reject() {
+        rejected.incrementAndGet();
+        throw new CircuitBreakerOpenException("circuit breaker [" + name + "] is open, call rejected");
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        switch (to) {
+            case OPEN:
+                openedAt = System.currentTimeMillis();
+                opened.incrementAndGet();
+                break;
+            case HALF_OPEN:
+                halfOpenCalls.set(0);
+                halfOpened.incrementAndGet();
+                break;
+            case CLOSED:
+                consecutiveFailures.set(0);
+                closed.incrementAndGet();
+                break;
+            default:
+        }
+        LOGGER.warn("circuit breaker [{}] {} -> {}", name, from, to);
+        for (StateListener listener : listeners) {
+            try {
+                listener.onStateChange(from, to);
+            } catch (Exception e) {
+                LOGGER.error("circuit breaker listener error", e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 熔断器指标快照
+     */
+    public static class Metrics {
+
+        private final State state;
+
+        private final int consecutiveFailures;
+
+        private final long openedCount;
+
+        private final long halfOpenedCount;
+
+        private final long closedCount;
+
+        private final long rejectedCount;
+
+        Metrics(State state, int consecutiveFailures, long openedCount, long halfOpenedCount, long closedCount, long rejectedCount) {
+            this.state = state;
+            this.consecutiveFailures = consecutiveFailures;
+            this.openedCount = openedCount;
+            this.halfOpenedCount = halfOpenedCount;
+            this.closedCount = closedCount;
+            this.rejectedCount = rejectedCount;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public int getConsecutiveFailures() {
+            return consecutiveFailures;
+        }
+
+        public long getOpenedCount() {
+            return openedCount;
+        }
+
+        public long getHalfOpenedCount() {
+            return halfOpenedCount;
+        }
+
+        public long getClosedCount() {
+            return closedCount;
+        }
+
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{" +
+                    "state=" + state +
+                    ", consecutiveFailures=" + consecutiveFailures +
+                    ", opened=" + openedCount +
+                    ", halfOpened=" + halfOpenedCount +
+                    ", closed=" + closedCount +
+                    ", rejected=" + rejectedCount +
+                    '}';
+        }
+    }
+}
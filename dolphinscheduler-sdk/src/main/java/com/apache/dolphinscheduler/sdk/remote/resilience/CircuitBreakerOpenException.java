@@ -0,0 +1,14 @@
+package com.apache.dolphinscheduler.sdk.remote.resilience;
+
+/**
+ * 熔断器打开时快速失败
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,70 @@
+package com.apache.dolphinscheduler.sdk.remote.resilience;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 重试策略，指数退避并加入随机抖动，避免大量调用方同时重试
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class RetryPolicy {
+
+    /**
+     * 不重试
+     */
+    public static final RetryPolicy NEVER = new RetryPolicy(1, 0, 0, 1D);
+
+    /**
+     * 最大尝试次数，含第一次调用
+     */
+    private final int maxAttempts;
+
+    private final long initialBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    private final double multiplier;
+
+    public RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis, double multiplier) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(0, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+        this.multiplier = Math.max(1D, multiplier);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 第 attempt 次失败后的等待时间，在 [上限/2, 上限] 之间随机
+     * @param attempt 已失败的次数，从 1 开始
+     * @return 毫秒
+     */
+    public long backoffMillis(int attempt) {
+        double ceiling = initialBackoffMillis * Math.pow(multiplier, Math.max(0, attempt - 1));
+        long bound = (long) Math.min(maxBackoffMillis, ceiling);
+        if (bound <= 1) {
+            return bound;
+        }
+        return ThreadLocalRandom.current().nextLong(bound / 2, bound + 1);
+    }
+
+    /**
+     * 使用新的尝试次数复制策略
+     */
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, initialBackoffMillis, maxBackoffMillis, multiplier);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialBackoffMillis=" + initialBackoffMillis +
+                ", maxBackoffMillis=" + maxBackoffMillis +
+                ", multiplier=" + multiplier +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import com.apache.dolphinscheduler.sdk.remote.Result;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 分片上传结果
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class ChunkedUploadResult {
+
+    private final String name;
+
+    private final List<PartResult> parts;
+
+    private final long elapsedNanos;
+
+    public ChunkedUploadResult(String name, List<PartResult> parts, long elapsedNanos) {
+        this.name = name;
+        this.parts = Collections.unmodifiableList(parts);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<PartResult> getParts() {
+        return parts;
+    }
+
+    public boolean isSuccess() {
+        return parts.stream().allMatch(PartResult::isSuccess);
+    }
+
+    public List<PartResult> getFailedParts() {
+        return parts.stream().filter(p -> !p.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * 本次实际发送的字节数，断点续传跳过的分片不计入
+     */
+    public long getUploadedBytes() {
+        return parts.stream().filter(p -> p.isSuccess() && !p.isResumed()).mapToLong(p -> p.getPart().getLength()).sum();
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * 吞吐量，字节/秒
+     */
+    public double getBytesPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0D;
+        }
+        return getUploadedBytes() * 1_000_000_000D / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkedUploadResult{" +
+                "name='" + name + '\'' +
+                ", parts=" + parts.size() +
+                ", failed=" + getFailedParts().size() +
+                ", uploadedBytes=" + getUploadedBytes() +
+                ", elapsedMillis=" + getElapsedMillis() +
+                ", MB/s=" + String.format("%.2f", getBytesPerSecond() / (1024 * 1024)) +
+                '}';
+    }
+
+    /**
+     * 单个分片的上传结果
+     */
+    public static class PartResult {
+
+        private final FilePart part;
+
+        private final String checksum;
+
+        /**
+         * 是否是断点记录中已完成、本次跳过的分片
+         */
+        private final boolean resumed;
+
+        private final int attempts;
+
+        private final Result result;
+
+        private final Throwable error;
+
+        public PartResult(FilePart part, String checksum, boolean resumed, int attempts, Result result, Throwable error) {
+            this.part = part;
+            this.checksum = checksum;
+            this.resumed = resumed;
+            this.attempts = attempts;
+            this.result = result;
+            this.error = error;
+        }
+
+        public FilePart getPart() {
+            return part;
+        }
+
+        public String getChecksum() {
+            return checksum;
+        }
+
+        public boolean isResumed() {
+            return resumed;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public Result getResult() {
+            return result;
+        }
+
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
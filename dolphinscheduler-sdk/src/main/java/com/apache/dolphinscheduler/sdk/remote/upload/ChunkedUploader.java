@@ -0,0 +1,215 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import cn.hutool.crypto.SecureUtil;
+import com.apache.dolphinscheduler.sdk.remote.Result;
+import com.apache.dolphinscheduler.sdk.remote.resilience.CircuitBreakerOpenException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 大文件分片并行上传。
+ * <p>
+ * 文件按固定大小切分，每个分片在线程池中各自计算校验和并上传，并发数受 parallelism 限制；
+ * 单个分片失败只重试该分片，没有收到响应的尝试之后重试返回资源已存在时视为已上传；已完成的分片记录在本地 {@link UploadManifest} 中，
+ * 再次上传同一文件时跳过校验和一致的分片。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class ChunkedUploader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedUploader.class);
+
+    private static final String CHECKSUM_ALGORITHM = "MD5";
+
+    /**
+     * DolphinScheduler 资源已存在的状态码（Status.RESOURCE_EXIST）
+     */
+    static final int RESOURCE_EXIST = 20005;
+
+    private final long partSize;
+
+    private final int parallelism;
+
+    private final int maxRetries;
+
+    private final long retryBackoffMillis;
+
+    private final Path stateDir;
+
+    public ChunkedUploader(long partSize, int parallelism, int maxRetries, long retryBackoffMillis, Path stateDir) {
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("partSize must be positive");
+        }
+        this.partSize = partSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+        this.stateDir = stateDir;
+    }
+
+    /**
+     * 切分文件
+     * @param file 文件
+     * @param name 资源名称，分片名为 name.part-00000
+     * @return
+     */
+    public List<FilePart> split(File file, String name) {
+        long length = file.length();
+        int count = (int) Math.max(1, (length + partSize - 1) / partSize);
+        List<FilePart> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long offset = i * partSize;
+            parts.add(new FilePart(file, i, offset, Math.min(partSize, length - offset), partName(name, i)));
+        }
+        return parts;
+    }
+
+    /**
+     * 分片上传，返回时所有分片均已结束（成功或重试耗尽）
+     * @param file 文件
+     * @param name 资源名称
+     * @param uploader 单个分片的上传实现
+     * @return
+     */
+    public ChunkedUploadResult upload(File file, String name, PartUploader uploader) {
+        if (!file.isFile()) {
+            throw new IllegalArgumentException("file not found: " + file);
+        }
+        return upload(file, name, split(file, name), uploader);
+    }
+
+    /**
+     * 上传已切分好的分片，返回时所有分片均已结束（成功或重试耗尽）
+     * @param file 文件
+     * @param name 资源名称
+     * @param parts {@link #split(File, String)} 的结果
+     * @param uploader 单个分片的上传实现
+     * @return
+     */
+    public ChunkedUploadResult upload(File file, String name, List<FilePart> parts, PartUploader uploader) {
+        if (!file.isFile()) {
+            throw new IllegalArgumentException("file not found: " + file);
+        }
+        final UploadManifest manifest = UploadManifest.load(
+                stateDir.resolve(SecureUtil.md5(file.getAbsolutePath() + ":" + name) + ".upload"), file, partSize);
+        if (manifest.completedCount() > 0) {
+            LOGGER.info("resume upload {}: {}/{} parts already uploaded", name, manifest.completedCount(), parts.size());
+        }
+
+        final long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, parts.size()),
+                new ThreadFactoryBuilder().setNameFormat("ds-upload-" + name + "-%d").setDaemon(true).build());
+        List<ChunkedUploadResult.PartResult> results = new ArrayList<>(parts.size());
+        try {
+            List<Future<ChunkedUploadResult.PartResult>> futures = new ArrayList<>(parts.size());
+            for (FilePart part : parts) {
+                futures.add(executor.submit(() -> uploadPart(part, manifest, uploader)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(new ChunkedUploadResult.PartResult(parts.get(i), null, false, 0, null, e.getCause()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("upload interrupted: " + name, e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ChunkedUploadResult result = new ChunkedUploadResult(name, results, System.nanoTime() - start);
+        if (result.isSuccess()) {
+            manifest.delete();
+            LOGGER.info("upload finished: {}", result);
+        } else {
+            LOGGER.warn("upload incomplete, failed parts will be resumed next time: {}", result);
+        }
+        return result;
+    }
+
+    private ChunkedUploadResult.PartResult uploadPart(FilePart part, UploadManifest manifest, PartUploader uploader) {
+        String checksum;
+        try {
+            checksum = FileDigests.digest(part.getFile(), part.getOffset(), part.getLength(), CHECKSUM_ALGORITHM);
+        } catch (Exception e) {
+            return new ChunkedUploadResult.PartResult(part, null, false, 0, null, e);
+        }
+        if (manifest.isCompleted(part.getIndex(), checksum)) {
+            return new ChunkedUploadResult.PartResult(part, checksum, true, 0, null, null);
+        }
+
+        Throwable error = null;
+        Result result = null;
+        int attempt = 0;
+        boolean uploaded = false;
+        // 上一次尝试没有收到响应，服务端可能已经保存了该分片
+        boolean inDoubt = false;
+        while (attempt <= maxRetries && !Thread.currentThread().isInterrupted()) {
+            attempt++;
+            try {
+                result = uploader.upload(part);
+                if (result != null && result.getCode() != null && result.getCode() == 0) {
+                    uploaded = true;
+                    break;
+                }
+                if (inDoubt && result != null && result.getCode() != null && result.getCode() == RESOURCE_EXIST) {
+                    // 上一次尝试超时但服务端已保存了该分片
+                    LOGGER.info("upload {} attempt {}: part already stored by an earlier attempt", part.getName(), attempt);
+                    uploaded = true;
+                    break;
+                }
+                inDoubt = false;
+                error = new RuntimeException("upload part failed: " + (result == null ? "no response" : result.getMsg()));
+            } catch (CircuitBreakerOpenException e) {
+                // 熔断期间不再重试，留待下次续传
+                error = e;
+                LOGGER.warn("upload {} rejected: {}", part.getName(), e.getMessage());
+                break;
+            } catch (Exception e) {
+                error = e;
+                inDoubt = true;
+            }
+            LOGGER.warn("upload {} attempt {} failed: {}", part.getName(), attempt, error.getMessage());
+            if (attempt <= maxRetries) {
+                try {
+                    Thread.sleep(retryBackoffMillis * attempt);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        if (!uploaded && error == null) {
+            // 第一次尝试前就被中断
+            error = new InterruptedException("upload " + part.getName() + " interrupted");
+        }
+        if (!uploaded) {
+            return new ChunkedUploadResult.PartResult(part, checksum, false, attempt, result, error);
+        }
+        // 服务端已接受该分片，记录失败只影响断点续传，不重新上传
+        try {
+            manifest.complete(part.getIndex(), checksum);
+        } catch (IOException e) {
+            LOGGER.warn("record uploaded part {} in manifest failed, it will be uploaded again on resume: {}",
+                    part.getName(), e.getMessage());
+        }
+        return new ChunkedUploadResult.PartResult(part, checksum, false, attempt, result, null);
+    }
+
+    public static String partName(String name, int index) {
+        return String.format("%s.part-%05d", name, index);
+    }
+}
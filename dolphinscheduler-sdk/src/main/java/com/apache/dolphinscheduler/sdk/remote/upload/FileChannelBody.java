@@ -0,0 +1,85 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于 {@link FileChannel#transferTo} 的文件上传体。
+ * <p>
+ * 文件内容只在真正写出请求时才打开，直接由通道写入连接的输出流，不在堆上缓存整个文件；
+ * 同时支持只发送文件的某一段（offset + length），供分片上传使用。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class FileChannelBody extends AbstractContentBody {
+
+    private final File file;
+
+    private final long position;
+
+    private final long length;
+
+    private final String filename;
+
+    public FileChannelBody(File file) {
+        this(file, 0, file.length(), file.getName());
+    }
+
+    public FileChannelBody(File file, long position, long length, String filename) {
+        super(ContentType.APPLICATION_OCTET_STREAM);
+        if (position < 0 || length < 0 || position + length > file.length()) {
+            throw new IllegalArgumentException("invalid file region: " + file + " [" + position + ", " + (position + length) + ")");
+        }
+        this.file = file;
+        this.position = position;
+        this.length = length;
+        this.filename = filename;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long offset = position;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(offset, remaining, target);
+                if (transferred <= 0) {
+                    throw new IOException("unexpected end of file: " + file);
+                }
+                offset += transferred;
+                remaining -= transferred;
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public String getTransferEncoding() {
+        return MIME.ENC_BINARY;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    public File getFile() {
+        return file;
+    }
+}
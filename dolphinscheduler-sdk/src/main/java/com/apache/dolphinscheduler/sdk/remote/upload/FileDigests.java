@@ -0,0 +1,75 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 基于内存映射读取的文件摘要计算，不经过堆上的缓冲区拷贝
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class FileDigests {
+
+    /**
+     * 每次映射的窗口大小
+     */
+    private static final long MAP_WINDOW = 64L * 1024 * 1024;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private FileDigests() {
+    }
+
+    /**
+     * 计算整个文件的摘要
+     * @param file 文件
+     * @param algorithm 如 MD5、SHA-256
+     * @return 十六进制摘要
+     */
+    public static String digest(File file, String algorithm) throws IOException {
+        return digest(file, 0, file.length(), algorithm);
+    }
+
+    /**
+     * 计算文件某个区间的摘要
+     * @param file 文件
+     * @param offset 起始偏移
+     * @param length 长度
+     * @param algorithm 如 MD5、SHA-256
+     * @return 十六进制摘要
+     */
+    public static String digest(File file, long offset, long length, String algorithm) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("unsupported digest algorithm: " + algorithm, e);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long position = offset;
+            long end = offset + length;
+            while (position < end) {
+                long size = Math.min(MAP_WINDOW, end - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+                digest.update(buffer);
+                position += size;
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0F];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,76 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import java.io.File;
+
+/**
+ * 文件的一个分片，作为接口参数时由 DsClientFactory 以 multipart 方式只发送该区间的内容
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class FilePart {
+
+    /**
+     * 源文件
+     */
+    private final File file;
+
+    /**
+     * 分片序号，从 0 开始
+     */
+    private final int index;
+
+    /**
+     * 起始偏移
+     */
+    private final long offset;
+
+    /**
+     * 分片长度
+     */
+    private final long length;
+
+    /**
+     * 上传时使用的文件名
+     */
+    private final String name;
+
+    public FilePart(File file, int index, long offset, long length, String name) {
+        this.file = file;
+        this.index = index;
+        this.offset = offset;
+        this.length = length;
+        this.name = name;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "FilePart{" +
+                "file=" + file +
+                ", index=" + index +
+                ", offset=" + offset +
+                ", length=" + length +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 统计写出字节数、可强制 chunked 传输的请求体包装
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class MeteredHttpEntity extends HttpEntityWrapper {
+
+    private final String url;
+
+    private final boolean forceChunked;
+
+    private final UploadListener listener;
+
+    private volatile UploadStatistics statistics;
+
+    public MeteredHttpEntity(HttpEntity entity, String url, boolean forceChunked, UploadListener listener) {
+        super(entity);
+        this.url = url;
+        this.forceChunked = forceChunked;
+        this.listener = listener;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return forceChunked || super.isChunked();
+    }
+
+    @Override
+    public long getContentLength() {
+        return forceChunked ? -1 : super.getContentLength();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        final long total = super.getContentLength();
+        final long start = System.nanoTime();
+        CountingOutputStream counting = new CountingOutputStream(out, total);
+        super.writeTo(counting);
+        counting.flush();
+        this.statistics = new UploadStatistics(url, counting.count, System.nanoTime() - start, isChunked());
+        if (listener != null) {
+            listener.onComplete(statistics);
+        }
+    }
+
+    /**
+     * @return 写出完成后的统计，未写出时为 null
+     */
+    public UploadStatistics getStatistics() {
+        return statistics;
+    }
+
+    private final class CountingOutputStream extends FilterOutputStream {
+
+        private final long total;
+
+        private long count;
+
+        CountingOutputStream(OutputStream out, long total) {
+            super(out);
+            this.total = total;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+            progress();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+            progress();
+        }
+
+        private void progress() {
+            if (listener != null) {
+                listener.onProgress(count, total);
+            }
+        }
+    }
+}
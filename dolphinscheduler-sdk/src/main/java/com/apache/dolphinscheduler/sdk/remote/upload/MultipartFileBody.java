@@ -0,0 +1,53 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * {@link MultipartFile} 的流式上传体。
+ * <p>
+ * 输入流在写出请求时才打开、写完即关闭，不调用 {@link MultipartFile#getBytes()}，
+ * 且上报真实的文件大小，请求可以带上 Content-Length。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class MultipartFileBody extends AbstractContentBody {
+
+    private final MultipartFile file;
+
+    public MultipartFileBody(MultipartFile file) {
+        super(ContentType.APPLICATION_OCTET_STREAM);
+        this.file = file;
+    }
+
+    @Override
+    public String getFilename() {
+        return file.getOriginalFilename();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            StreamUtils.copy(in, out);
+        }
+    }
+
+    @Override
+    public String getTransferEncoding() {
+        return MIME.ENC_BINARY;
+    }
+
+    @Override
+    public long getContentLength() {
+        long size = file.getSize();
+        return size >= 0 ? size : -1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import com.apache.dolphinscheduler.sdk.remote.Result;
+
+/**
+ * 单个分片的上传实现
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+@FunctionalInterface
+public interface PartUploader {
+
+    /**
+     * 上传一个分片
+     * @param part 分片
+     * @return 接口返回，code 为 0 表示成功
+     */
+    Result upload(FilePart part);
+}
@@ -0,0 +1,146 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * 资源上传的内容寻址缓存。
+ * <p>
+ * 以 服务地址 + 用户 + 文件内容 SHA-256 + 资源类型 + 目录 + 名称 为键，记录已上传资源的 ID，持久化在本地索引文件中。
+ * 上传前先查索引，命中则跳过传输。文件的 大小+修改时间 与上次一致时直接复用上次的摘要，不再读取文件。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class ResourceUploadCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceUploadCache.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final String RESOURCE_PREFIX = "resource.";
+
+    private static final String STAT_PREFIX = "stat.";
+
+    private final Path indexFile;
+
+    private final Properties index = new Properties();
+
+    /**
+     * 服务地址，同一个索引文件可被连接不同服务的客户端共用
+     */
+    private final String server;
+
+    /**
+     * 上传资源的用户
+     */
+    private final String user;
+
+    /**
+     * @param indexFile 索引文件
+     * @param server 服务地址
+     * @param user 用户名
+     */
+    public ResourceUploadCache(Path indexFile, String server, String user) {
+        this.indexFile = indexFile;
+        this.server = StringUtils.trimToEmpty(server);
+        this.user = StringUtils.trimToEmpty(user);
+        if (Files.isRegularFile(indexFile)) {
+            try (InputStream in = Files.newInputStream(indexFile)) {
+                index.load(in);
+            } catch (IOException e) {
+                LOGGER.warn("read resource upload index {} failed, ignore it.", indexFile, e);
+                index.clear();
+            }
+        }
+    }
+
+    /**
+     * 计算缓存键，不同服务或用户上传的资源互不命中
+     * @param file 文件
+     * @param type 资源类型
+     * @param currentDir 目录
+     * @param name 资源名称
+     * @return
+     */
+    public String key(File file, String type, String currentDir, String name) throws IOException {
+        return server + ":" + user + ":" + hash(file) + ":" + type + ":" + currentDir + ":" + name;
+    }
+
+    /**
+     * @return 已上传资源的 ID，未命中或上传时没有返回 ID 时为 null
+     */
+    public String get(String key) {
+        String resourceId = index.getProperty(RESOURCE_PREFIX + key);
+        return null == resourceId || resourceId.isEmpty() ? null : resourceId;
+    }
+
+    /**
+     * 记录上传成功的资源
+     */
+    public synchronized void put(String key, String resourceId) {
+        index.setProperty(RESOURCE_PREFIX + key, resourceId == null ? "" : resourceId);
+        save();
+    }
+
+    /**
+     * 服务端资源被删除后移除记录
+     */
+    public synchronized void invalidate(String key) {
+        if (index.remove(RESOURCE_PREFIX + key) != null) {
+            save();
+        }
+    }
+
+    /**
+     * 文件内容摘要，大小和修改时间未变时复用上次的结果
+     */
+    String hash(File file) throws IOException {
+        String statKey = STAT_PREFIX + file.getAbsolutePath();
+        String stat = file.length() + ":" + file.lastModified() + ":";
+        String cached = index.getProperty(statKey);
+        if (cached != null && cached.startsWith(stat)) {
+            return cached.substring(stat.length());
+        }
+        String hash = FileDigests.digest(file, DIGEST_ALGORITHM);
+        synchronized (this) {
+            index.setProperty(statKey, stat + hash);
+            save();
+        }
+        return hash;
+    }
+
+    private void save() {
+        Path tmp = null;
+        try {
+            Files.createDirectories(indexFile.getParent());
+            // 多个进程共用同一目录时各自写临时文件，再原子替换
+            tmp = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                index.store(out, null);
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException e) {
+            LOGGER.warn("write resource upload index {} failed.", indexFile, e);
+        } finally {
+            if (null != tmp) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // 下次写入不受影响
+                }
+            }
+        }
+    }
+}
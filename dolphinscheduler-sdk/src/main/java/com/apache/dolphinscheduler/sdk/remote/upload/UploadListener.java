@@ -0,0 +1,25 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+/**
+ * 上传进度监听
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public interface UploadListener {
+
+    /**
+     * 请求体写出过程中回调
+     * @param written 已写出字节
+     * @param total 总字节，未知时为 -1
+     */
+    default void onProgress(long written, long total) {
+
+    }
+
+    /**
+     * 请求体写出完成
+     * @param statistics 本次上传统计
+     */
+    void onComplete(UploadStatistics statistics);
+}
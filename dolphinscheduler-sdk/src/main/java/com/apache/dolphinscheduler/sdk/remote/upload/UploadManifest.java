@@ -0,0 +1,127 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 分片上传的断点记录，保存在本地磁盘，记录每个已完成分片的校验和
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class UploadManifest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UploadManifest.class);
+
+    private static final String FILE_LENGTH = "file.length";
+
+    private static final String FILE_MODIFIED = "file.lastModified";
+
+    private static final String PART_SIZE = "part.size";
+
+    private static final String PART_PREFIX = "part.";
+
+    private final Path path;
+
+    private final long fileLength;
+
+    private final long lastModified;
+
+    private final long partSize;
+
+    /**
+     * 分片序号 -> 校验和
+     */
+    private final Map<Integer, String> completed = new ConcurrentHashMap<>();
+
+    private UploadManifest(Path path, long fileLength, long lastModified, long partSize) {
+        this.path = path;
+        this.fileLength = fileLength;
+        this.lastModified = lastModified;
+        this.partSize = partSize;
+    }
+
+    /**
+     * 读取断点记录，源文件发生变化或分片大小不同时丢弃旧记录
+     * @param path 记录文件
+     * @param file 源文件
+     * @param partSize 分片大小
+     * @return
+     */
+    public static UploadManifest load(Path path, File file, long partSize) {
+        UploadManifest manifest = new UploadManifest(path, file.length(), file.lastModified(), partSize);
+        if (!Files.isRegularFile(path)) {
+            return manifest;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        } catch (IOException e) {
+            LOGGER.warn("read upload manifest {} failed, start over.", path, e);
+            return manifest;
+        }
+        if (!String.valueOf(manifest.fileLength).equals(properties.getProperty(FILE_LENGTH))
+                || !String.valueOf(manifest.lastModified).equals(properties.getProperty(FILE_MODIFIED))
+                || !String.valueOf(partSize).equals(properties.getProperty(PART_SIZE))) {
+            LOGGER.info("file {} changed since last upload, start over.", file);
+            return manifest;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(PART_PREFIX) && !PART_SIZE.equals(key)) {
+                manifest.completed.put(Integer.parseInt(key.substring(PART_PREFIX.length())), properties.getProperty(key));
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * 分片是否已经以相同的内容上传过
+     */
+    public boolean isCompleted(int index, String checksum) {
+        return checksum.equals(completed.get(index));
+    }
+
+    public int completedCount() {
+        return completed.size();
+    }
+
+    /**
+     * 记录分片完成并落盘
+     */
+    public synchronized void complete(int index, String checksum) throws IOException {
+        completed.put(index, checksum);
+        Properties properties = new Properties();
+        properties.setProperty(FILE_LENGTH, String.valueOf(fileLength));
+        properties.setProperty(FILE_MODIFIED, String.valueOf(lastModified));
+        properties.setProperty(PART_SIZE, String.valueOf(partSize));
+        completed.forEach((k, v) -> properties.setProperty(PART_PREFIX + k, v));
+        Files.createDirectories(path.getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            properties.store(out, null);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 全部完成后删除记录
+     */
+    public synchronized void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("delete upload manifest {} failed.", path, e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一次上传的统计信息
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class UploadStatistics {
+
+    /**
+     * 请求地址
+     */
+    private final String url;
+
+    /**
+     * 实际写出的字节数（含 multipart 边界）
+     */
+    private final long bytes;
+
+    /**
+     * 写出请求体耗时，纳秒
+     */
+    private final long elapsedNanos;
+
+    /**
+     * 是否使用 chunked 传输
+     */
+    private final boolean chunked;
+
+    public UploadStatistics(String url, long bytes, long elapsedNanos, boolean chunked) {
+        this.url = url;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+        this.chunked = chunked;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public boolean isChunked() {
+        return chunked;
+    }
+
+    /**
+     * 吞吐量，字节/秒
+     */
+    public double getBytesPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0D;
+        }
+        return bytes * 1_000_000_000D / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "UploadStatistics{" +
+                "url='" + url + '\'' +
+                ", bytes=" + bytes +
+                ", elapsedMillis=" + getElapsedMillis() +
+                ", MB/s=" + String.format("%.2f", getBytesPerSecond() / (1024 * 1024)) +
+                ", chunked=" + chunked +
+                '}';
+    }
+}
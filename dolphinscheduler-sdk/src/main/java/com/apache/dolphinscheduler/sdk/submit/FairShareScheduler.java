@@ -0,0 +1,344 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 多租户加权公平的提交调度。
+ * <p>
+ * 每个租户有自己的队列，租户内按 {@link SubmissionPriority} 先高后低、同优先级先进先出。
+ * 租户之间按权重轮转（stride scheduling）：每发送一次，租户的进度增加 1/权重，总是选择进度最小的租户，
+ * 空闲后重新排队的租户从当前进度开始，不会积累空闲期间的份额。
+ * 每个租户同时发送中的提交数不超过其并发上限，超出的留在队列中，使大租户的突发提交不会占满所有发送线程。
+ * 调度在提交入队与发送结束时进行，不占用单独的线程。
+ * 没有单独配置的租户空闲后在调度时被移除，避免租户名很多时状态无限增长。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class FairShareScheduler implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FairShareScheduler.class);
+
+    private final ExecutorService executor;
+
+    private final int threads;
+
+    private final int defaultWeight;
+
+    private final int defaultMaxConcurrency;
+
+    private final Map<String, Tenant> tenants = new HashMap<>();
+
+    /**
+     * 最近一次选中租户的进度
+     */
+    private double virtualTime;
+
+    private int running;
+
+    private boolean closed;
+
+    /**
+     * @param threads 发送线程数
+     * @param defaultWeight 未单独配置的租户的权重
+     * @param defaultMaxConcurrency 未单独配置的租户的并发上限
+     */
+    public FairShareScheduler(int threads, int defaultWeight, int defaultMaxConcurrency) {
+        this.threads = Math.max(1, threads);
+        this.defaultWeight = Math.max(1, defaultWeight);
+        this.defaultMaxConcurrency = Math.max(1, defaultMaxConcurrency);
+        this.executor = Executors.newFixedThreadPool(this.threads,
+                new ThreadFactoryBuilder().setNameFormat("ds-fair-share-%d").setDaemon(true).build());
+    }
+
+    /**
+     * 设置租户的权重与并发上限，对已入队的提交立即生效
+     */
+    public synchronized void configureTenant(String tenant, int weight, int maxConcurrency) {
+        if (weight <= 0 || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("weight and maxConcurrency of tenant " + tenant + " must be positive");
+        }
+        Tenant state = tenant(tenant);
+        state.weight = weight;
+        state.maxConcurrency = maxConcurrency;
+        state.configured = true;
+        dispatch();
+    }
+
+    /**
+     * 提交入队
+     * @param tenant 租户
+     * @param priority 租户内的优先级
+     * @param call 实际的提交，在发送线程中执行
+     * @return 提交的结果
+     */
+    public <R> CompletableFuture<R> submit(String tenant, SubmissionPriority priority, Supplier<R> call) {
+        Task<R> task = new Task<>(call);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("fair share scheduler is closed");
+            }
+            Tenant state = tenant(tenant);
+            if (state.queued == 0) {
+                // 重新排队的租户从当前进度开始
+                state.pass = Math.max(state.pass, virtualTime);
+            }
+            state.queues[priority.ordinal()].add(task);
+            state.queued++;
+            dispatch();
+        }
+        return task.future;
+    }
+
+    /**
+     * 选择可以发送的提交，调用时持有锁
+     */
+    private void dispatch() {
+        while (!closed && running < threads) {
+            Tenant next = null;
+            for (Iterator<Tenant> it = tenants.values().iterator(); it.hasNext(); ) {
+                Tenant tenant = it.next();
+                if (evictable(tenant)) {
+                    it.remove();
+                    continue;
+                }
+                if (tenant.queued > 0 && tenant.running < tenant.maxConcurrency
+                        && (null == next || tenant.pass < next.pass)) {
+                    next = tenant;
+                }
+            }
+            if (null == next) {
+                return;
+            }
+            Task<?> task = next.poll();
+            virtualTime = next.pass;
+            next.pass += 1D / next.weight;
+            next.running++;
+            running++;
+            Tenant tenant = next;
+            try {
+                executor.execute(() -> run(tenant, task));
+            } catch (RejectedExecutionException e) {
+                tenant.running--;
+                running--;
+                task.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void run(Tenant tenant, Task<?> task) {
+        try {
+            task.run();
+        } finally {
+            synchronized (this) {
+                tenant.running--;
+                running--;
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * 没有单独配置、空闲且进度超前不超过一次发送的租户。再次提交时重新创建，进度从当前开始，
+     * 与保留时相比最多少计一次发送
+     */
+    private boolean evictable(Tenant tenant) {
+        return !tenant.configured && tenant.queued == 0 && tenant.running == 0
+                && tenant.pass <= virtualTime + 1D / tenant.weight;
+    }
+
+    private Tenant tenant(String name) {
+        return tenants.computeIfAbsent(name, k -> new Tenant(k, defaultWeight, defaultMaxConcurrency));
+    }
+
+    /**
+     * @return 各租户排队与发送中的提交数，不包括已移除的空闲租户
+     */
+    public synchronized Map<String, TenantStats> getTenantStats() {
+        Map<String, TenantStats> stats = new LinkedHashMap<>();
+        for (Tenant tenant : tenants.values()) {
+            stats.put(tenant.name, new TenantStats(tenant.name, tenant.weight, tenant.maxConcurrency,
+                    tenant.queued, tenant.running, tenant.dispatched));
+        }
+        return stats;
+    }
+
+    /**
+     * 停止发送，排队中的提交以异常结束
+     */
+    @Override
+    public void close() {
+        List<Task<?>> dropped = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Tenant tenant : tenants.values()) {
+                for (Deque<Task<?>> queue : tenant.queues) {
+                    dropped.addAll(queue);
+                    queue.clear();
+                }
+                tenant.queued = 0;
+            }
+        }
+        for (Task<?> task : dropped) {
+            task.future.completeExceptionally(new IllegalStateException("fair share scheduler is closed"));
+        }
+        if (!dropped.isEmpty()) {
+            LOGGER.warn("fair share scheduler closed, {} queued submissions dropped", dropped.size());
+        }
+        executor.shutdown();
+    }
+
+    private static final class Task<R> {
+
+        private final Supplier<R> call;
+
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        private Task(Supplier<R> call) {
+            this.call = call;
+        }
+
+        private void run() {
+            try {
+                future.complete(call.get());
+            } catch (Throwable e) {
+                // 包括 Error，保证调用方等待的 future 总会结束
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Tenant {
+
+        private final String name;
+
+        private int weight;
+
+        private int maxConcurrency;
+
+        /**
+         * 按优先级的队列
+         */
+        @SuppressWarnings("unchecked")
+        private final Deque<Task<?>>[] queues = new Deque[SubmissionPriority.values().length];
+
+        private int queued;
+
+        private int running;
+
+        private long dispatched;
+
+        /**
+         * 通过 configureTenant 单独配置过，空闲时不移除
+         */
+        private boolean configured;
+
+        /**
+         * 进度，越小越先发送
+         */
+        private double pass;
+
+        private Tenant(String name, int weight, int maxConcurrency) {
+            this.name = name;
+            this.weight = weight;
+            this.maxConcurrency = maxConcurrency;
+            for (int i = 0; i < queues.length; i++) {
+                queues[i] = new ArrayDeque<>();
+            }
+        }
+
+        private Task<?> poll() {
+            for (Deque<Task<?>> queue : queues) {
+                Task<?> task = queue.poll();
+                if (null != task) {
+                    queued--;
+                    dispatched++;
+                    return task;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 租户的调度状态快照
+     */
+    public static class TenantStats {
+
+        private final String tenant;
+
+        private final int weight;
+
+        private final int maxConcurrency;
+
+        private final int queued;
+
+        private final int running;
+
+        private final long dispatched;
+
+        TenantStats(String tenant, int weight, int maxConcurrency, int queued, int running, long dispatched) {
+            this.tenant = tenant;
+            this.weight = weight;
+            this.maxConcurrency = maxConcurrency;
+            this.queued = queued;
+            this.running = running;
+            this.dispatched = dispatched;
+        }
+
+        public String getTenant() {
+            return tenant;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public int getQueued() {
+            return queued;
+        }
+
+        public int getRunning() {
+            return running;
+        }
+
+        public long getDispatched() {
+            return dispatched;
+        }
+
+        @Override
+        public String toString() {
+            return "TenantStats{" +
+                    "tenant='" + tenant + '\'' +
+                    ", weight=" + weight +
+                    ", maxConcurrency=" + maxConcurrency +
+                    ", queued=" + queued +
+                    ", running=" + running +
+                    ", dispatched=" + dispatched +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import com.apache.dolphinscheduler.sdk.remote.Result;
+import com.apache.dolphinscheduler.sdk.remote.resilience.CircuitBreakerOpenException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 幂等提交。
+ * <p>
+ * 每次提交带一个客户端生成的键，成功的结果（含 command id）在有界、会过期的缓存中保留；
+ * 使用同一个键重试时直接返回原结果，进行中的提交则等待其完成，不会再次启动工作流。
+ * 业务失败或请求确定未发出时移除该键，允许重新提交；请求已发出但结果未知时保留该键并抛出
+ * {@link SubmissionInDoubtException}，需调用 {@link #forget(String)} 后才能用同一个键再次提交。
+ * 每个键记录提交时声明的结果类型，以不同的结果类型使用同一个键时抛出 {@link IllegalStateException}。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class IdempotentSubmitter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotentSubmitter.class);
+
+    private final Cache<String, Submission> submissions;
+
+    public IdempotentSubmitter(long maxKeys, long expireSeconds) {
+        this.submissions = CacheBuilder.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 以幂等键提交
+     * @param submissionKey 幂等键
+     * @param submit 实际的提交
+     * @return 本次或之前同一个键的提交结果
+     */
+    public Result submit(String submissionKey, Supplier<Result> submit) {
+        return submit(submissionKey, Result.class, submit,
+                result -> result != null && result.getCode() != null && result.getCode() == 0);
+    }
+
+    /**
+     * 以幂等键提交
+     * @param submissionKey 幂等键
+     * @param type 结果类型，与该键之前提交时的类型不同时抛出 {@link IllegalStateException}
+     * @param submit 实际的提交
+     * @param accepted 判断服务端是否接受了提交，未接受时移除该键
+     * @return 本次或之前同一个键的提交结果
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R submit(String submissionKey, Class<? super R> type, Supplier<R> submit, Predicate<R> accepted) {
+        Submission mine = new Submission(type);
+        Submission existing = submissions.asMap().putIfAbsent(submissionKey, mine);
+        if (existing != null) {
+            checkType(submissionKey, existing, type);
+            LOGGER.info("submission {} already sent, return the original result.", submissionKey);
+            // 类型已检查，结果由同一类型的 submit 产生
+            return (R) join(existing.future);
+        }
+        try {
+            R result = submit.get();
+            if (!accepted.test(result)) {
+                // 服务端明确拒绝，允许用同一个键重新提交
+                submissions.asMap().remove(submissionKey, mine);
+            }
+            mine.future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            if (notSent(e)) {
+                submissions.asMap().remove(submissionKey, mine);
+                mine.future.completeExceptionally(e);
+                throw e;
+            }
+            SubmissionInDoubtException inDoubt = new SubmissionInDoubtException(submissionKey, e);
+            mine.future.completeExceptionally(inDoubt);
+            throw inDoubt;
+        }
+    }
+
+    /**
+     * @param type 结果类型
+     * @return 该键已完成的结果，没有时为 null
+     * @throws IllegalStateException 该键提交时的结果类型不同
+     */
+    public <R> R getIfPresent(String submissionKey, Class<R> type) {
+        Submission submission = submissions.getIfPresent(submissionKey);
+        if (submission == null || !submission.future.isDone() || submission.future.isCompletedExceptionally()) {
+            return null;
+        }
+        checkType(submissionKey, submission, type);
+        return type.cast(submission.future.join());
+    }
+
+    private static void checkType(String submissionKey, Submission submission, Class<?> type) {
+        if (submission.type != type) {
+            throw new IllegalStateException("submission key " + submissionKey + " was used for a " + submission.type.getName()
+                    + " result, not " + type.getName());
+        }
+    }
+
+    /**
+     * 移除一个键，之后可以用该键重新提交
+     */
+    public void forget(String submissionKey) {
+        submissions.invalidate(submissionKey);
+    }
+
+    public long size() {
+        return submissions.size();
+    }
+
+    /**
+     * 请求是否确定没有到达服务端
+     */
+    static boolean notSent(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException || t instanceof UnknownHostException || t instanceof CircuitBreakerOpenException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 一个键的提交及其结果类型
+     */
+    private static final class Submission {
+
+        private final Class<?> type;
+
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private Submission(Class<?> type) {
+            this.type = type;
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 出站队列的本地日志，按段只追加。
+ * <p>
+ * 记录追加到当前段文件，段超过设定大小后新建下一段。写入后调用方等待刷盘：同时等待的线程中只有一个执行 fsync，
+ * 其余线程的记录随这次 fsync 一起落盘（group commit）。只有已落盘的记录才会被读取。
+ * 读取位置在确认（ack）后写入检查点文件，检查点之前的段被删除；启动时从检查点继续读取，
+ * 最后一段末尾写了一半的记录被截断，之前的段末尾无法读取的记录被跳过，不影响其后的记录。
+ * 检查点在确认后写入，进程崩溃时最后一条已发送的记录可能被再次读取。
+ * <p>
+ * 记录格式：[int 长度][bytes 内容][int CRC32]；检查点有两个交替写入的槽：[long 段号][long 位置][int CRC32]
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class OutboundLog implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboundLog.class);
+
+    private static final String SEGMENT_PREFIX = "outbound-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final String CHECKPOINT = "outbound.checkpoint";
+
+    /**
+     * 长度与 CRC
+     */
+    private static final int FRAME_OVERHEAD = 8;
+
+    private static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+
+    private static final int CHECKPOINT_SLOT_BYTES = 20;
+
+    private final Path dir;
+
+    private final long segmentBytes;
+
+    /**
+     * 保护写入状态
+     */
+    private final Object appendLock = new Object();
+
+    /**
+     * 同一时间只有一个线程刷盘
+     */
+    private final Object syncLock = new Object();
+
+    /**
+     * 有新记录落盘时通知读取线程
+     */
+    private final Object readable = new Object();
+
+    private long writeSegment;
+
+    private FileChannel writeChannel;
+
+    private long writePosition;
+
+    /**
+     * 本次启动以来写入的记录数，包括启动时检查点之后未确认的记录
+     */
+    private volatile long appended;
+
+    /**
+     * 已落盘的记录数
+     */
+    private volatile long durable;
+
+    /**
+     * 以下读取状态只在读取线程中使用
+     */
+    private long readSegment;
+
+    private FileChannel readChannel;
+
+    private long readPosition;
+
+    /**
+     * 已读取未确认的记录
+     */
+    private byte[] pending;
+
+    private int pendingFrameBytes;
+
+    private long read;
+
+    private volatile long acked;
+
+    private final FileChannel checkpointChannel;
+
+    private int checkpointSlot;
+
+    private final CRC32 readCrc = new CRC32();
+
+    private final CRC32 writeCrc = new CRC32();
+
+    private volatile boolean closed;
+
+    public OutboundLog(Path dir, long segmentBytes) throws IOException {
+        this.dir = dir;
+        this.segmentBytes = Math.max(1024 * 1024, segmentBytes);
+        Files.createDirectories(dir);
+        checkpointChannel = FileChannel.open(dir.resolve(CHECKPOINT),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+    }
+
+    /**
+     * 从检查点恢复读写位置
+     */
+    private void recover() throws IOException {
+        long[] checkpoint = readCheckpoint();
+        List<Long> segments = listSegments();
+        readSegment = null == checkpoint ? (segments.isEmpty() ? 0L : segments.get(0)) : checkpoint[0];
+        readPosition = null == checkpoint ? 0L : checkpoint[1];
+        if (!Files.exists(segmentPath(readSegment))) {
+            // 检查点所在的段已不存在，从之后的第一段开始
+            for (Long segment : segments) {
+                if (segment > readSegment) {
+                    readSegment = segment;
+                    readPosition = 0L;
+                    break;
+                }
+            }
+        }
+        long records = 0;
+        long lastSegment = readSegment;
+        long lastPosition = readPosition;
+        for (Long segment : segments) {
+            if (segment < readSegment) {
+                Files.deleteIfExists(segmentPath(segment));
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+                long position = segment == readSegment ? readPosition : 0L;
+                byte[] payload;
+                while (null != (payload = readFrame(channel, position))) {
+                    position += payload.length + FRAME_OVERHEAD;
+                    records++;
+                }
+                if (position < channel.size()) {
+                    if (segment.equals(segments.get(segments.size() - 1))) {
+                        // 崩溃时写了一半的最后一条记录，没有落盘确认过，截断后从这里继续写
+                        LOGGER.warn("outbound segment {} has a torn record at {}, truncate it.", segmentPath(segment), position);
+                    } else {
+                        LOGGER.warn("outbound segment {} has an unreadable record at {}, skip the rest {} bytes.",
+                                segmentPath(segment), position, channel.size() - position);
+                    }
+                }
+                lastSegment = segment;
+                lastPosition = position;
+            }
+        }
+        writeSegment = lastSegment;
+        writePosition = lastPosition;
+        writeChannel = openSegment(writeSegment);
+        writeChannel.truncate(writePosition);
+        readChannel = FileChannel.open(segmentPath(readSegment), StandardOpenOption.READ);
+        appended = records;
+        durable = records;
+        LOGGER.info("recovered outbound log {}: {} pending records from segment {} at {}.",
+                dir, records, readSegment, readPosition);
+    }
+
+    /**
+     * 追加一条记录，返回时已落盘
+     */
+    public void append(byte[] payload) throws IOException {
+        if (payload.length == 0 || payload.length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("outbound record size must be in (0, " + MAX_RECORD_BYTES + "]: " + payload.length);
+        }
+        long seq;
+        synchronized (appendLock) {
+            if (closed) {
+                throw new IllegalStateException("outbound log " + dir + " is closed");
+            }
+            if (writePosition > 0 && writePosition + payload.length + FRAME_OVERHEAD > segmentBytes) {
+                roll();
+            }
+            ByteBuffer frame = ByteBuffer.allocate(payload.length + FRAME_OVERHEAD);
+            frame.putInt(payload.length);
+            frame.put(payload);
+            writeCrc.reset();
+            writeCrc.update(payload);
+            frame.putInt((int) writeCrc.getValue());
+            frame.flip();
+            long position = writePosition;
+            while (frame.hasRemaining()) {
+                position += writeChannel.write(frame, position);
+            }
+            writePosition = position;
+            seq = ++appended;
+        }
+        sync(seq);
+    }
+
+    /**
+     * 等待第 seq 条记录落盘。没有其他线程在刷盘时由当前线程刷盘，并一起确认这期间写入的所有记录
+     */
+    private void sync(long seq) throws IOException {
+        if (durable >= seq) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durable >= seq) {
+                // 已随其他线程的刷盘落盘
+                return;
+            }
+            FileChannel channel;
+            long target;
+            synchronized (appendLock) {
+                channel = writeChannel;
+                target = appended;
+            }
+            try {
+                channel.force(false);
+            } catch (ClosedChannelException e) {
+                // 换段或关闭时已刷盘
+                if (closed) {
+                    throw e;
+                }
+            }
+            durable = target;
+        }
+        synchronized (readable) {
+            readable.notifyAll();
+        }
+    }
+
+    /**
+     * 当前段写满，刷盘后新建下一段
+     */
+    private void roll() throws IOException {
+        writeChannel.force(false);
+        writeChannel.close();
+        writeSegment++;
+        writePosition = 0;
+        writeChannel = openSegment(writeSegment);
+    }
+
+    /**
+     * 读取下一条未确认的记录，确认前重复调用返回同一条记录。只能在一个线程中调用
+     * @param timeoutMillis 没有记录时的最长等待时间
+     * @return 超时时为 null
+     */
+    public byte[] next(long timeoutMillis) throws IOException, InterruptedException {
+        if (null != pending) {
+            return pending;
+        }
+        synchronized (readable) {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (read >= durable && !closed) {
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) {
+                    return null;
+                }
+                readable.wait(wait);
+            }
+        }
+        if (closed) {
+            return null;
+        }
+        byte[] payload;
+        while (null == (payload = readFrame(readChannel, readPosition))) {
+            synchronized (appendLock) {
+                if (readSegment >= writeSegment) {
+                    throw new IOException("outbound record " + read + " not found in segment " + readSegment + " at " + readPosition);
+                }
+            }
+            // 当前段已读完，恢复时已跳过段尾无法读取的记录
+            readChannel.close();
+            readSegment++;
+            readPosition = 0;
+            readChannel = FileChannel.open(segmentPath(readSegment), StandardOpenOption.READ);
+        }
+        pending = payload;
+        pendingFrameBytes = payload.length + FRAME_OVERHEAD;
+        read++;
+        return payload;
+    }
+
+    /**
+     * 确认 {@link #next(long)} 返回的记录已处理，写入检查点
+     */
+    public void ack() throws IOException {
+        if (null == pending) {
+            return;
+        }
+        readPosition += pendingFrameBytes;
+        pending = null;
+        acked++;
+        writeCheckpoint(readSegment, readPosition);
+        deleteSegmentsBefore(readSegment);
+    }
+
+    /**
+     * @return 已落盘未确认的记录数
+     */
+    public long depth() {
+        return Math.max(0, appended - acked);
+    }
+
+    private byte[] readFrame(FileChannel channel, long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        if (!readFully(channel, header, position)) {
+            return null;
+        }
+        int length = header.getInt(0);
+        if (length <= 0 || length > MAX_RECORD_BYTES) {
+            return null;
+        }
+        ByteBuffer body = ByteBuffer.allocate(length + 4);
+        if (!readFully(channel, body, position + 4)) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        body.flip();
+        body.get(payload);
+        readCrc.reset();
+        readCrc.update(payload);
+        return body.getInt() == (int) readCrc.getValue() ? payload : null;
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + buffer.position());
+            if (n < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return [段号, 位置]，没有有效的检查点时为 null
+     */
+    private long[] readCheckpoint() throws IOException {
+        long[] best = null;
+        for (int slot = 0; slot < 2; slot++) {
+            ByteBuffer buffer = ByteBuffer.allocate(CHECKPOINT_SLOT_BYTES);
+            if (!readFully(checkpointChannel, buffer, (long) slot * CHECKPOINT_SLOT_BYTES)) {
+                continue;
+            }
+            long segment = buffer.getLong(0);
+            long position = buffer.getLong(8);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, 16);
+            if (buffer.getInt(16) != (int) crc.getValue()) {
+                continue;
+            }
+            if (null == best || segment > best[0] || (segment == best[0] && position > best[1])) {
+                best = new long[]{segment, position};
+                checkpointSlot = slot;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 写入另一个槽，写了一半时仍可使用上一个检查点
+     */
+    private void writeCheckpoint(long segment, long position) throws IOException {
+        checkpointSlot ^= 1;
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKPOINT_SLOT_BYTES);
+        buffer.putLong(segment);
+        buffer.putLong(position);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, 16);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+        long offset = (long) checkpointSlot * CHECKPOINT_SLOT_BYTES;
+        while (buffer.hasRemaining()) {
+            offset += checkpointChannel.write(buffer, offset);
+        }
+        checkpointChannel.force(false);
+    }
+
+    private void deleteSegmentsBefore(long segment) throws IOException {
+        for (Long old : listSegments()) {
+            if (old < segment) {
+                Files.deleteIfExists(segmentPath(old));
+            }
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    segments.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    LOGGER.warn("ignore unknown file {} in outbound log {}", name, dir);
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private Path segmentPath(long segment) {
+        return dir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private FileChannel openSegment(long segment) throws IOException {
+        return FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writeChannel.force(false);
+            writeChannel.close();
+        }
+        synchronized (readable) {
+            readable.notifyAll();
+        }
+        readChannel.close();
+        checkpointChannel.close();
+    }
+}
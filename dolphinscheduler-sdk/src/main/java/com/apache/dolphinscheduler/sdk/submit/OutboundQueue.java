@@ -0,0 +1,364 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import com.alibaba.fastjson.JSON;
+import com.apache.dolphinscheduler.sdk.remote.Result;
+import com.apache.dolphinscheduler.sdk.utils.SnowflakeIdUtils;
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 持久化的出站提交队列。
+ * <p>
+ * 提交先写入本地 {@link OutboundLog}，落盘后立即返回，不依赖 API 服务是否可用。
+ * 后台线程按入队顺序限速发送，submitter 应以记录的键幂等提交：
+ * 请求确定未发出（连接失败、熔断）时按指数退避重试同一条记录；
+ * 请求已发出但结果未知（如读超时，{@link SubmissionInDoubtException}）时不再重试，移入死信队列，
+ * 由调用方确认工作流是否已启动后通过 {@link #pollDeadLetter()} 取出处理；
+ * 服务端明确拒绝（返回码不为 0 或参数错误）时记录日志后丢弃，不再重试。
+ * 幂等键只保存在内存中，记录在发送后才确认，进程在发送后、确认前崩溃时最后一条仍可能被重复发送。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class OutboundQueue implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboundQueue.class);
+
+    /**
+     * 计算发送速率的窗口
+     */
+    private static final long RATE_WINDOW_MILLIS = 10_000L;
+
+    private final OutboundLog log;
+
+    /**
+     * 结果未知的提交
+     */
+    private final OutboundLog deadLetters;
+
+    private final Function<OutboundSubmission, Result> submitter;
+
+    private final RateLimiter rateLimiter;
+
+    private final long minBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    private final Thread drainThread;
+
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+
+    private final AtomicLong drained = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicLong retries = new AtomicLong();
+
+    private volatile String lastError;
+
+    private volatile long windowStart = System.currentTimeMillis();
+
+    private long windowDrained;
+
+    private volatile double drainRate;
+
+    /**
+     * @param dir 队列文件目录
+     * @param segmentBytes 段文件大小
+     * @param ratePerSecond 每秒最多发送的提交数
+     * @param minBackoffMillis 发送失败后的初始重试间隔
+     * @param maxBackoffMillis 发送失败后的最大重试间隔
+     * @param submitter 以 {@link OutboundSubmission#getKey()} 幂等提交，请求确定未发出时抛出异常，
+     *                  已发出但结果未知时抛出 {@link SubmissionInDoubtException}
+     */
+    public OutboundQueue(Path dir,
+                         long segmentBytes,
+                         double ratePerSecond,
+                         long minBackoffMillis,
+                         long maxBackoffMillis,
+                         Function<OutboundSubmission, Result> submitter) throws IOException {
+        this.log = new OutboundLog(dir, segmentBytes);
+        this.deadLetters = new OutboundLog(dir.resolve("dead-letter"), segmentBytes);
+        this.submitter = submitter;
+        this.rateLimiter = RateLimiter.create(ratePerSecond > 0 ? ratePerSecond : Double.MAX_VALUE);
+        this.minBackoffMillis = Math.max(1L, minBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.minBackoffMillis, maxBackoffMillis);
+        this.drainThread = new Thread(this::drain, "ds-outbound-drain");
+        this.drainThread.setDaemon(true);
+    }
+
+    /**
+     * 开始发送队列中的提交，包括重启前未发送的
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        drainThread.start();
+    }
+
+    /**
+     * 提交入队，返回时已落盘
+     * @return 提交键
+     */
+    public String enqueue(OutboundSubmission submission) {
+        if (null == submission.getKey()) {
+            submission.setKey(SnowflakeIdUtils.generateIdStr());
+        }
+        submission.setEnqueueTime(System.currentTimeMillis());
+        try {
+            log.append(JSON.toJSONString(submission).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("write outbound submission " + submission.getKey() + " failed", e);
+        }
+        enqueued.incrementAndGet();
+        return submission.getKey();
+    }
+
+    /**
+     * @return 未发送的提交数
+     */
+    public long getDepth() {
+        return log.depth();
+    }
+
+    /**
+     * 取出一条结果未知的提交，取出后即从死信队列中移除
+     * @return 没有时为 null
+     */
+    public synchronized OutboundSubmission pollDeadLetter() {
+        try {
+            byte[] payload = deadLetters.next(0L);
+            if (null == payload) {
+                return null;
+            }
+            deadLetters.ack();
+            return JSON.parseObject(new String(payload, StandardCharsets.UTF_8), OutboundSubmission.class);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("read outbound dead letter failed", e);
+        }
+    }
+
+    private void drain() {
+        long backoff = minBackoffMillis;
+        while (running) {
+            byte[] payload;
+            try {
+                payload = log.next(1000L);
+            } catch (InterruptedException e) {
+                break;
+            } catch (IOException e) {
+                LOGGER.error("read outbound log failed, retry in {} ms", backoff, e);
+                if (!sleep(backoff)) {
+                    break;
+                }
+                backoff = Math.min(maxBackoffMillis, backoff * 2);
+                continue;
+            }
+            if (null == payload) {
+                continue;
+            }
+            OutboundSubmission submission;
+            try {
+                submission = JSON.parseObject(new String(payload, StandardCharsets.UTF_8), OutboundSubmission.class);
+            } catch (RuntimeException e) {
+                LOGGER.error("skip unreadable outbound record: {}", e.getMessage());
+                rejected.incrementAndGet();
+                ack();
+                continue;
+            }
+            rateLimiter.acquire();
+            try {
+                Result result = submitter.apply(submission);
+                if (null != result && null != result.getCode() && result.getCode() == 0) {
+                    drained.incrementAndGet();
+                } else {
+                    rejected.incrementAndGet();
+                    LOGGER.warn("outbound submission {} rejected: {}", submission.getKey(), null == result ? "no response" : result.getMsg());
+                }
+                ack();
+                backoff = minBackoffMillis;
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+                LOGGER.warn("outbound submission {} is invalid, drop it: {}", submission.getKey(), e.getMessage());
+                ack();
+            } catch (SubmissionInDoubtException e) {
+                // 重试可能重复启动工作流
+                lastError = e.getMessage();
+                LOGGER.error("outbound submission {} may have been accepted, move it to the dead letter queue: {}",
+                        submission.getKey(), e.getMessage());
+                if (!deadLetter(payload)) {
+                    if (!sleep(backoff)) {
+                        break;
+                    }
+                    backoff = Math.min(maxBackoffMillis, backoff * 2);
+                    continue;
+                }
+                ack();
+                backoff = minBackoffMillis;
+            } catch (RuntimeException e) {
+                retries.incrementAndGet();
+                lastError = e.getMessage();
+                LOGGER.warn("send outbound submission {} failed, retry in {} ms: {}", submission.getKey(), backoff, e.getMessage());
+                if (!sleep(backoff)) {
+                    break;
+                }
+                backoff = Math.min(maxBackoffMillis, backoff * 2);
+            }
+        }
+    }
+
+    private boolean deadLetter(byte[] payload) {
+        try {
+            deadLetters.append(payload);
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("write outbound dead letter failed, retry later", e);
+            return false;
+        }
+    }
+
+    private void ack() {
+        try {
+            log.ack();
+        } catch (IOException e) {
+            LOGGER.error("write outbound checkpoint failed, the submission may be sent again after restart", e);
+        }
+        long now = System.currentTimeMillis();
+        windowDrained++;
+        if (now - windowStart >= RATE_WINDOW_MILLIS) {
+            drainRate = windowDrained * 1000D / (now - windowStart);
+            windowStart = now;
+            windowDrained = 0;
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public Metrics getMetrics() {
+        // 长时间没有发送时速率视为 0
+        double rate = System.currentTimeMillis() - windowStart > RATE_WINDOW_MILLIS * 2 ? 0D : drainRate;
+        return new Metrics(log.depth(), enqueued.get(), drained.get(), rejected.get(), retries.get(),
+                deadLetters.depth(), rate, lastError);
+    }
+
+    @Override
+    public void close() throws Exception {
+        running = false;
+        drainThread.interrupt();
+        drainThread.join(TimeUnit.SECONDS.toMillis(5));
+        log.close();
+        deadLetters.close();
+    }
+
+    /**
+     * 出站队列指标快照
+     */
+    public static class Metrics {
+
+        private final long depth;
+
+        private final long enqueuedCount;
+
+        private final long drainedCount;
+
+        private final long rejectedCount;
+
+        private final long retryCount;
+
+        private final long deadLetterCount;
+
+        private final double drainRate;
+
+        private final String lastError;
+
+        Metrics(long depth, long enqueuedCount, long drainedCount, long rejectedCount, long retryCount,
+                long deadLetterCount, double drainRate, String lastError) {
+            this.depth = depth;
+            this.enqueuedCount = enqueuedCount;
+            this.drainedCount = drainedCount;
+            this.rejectedCount = rejectedCount;
+            this.retryCount = retryCount;
+            this.deadLetterCount = deadLetterCount;
+            this.drainRate = drainRate;
+            this.lastError = lastError;
+        }
+
+        /**
+         * @return 未发送的提交数
+         */
+        public long getDepth() {
+            return depth;
+        }
+
+        public long getEnqueuedCount() {
+            return enqueuedCount;
+        }
+
+        public long getDrainedCount() {
+            return drainedCount;
+        }
+
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        public long getRetryCount() {
+            return retryCount;
+        }
+
+        /**
+         * @return 死信队列中结果未知的提交数
+         */
+        public long getDeadLetterCount() {
+            return deadLetterCount;
+        }
+
+        /**
+         * @return 最近一个窗口内每秒发送的提交数
+         */
+        public double getDrainRate() {
+            return drainRate;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{" +
+                    "depth=" + depth +
+                    ", enqueued=" + enqueuedCount +
+                    ", drained=" + drainedCount +
+                    ", rejected=" + rejectedCount +
+                    ", retries=" + retryCount +
+                    ", deadLetters=" + deadLetterCount +
+                    ", drainRate=" + drainRate +
+                    ", lastError=" + lastError +
+                    '}';
+        }
+    }
+}
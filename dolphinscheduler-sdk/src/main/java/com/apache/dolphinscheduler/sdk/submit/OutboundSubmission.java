@@ -0,0 +1,196 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+/**
+ * 出站队列中的一次提交，字段与 submitTask 的参数一致，以 JSON 写入队列文件
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class OutboundSubmission {
+
+    /**
+     * 提交键，入队时生成，用于在日志中对应入队与发送
+     */
+    private String key;
+
+    /**
+     * 入队时间
+     */
+    private long enqueueTime;
+
+    private String projectCode;
+
+    private String taskCode;
+
+    private String scheduleTime;
+
+    private String failureStrategy;
+
+    private String warningType;
+
+    private int warningGroupId;
+
+    private String execType;
+
+    private String startNodeList;
+
+    private String taskDependType;
+
+    private String runMode;
+
+    private String processInstancePriority;
+
+    private String workerGroup;
+
+    private String environmentCode;
+
+    private String startParams;
+
+    private String expectedParallelismNumber;
+
+    private int dryRun;
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getEnqueueTime() {
+        return enqueueTime;
+    }
+
+    public void setEnqueueTime(long enqueueTime) {
+        this.enqueueTime = enqueueTime;
+    }
+
+    public String getProjectCode() {
+        return projectCode;
+    }
+
+    public void setProjectCode(String projectCode) {
+        this.projectCode = projectCode;
+    }
+
+    public String getTaskCode() {
+        return taskCode;
+    }
+
+    public void setTaskCode(String taskCode) {
+        this.taskCode = taskCode;
+    }
+
+    public String getScheduleTime() {
+        return scheduleTime;
+    }
+
+    public void setScheduleTime(String scheduleTime) {
+        this.scheduleTime = scheduleTime;
+    }
+
+    public String getFailureStrategy() {
+        return failureStrategy;
+    }
+
+    public void setFailureStrategy(String failureStrategy) {
+        this.failureStrategy = failureStrategy;
+    }
+
+    public String getWarningType() {
+        return warningType;
+    }
+
+    public void setWarningType(String warningType) {
+        this.warningType = warningType;
+    }
+
+    public int getWarningGroupId() {
+        return warningGroupId;
+    }
+
+    public void setWarningGroupId(int warningGroupId) {
+        this.warningGroupId = warningGroupId;
+    }
+
+    public String getExecType() {
+        return execType;
+    }
+
+    public void setExecType(String execType) {
+        this.execType = execType;
+    }
+
+    public String getStartNodeList() {
+        return startNodeList;
+    }
+
+    public void setStartNodeList(String startNodeList) {
+        this.startNodeList = startNodeList;
+    }
+
+    public String getTaskDependType() {
+        return taskDependType;
+    }
+
+    public void setTaskDependType(String taskDependType) {
+        this.taskDependType = taskDependType;
+    }
+
+    public String getRunMode() {
+        return runMode;
+    }
+
+    public void setRunMode(String runMode) {
+        this.runMode = runMode;
+    }
+
+    public String getProcessInstancePriority() {
+        return processInstancePriority;
+    }
+
+    public void setProcessInstancePriority(String processInstancePriority) {
+        this.processInstancePriority = processInstancePriority;
+    }
+
+    public String getWorkerGroup() {
+        return workerGroup;
+    }
+
+    public void setWorkerGroup(String workerGroup) {
+        this.workerGroup = workerGroup;
+    }
+
+    public String getEnvironmentCode() {
+        return environmentCode;
+    }
+
+    public void setEnvironmentCode(String environmentCode) {
+        this.environmentCode = environmentCode;
+    }
+
+    public String getStartParams() {
+        return startParams;
+    }
+
+    public void setStartParams(String startParams) {
+        this.startParams = startParams;
+    }
+
+    public String getExpectedParallelismNumber() {
+        return expectedParallelismNumber;
+    }
+
+    public void setExpectedParallelismNumber(String expectedParallelismNumber) {
+        this.expectedParallelismNumber = expectedParallelismNumber;
+    }
+
+    public int getDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(int dryRun) {
+        this.dryRun = dryRun;
+    }
+}
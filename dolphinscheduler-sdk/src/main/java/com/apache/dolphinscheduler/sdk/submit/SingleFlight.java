@@ -0,0 +1,138 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 合并相同键的并发调用。
+ * <p>
+ * 同一个键在进行中时，后来的调用不再执行，直接共享进行中调用的结果；调用结束（成功或失败）后移除该键，
+ * 之后的调用重新执行。只合并同时进行的调用，不缓存结果，缓存已完成的提交见 {@link IdempotentSubmitter}。
+ * 通过 {@link #await} 加入的调用方各自按自己的超时时间等待，所有等待方都离开后取消实际的调用。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 共享了进行中调用的次数
+     */
+    private final AtomicLong shared = new AtomicLong();
+
+    /**
+     * 执行或加入进行中的调用
+     * @param key 合并键
+     * @param call 实际的调用，只有第一个调用方会执行，可以在当前线程中同步完成
+     * @return 进行中调用的结果
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        // 不会离开，调用一直进行到结束
+        return join(key, call).future;
+    }
+
+    /**
+     * 执行或加入进行中的调用，并按自己的超时时间等待结果。
+     * 超时的调用方离开，不影响其他等待方；最后一个等待方离开时调用还没有结束则取消 call 返回的 future
+     * 并移除该键，之后相同的键重新执行
+     * @param key 合并键
+     * @param call 实际的调用，只有第一个调用方会执行，在当前线程中同步返回 future
+     * @param timeout 小于等于 0 时一直等待
+     * @return 超时或调用被取消时为 null
+     * @throws ExecutionException 调用失败
+     */
+    public V await(K key, Supplier<CompletableFuture<V>> call, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException {
+        Flight<V> flight = join(key, call);
+        try {
+            return timeout <= 0 || null == unit ? flight.future.get() : flight.future.get(timeout, unit);
+        } catch (TimeoutException | CancellationException e) {
+            return null;
+        } finally {
+            leave(key, flight);
+        }
+    }
+
+    private Flight<V> join(K key, Supplier<CompletableFuture<V>> call) {
+        Flight<V> created = new Flight<>();
+        Flight<V> flight = inFlight.compute(key, (k, existing) -> {
+            Flight<V> target = null == existing ? created : existing;
+            target.waiters++;
+            return target;
+        });
+        if (flight != created) {
+            shared.incrementAndGet();
+            return flight;
+        }
+        try {
+            CompletableFuture<V> source = call.get();
+            flight.source = source;
+            source.whenComplete((value, e) -> {
+                inFlight.remove(key, flight);
+                if (null == e) {
+                    flight.future.complete(value);
+                } else {
+                    flight.future.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.future.completeExceptionally(e);
+        }
+        return flight;
+    }
+
+    private void leave(K key, Flight<V> flight) {
+        // 在同一个键上与 join 互斥，最后一个等待方离开后加入的调用方会重新执行
+        boolean[] abandoned = new boolean[1];
+        inFlight.computeIfPresent(key, (k, current) -> {
+            if (current != flight || --current.waiters > 0 || current.future.isDone()) {
+                return current;
+            }
+            abandoned[0] = true;
+            return null;
+        });
+        CompletableFuture<V> source = flight.source;
+        if (abandoned[0] && null != source) {
+            source.cancel(false);
+        }
+    }
+
+    /**
+     * @return 进行中的键数
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return 共享了进行中调用的次数
+     */
+    public long getSharedCount() {
+        return shared.get();
+    }
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        /**
+         * call 返回的 future，所有等待方离开时取消
+         */
+        private volatile CompletableFuture<V> source;
+
+        /**
+         * 等待中的调用方数，只在 inFlight 的 compute 中读写
+         */
+        private int waiters;
+    }
+}
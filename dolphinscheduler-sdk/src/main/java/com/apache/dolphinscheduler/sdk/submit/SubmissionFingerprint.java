@@ -0,0 +1,69 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONException;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * 判断两次提交是否相同的键：项目、工作流定义、其他固定字段（execType、workerGroup、环境、失败策略、优先级、
+ * startNodeList 等）、scheduleTime 与规范化后的 startParams。
+ * <p>
+ * 使用模板时固定字段取模板预先编码的表单，只有所有字段都相同的提交才会被合并。
+ * <p>
+ * startParams 为 JSON 时按字段名排序后重新序列化，字段顺序、空白不同的参数视为相同；不是 JSON 时去掉首尾空白。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class SubmissionFingerprint {
+
+    private SubmissionFingerprint() {
+    }
+
+    public static String of(SubmissionTemplate template, String startParams) {
+        return of(template.getProjectCode(), template.getProcessDefinitionCode(), template.fixedFieldsKey(),
+                template.getScheduleTime(), startParams);
+    }
+
+    public static String of(SubmissionTemplate template, Object startParams) {
+        return prefix(template.getProjectCode(), template.getProcessDefinitionCode(), template.fixedFieldsKey(),
+                template.getScheduleTime()) + (null == startParams ? "" : sorted(startParams));
+    }
+
+    /**
+     * @param fixedFields 除项目、工作流定义、scheduleTime 与 startParams 外的其他提交字段
+     */
+    public static String of(String projectCode, String definitionCode, String fixedFields, String scheduleTime, String startParams) {
+        return prefix(projectCode, definitionCode, fixedFields, scheduleTime) + normalize(startParams);
+    }
+
+    public static String of(String projectCode, String definitionCode, String scheduleTime, String startParams) {
+        return of(projectCode, definitionCode, "", scheduleTime, startParams);
+    }
+
+    public static String of(String projectCode, String definitionCode, String scheduleTime, Object startParams) {
+        return prefix(projectCode, definitionCode, "", scheduleTime) + (null == startParams ? "" : sorted(startParams));
+    }
+
+    private static String prefix(String projectCode, String definitionCode, String fixedFields, String scheduleTime) {
+        return projectCode + '\u0000' + definitionCode + '\u0000' + StringUtils.trimToEmpty(fixedFields)
+                + '\u0000' + StringUtils.trimToEmpty(scheduleTime) + '\u0000';
+    }
+
+    static String normalize(String startParams) {
+        String params = StringUtils.trimToEmpty(startParams);
+        if (params.isEmpty() || (params.charAt(0) != '{' && params.charAt(0) != '[')) {
+            return params;
+        }
+        try {
+            return sorted(JSON.parse(params));
+        } catch (JSONException e) {
+            return params;
+        }
+    }
+
+    private static String sorted(Object value) {
+        return JSON.toJSONString(value, SerializerFeature.MapSortField, SerializerFeature.SortField);
+    }
+}
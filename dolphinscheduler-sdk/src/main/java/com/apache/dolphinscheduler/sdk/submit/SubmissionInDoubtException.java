@@ -0,0 +1,21 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+/**
+ * 使用同一幂等键的提交之前已发出但结果未知（如读超时），为避免重复启动工作流而拒绝再次提交
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class SubmissionInDoubtException extends RuntimeException {
+
+    private final String submissionKey;
+
+    public SubmissionInDoubtException(String submissionKey, Throwable cause) {
+        super("submission " + submissionKey + " may have reached the server, outcome unknown", cause);
+        this.submissionKey = submissionKey;
+    }
+
+    public String getSubmissionKey() {
+        return submissionKey;
+    }
+}
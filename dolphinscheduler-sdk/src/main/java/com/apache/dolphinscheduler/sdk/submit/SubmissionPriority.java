@@ -0,0 +1,27 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+/**
+ * 提交的优先级，同一租户内优先级高的先发送，并作为工作流实例的 processInstancePriority
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public enum SubmissionPriority {
+
+    HIGHEST,
+
+    HIGH,
+
+    MEDIUM,
+
+    LOW,
+
+    LOWEST;
+
+    /**
+     * @return 对应的 processInstancePriority
+     */
+    public String processInstancePriority() {
+        return name();
+    }
+}
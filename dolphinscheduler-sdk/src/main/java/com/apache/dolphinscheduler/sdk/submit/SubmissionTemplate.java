@@ -0,0 +1,503 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import com.alibaba.fastjson.JSON;
+import com.apache.dolphinscheduler.sdk.remote.FormBodyWriter;
+import org.apache.commons.lang.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 不可变的工作流提交模板。
+ * <p>
+ * 项目、工作流定义、worker group、环境、优先级、策略等固定字段在构建时校验一次，
+ * 并预先编码为 application/x-www-form-urlencoded 表单；每次提交只需编码变化的 startParams 与 scheduleTime。
+ * 同一个模板可以在多个线程中重复使用。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class SubmissionTemplate {
+
+    private static final Set<String> PRIORITIES = values("HIGHEST", "HIGH", "MEDIUM", "LOW", "LOWEST");
+
+    private static final Set<String> FAILURE_STRATEGIES = values("CONTINUE", "END");
+
+    private static final Set<String> WARNING_TYPES = values("NONE", "SUCCESS", "FAILURE", "ALL");
+
+    private static final Set<String> TASK_DEPEND_TYPES = values("TASK_ONLY", "TASK_PRE", "TASK_POST");
+
+    private static final Set<String> RUN_MODES = values("RUN_MODE_SERIAL", "RUN_MODE_PARALLEL");
+
+    private final String projectCode;
+
+    private final String processDefinitionCode;
+
+    private final String scheduleTime;
+
+    private final String failureStrategy;
+
+    private final String warningType;
+
+    private final int warningGroupId;
+
+    private final String execType;
+
+    private final String startNodeList;
+
+    private final String taskDependType;
+
+    private final String runMode;
+
+    private final String processInstancePriority;
+
+    private final String workerGroup;
+
+    private final String environmentCode;
+
+    private final String expectedParallelismNumber;
+
+    private final int dryRun;
+
+    /**
+     * 自动选择 worker group 时的候选 group，为 null 时不自动选择，为空时可选择任意 group
+     */
+    private final List<String> placementGroups;
+
+    /**
+     * 预先编码的固定字段
+     */
+    private final byte[] encodedFixedFields;
+
+    /**
+     * 固定字段与候选 group，用于判断两次提交是否相同
+     */
+    private final String fixedFieldsKey;
+
+    /**
+     * 自动选择 worker group 时按 group 预先编码的固定字段
+     */
+    private final Map<String, byte[]> encodedFixedFieldsByGroup = new ConcurrentHashMap<>();
+
+    /**
+     * 按优先级派生的模板
+     */
+    private final Map<String, SubmissionTemplate> byPriority = new ConcurrentHashMap<>();
+
+    private SubmissionTemplate(Builder builder) {
+        this.projectCode = builder.projectCode;
+        this.processDefinitionCode = builder.processDefinitionCode;
+        this.scheduleTime = builder.scheduleTime;
+        this.failureStrategy = builder.failureStrategy;
+        this.warningType = builder.warningType;
+        this.warningGroupId = builder.warningGroupId;
+        this.execType = builder.execType;
+        this.startNodeList = builder.startNodeList;
+        this.taskDependType = builder.taskDependType;
+        this.runMode = builder.runMode;
+        this.processInstancePriority = builder.processInstancePriority;
+        this.workerGroup = builder.workerGroup;
+        this.environmentCode = builder.environmentCode;
+        this.expectedParallelismNumber = builder.expectedParallelismNumber;
+        this.dryRun = builder.dryRun;
+        this.placementGroups = null == builder.placementGroups ? null
+                : Collections.unmodifiableList(new ArrayList<>(builder.placementGroups));
+        this.encodedFixedFields = encodeFixedFields(workerGroup);
+        String fixedFields = new String(encodedFixedFields, StandardCharsets.US_ASCII);
+        this.fixedFieldsKey = null == placementGroups ? fixedFields : fixedFields + '&' + placementGroups;
+    }
+
+    public static Builder builder(String projectCode, String processDefinitionCode) {
+        return new Builder(projectCode, processDefinitionCode);
+    }
+
+    /**
+     * 生成提交表单，使用模板中的 scheduleTime
+     * @param startParams 启动参数，JSON 字符串
+     * @return
+     */
+    public byte[] encode(String startParams) {
+        return encode(startParams, scheduleTime, Long.MAX_VALUE);
+    }
+
+    /**
+     * 生成提交表单
+     * @param startParams 启动参数，JSON 字符串
+     * @param scheduleTime 调度时间
+     * @param maxStartParamsBytes startParams 的最大字节数
+     * @return
+     * @throws IllegalArgumentException startParams 超过 maxStartParamsBytes
+     */
+    public byte[] encode(String startParams, String scheduleTime, long maxStartParamsBytes) {
+        return encode(startParams, scheduleTime, null, maxStartParamsBytes);
+    }
+
+    /**
+     * 生成提交表单
+     * @param startParams 启动参数，JSON 字符串
+     * @param scheduleTime 调度时间
+     * @param workerGroup 本次提交使用的 worker group，为 null 时使用模板中的 worker group
+     * @param maxStartParamsBytes startParams 的最大字节数
+     * @return
+     * @throws IllegalArgumentException startParams 超过 maxStartParamsBytes
+     */
+    public byte[] encode(String startParams, String scheduleTime, String workerGroup, long maxStartParamsBytes) {
+        byte[] fixedFields = fixedFields(workerGroup);
+        int length = startParams == null ? 0 : startParams.length();
+        FormBodyWriter form = new FormBodyWriter(fixedFields.length + length + (length >> 1) + 64)
+                .appendEncoded(fixedFields)
+                .field("startParams", startParams, maxStartParamsBytes);
+        return form.field("scheduleTime", scheduleTime).toByteArray();
+    }
+
+    /**
+     * 生成提交表单，startParams 序列化为 JSON 后直接编码进表单，不产生中间字符串
+     * @param startParams 启动参数
+     * @param scheduleTime 调度时间
+     * @param maxStartParamsBytes startParams 序列化后的最大字节数
+     * @return
+     * @throws IllegalArgumentException startParams 超过 maxStartParamsBytes
+     */
+    public byte[] encode(Map<String, ?> startParams, String scheduleTime, long maxStartParamsBytes) {
+        return encode(startParams, scheduleTime, null, maxStartParamsBytes);
+    }
+
+    /**
+     * 生成提交表单，startParams 序列化为 JSON 后直接编码进表单
+     * @param startParams 启动参数
+     * @param scheduleTime 调度时间
+     * @param workerGroup 本次提交使用的 worker group，为 null 时使用模板中的 worker group
+     * @param maxStartParamsBytes startParams 序列化后的最大字节数
+     * @return
+     * @throws IllegalArgumentException startParams 超过 maxStartParamsBytes
+     */
+    public byte[] encode(Map<String, ?> startParams, String scheduleTime, String workerGroup, long maxStartParamsBytes) {
+        byte[] fixedFields = fixedFields(workerGroup);
+        FormBodyWriter form = new FormBodyWriter(fixedFields.length + 256)
+                .appendEncoded(fixedFields);
+        try (FormBodyWriter.FieldWriter writer = form.fieldWriter("startParams", maxStartParamsBytes)) {
+            if (startParams != null && !startParams.isEmpty()) {
+                JSON.writeJSONString(writer, startParams);
+            }
+        }
+        return form.field("scheduleTime", scheduleTime).toByteArray();
+    }
+
+    /**
+     * @return 修改部分字段后的新模板
+     */
+    public Builder toBuilder() {
+        return new Builder(projectCode, processDefinitionCode)
+                .scheduleTime(scheduleTime)
+                .failureStrategy(failureStrategy)
+                .warningType(warningType)
+                .warningGroupId(warningGroupId)
+                .execType(execType)
+                .startNodeList(startNodeList)
+                .taskDependType(taskDependType)
+                .runMode(runMode)
+                .processInstancePriority(processInstancePriority)
+                .workerGroup(workerGroup)
+                .environmentCode(environmentCode)
+                .expectedParallelismNumber(expectedParallelismNumber)
+                .dryRun(dryRun)
+                .autoPlacement(placementGroups);
+    }
+
+    /**
+     * 只修改 processInstancePriority，派生的模板按优先级缓存，重复调用不会重新编码
+     * @throws IllegalArgumentException 优先级不合法
+     */
+    public SubmissionTemplate withProcessInstancePriority(String priority) {
+        if (processInstancePriority.equals(priority)) {
+            return this;
+        }
+        return byPriority.computeIfAbsent(priority, p -> toBuilder().processInstancePriority(p).build());
+    }
+
+    private byte[] fixedFields(String group) {
+        if (null == group || group.equals(workerGroup)) {
+            return encodedFixedFields;
+        }
+        return encodedFixedFieldsByGroup.computeIfAbsent(group, this::encodeFixedFields);
+    }
+
+    private byte[] encodeFixedFields(String workerGroup) {
+        return new FormBodyWriter()
+                .field("processDefinitionCode", processDefinitionCode)
+                .field("failureStrategy", failureStrategy)
+                .field("warningType", warningType)
+                .field("warningGroupId", String.valueOf(warningGroupId))
+                .field("execType", execType)
+                .field("startNodeList", startNodeList)
+                .field("taskDependType", taskDependType)
+                .field("runMode", runMode)
+                .field("processInstancePriority", processInstancePriority)
+                .field("workerGroup", workerGroup)
+                .field("environmentCode", environmentCode)
+                .field("expectedParallelismNumber", expectedParallelismNumber)
+                .field("dryRun", String.valueOf(dryRun))
+                .toByteArray();
+    }
+
+    /**
+     * @return 预先编码的固定字段（不含 startParams 与 scheduleTime）及候选 group
+     * @see SubmissionFingerprint
+     */
+    String fixedFieldsKey() {
+        return fixedFieldsKey;
+    }
+
+    private static Set<String> values(String... values) {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(values)));
+    }
+
+    public String getProjectCode() {
+        return projectCode;
+    }
+
+    public String getProcessDefinitionCode() {
+        return processDefinitionCode;
+    }
+
+    public String getScheduleTime() {
+        return scheduleTime;
+    }
+
+    public String getFailureStrategy() {
+        return failureStrategy;
+    }
+
+    public String getWarningType() {
+        return warningType;
+    }
+
+    public int getWarningGroupId() {
+        return warningGroupId;
+    }
+
+    public String getExecType() {
+        return execType;
+    }
+
+    public String getStartNodeList() {
+        return startNodeList;
+    }
+
+    public String getTaskDependType() {
+        return taskDependType;
+    }
+
+    public String getRunMode() {
+        return runMode;
+    }
+
+    public String getProcessInstancePriority() {
+        return processInstancePriority;
+    }
+
+    public String getWorkerGroup() {
+        return workerGroup;
+    }
+
+    public String getEnvironmentCode() {
+        return environmentCode;
+    }
+
+    public String getExpectedParallelismNumber() {
+        return expectedParallelismNumber;
+    }
+
+    public int getDryRun() {
+        return dryRun;
+    }
+
+    /**
+     * @return 是否在提交时按 worker 负载自动选择 worker group
+     */
+    public boolean isAutoPlacement() {
+        return null != placementGroups;
+    }
+
+    /**
+     * @return 自动选择时的候选 worker group，为空时可选择任意 group
+     */
+    public List<String> getPlacementGroups() {
+        return null == placementGroups ? Collections.emptyList() : placementGroups;
+    }
+
+    @Override
+    public String toString() {
+        return "SubmissionTemplate{" +
+                "projectCode='" + projectCode + '\'' +
+                ", processDefinitionCode='" + processDefinitionCode + '\'' +
+                ", workerGroup='" + workerGroup + '\'' +
+                ", environmentCode='" + environmentCode + '\'' +
+                ", processInstancePriority='" + processInstancePriority + '\'' +
+                ", failureStrategy='" + failureStrategy + '\'' +
+                ", runMode='" + runMode + '\'' +
+                ", placementGroups=" + placementGroups +
+                '}';
+    }
+
+    /**
+     * 模板构建器，未设置的字段使用与 DsClient#submitTask 相同的默认值
+     */
+    public static final class Builder {
+
+        private final String projectCode;
+
+        private final String processDefinitionCode;
+
+        private String scheduleTime = "";
+
+        private String failureStrategy = "CONTINUE";
+
+        private String warningType = "NONE";
+
+        private int warningGroupId;
+
+        private String execType = "";
+
+        private String startNodeList = "";
+
+        private String taskDependType = "TASK_POST";
+
+        private String runMode = "RUN_MODE_SERIAL";
+
+        private String processInstancePriority = "MEDIUM";
+
+        private String workerGroup = "default";
+
+        private String environmentCode = "";
+
+        private String expectedParallelismNumber = "";
+
+        private int dryRun;
+
+        private Collection<String> placementGroups;
+
+        private Builder(String projectCode, String processDefinitionCode) {
+            this.projectCode = StringUtils.trimToNull(projectCode);
+            this.processDefinitionCode = StringUtils.trimToNull(processDefinitionCode);
+        }
+
+        public Builder scheduleTime(String scheduleTime) {
+            this.scheduleTime = StringUtils.trimToEmpty(scheduleTime);
+            return this;
+        }
+
+        public Builder failureStrategy(String failureStrategy) {
+            this.failureStrategy = StringUtils.defaultIfBlank(StringUtils.trim(failureStrategy), "CONTINUE");
+            return this;
+        }
+
+        public Builder warningType(String warningType) {
+            this.warningType = StringUtils.defaultIfBlank(StringUtils.trim(warningType), "NONE");
+            return this;
+        }
+
+        public Builder warningGroupId(int warningGroupId) {
+            this.warningGroupId = warningGroupId;
+            return this;
+        }
+
+        public Builder execType(String execType) {
+            this.execType = StringUtils.trimToEmpty(execType);
+            return this;
+        }
+
+        public Builder startNodeList(String startNodeList) {
+            this.startNodeList = StringUtils.trimToEmpty(startNodeList);
+            return this;
+        }
+
+        public Builder taskDependType(String taskDependType) {
+            this.taskDependType = StringUtils.defaultIfBlank(StringUtils.trim(taskDependType), "TASK_POST");
+            return this;
+        }
+
+        public Builder runMode(String runMode) {
+            this.runMode = StringUtils.defaultIfBlank(StringUtils.trim(runMode), "RUN_MODE_SERIAL");
+            return this;
+        }
+
+        public Builder processInstancePriority(String processInstancePriority) {
+            this.processInstancePriority = StringUtils.defaultIfBlank(StringUtils.trim(processInstancePriority), "MEDIUM");
+            return this;
+        }
+
+        public Builder workerGroup(String workerGroup) {
+            this.workerGroup = StringUtils.defaultIfBlank(StringUtils.trim(workerGroup), "default");
+            return this;
+        }
+
+        public Builder environmentCode(String environmentCode) {
+            this.environmentCode = StringUtils.trimToEmpty(environmentCode);
+            return this;
+        }
+
+        public Builder expectedParallelismNumber(String expectedParallelismNumber) {
+            this.expectedParallelismNumber = StringUtils.trimToEmpty(expectedParallelismNumber);
+            return this;
+        }
+
+        public Builder dryRun(int dryRun) {
+            this.dryRun = dryRun;
+            return this;
+        }
+
+        /**
+         * 提交时按 worker 负载在候选 group 中自动选择 worker group，没有可用 worker 时使用 {@link #workerGroup(String)}
+         * @param candidates 候选 worker group，为空时可选择任意 group，为 null 时关闭自动选择
+         */
+        public Builder autoPlacement(Collection<String> candidates) {
+            this.placementGroups = candidates;
+            return this;
+        }
+
+        /**
+         * 校验并构建模板
+         * @throws IllegalArgumentException 字段不合法
+         */
+        public SubmissionTemplate build() {
+            requireCode("projectCode", projectCode);
+            requireCode("processDefinitionCode", processDefinitionCode);
+            requireOneOf("failureStrategy", failureStrategy, FAILURE_STRATEGIES);
+            requireOneOf("warningType", warningType, WARNING_TYPES);
+            requireOneOf("taskDependType", taskDependType, TASK_DEPEND_TYPES);
+            requireOneOf("runMode", runMode, RUN_MODES);
+            requireOneOf("processInstancePriority", processInstancePriority, PRIORITIES);
+            if (!environmentCode.isEmpty() && !StringUtils.isNumeric(environmentCode)) {
+                throw new IllegalArgumentException("environmentCode must be numeric: " + environmentCode);
+            }
+            if (!expectedParallelismNumber.isEmpty() && !StringUtils.isNumeric(expectedParallelismNumber)) {
+                throw new IllegalArgumentException("expectedParallelismNumber must be numeric: " + expectedParallelismNumber);
+            }
+            if (dryRun != 0 && dryRun != 1) {
+                throw new IllegalArgumentException("dryRun must be 0 or 1: " + dryRun);
+            }
+            return new SubmissionTemplate(this);
+        }
+
+        private static void requireCode(String name, String value) {
+            if (value == null || !StringUtils.isNumeric(value)) {
+                throw new IllegalArgumentException(name + " must be a numeric code: " + value);
+            }
+        }
+
+        private static void requireOneOf(String name, String value, Set<String> allowed) {
+            if (!allowed.contains(value)) {
+                throw new IllegalArgumentException(name + " must be one of " + allowed + ": " + value);
+            }
+        }
+    }
+}
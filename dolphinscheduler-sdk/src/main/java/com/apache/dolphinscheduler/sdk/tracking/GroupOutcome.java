@@ -0,0 +1,70 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分组等待的结果，按 command id 给出每个成员的结果
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class GroupOutcome {
+
+    private final Map<Integer, MemberOutcome> members;
+
+    public GroupOutcome(Map<Integer, MemberOutcome> members) {
+        this.members = Collections.unmodifiableMap(members);
+    }
+
+    public Map<Integer, MemberOutcome> getMembers() {
+        return members;
+    }
+
+    public MemberOutcome get(int commandId) {
+        return members.get(commandId);
+    }
+
+    /**
+     * @return 已结束的成员
+     */
+    public List<MemberOutcome> getFinished() {
+        List<MemberOutcome> finished = new ArrayList<>();
+        for (MemberOutcome member : members.values()) {
+            if (member.isFinished()) {
+                finished.add(member);
+            }
+        }
+        return finished;
+    }
+
+    /**
+     * @return 未结束的成员，包括订阅失败的
+     */
+    public List<MemberOutcome> getPending() {
+        List<MemberOutcome> pending = new ArrayList<>();
+        for (MemberOutcome member : members.values()) {
+            if (!member.isFinished()) {
+                pending.add(member);
+            }
+        }
+        return pending;
+    }
+
+    public boolean isAllFinished() {
+        return members.values().stream().allMatch(MemberOutcome::isFinished);
+    }
+
+    public boolean isAllSuccess() {
+        return members.values().stream().allMatch(MemberOutcome::isSuccess);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupOutcome{" +
+                "members=" + members.values() +
+                '}';
+    }
+}
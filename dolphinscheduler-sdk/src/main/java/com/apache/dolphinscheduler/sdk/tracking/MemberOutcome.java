@@ -0,0 +1,69 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+
+/**
+ * 分组中一个 command 的结果
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class MemberOutcome {
+
+    private final int commandId;
+
+    /**
+     * 最后收到的状态，还没有收到时为 null
+     */
+    private final ProcessInstanceStateCommand lastState;
+
+    private final boolean finished;
+
+    /**
+     * 订阅失败或被取消的原因
+     */
+    private final Throwable error;
+
+    public MemberOutcome(int commandId, ProcessInstanceStateCommand lastState, boolean finished, Throwable error) {
+        this.commandId = commandId;
+        this.lastState = lastState;
+        this.finished = finished;
+        this.error = error;
+    }
+
+    public int getCommandId() {
+        return commandId;
+    }
+
+    public ProcessInstanceStateCommand getLastState() {
+        return lastState;
+    }
+
+    /**
+     * @return 实例是否已结束
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @return 实例是否已成功结束
+     */
+    public boolean isSuccess() {
+        return finished && null != lastState && lastState.getExecutionStatus().typeIsSuccess();
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "MemberOutcome{" +
+                "commandId=" + commandId +
+                ", finished=" + finished +
+                ", state=" + (null == lastState ? null : lastState.getExecutionStatus()) +
+                ", error=" + error +
+                '}';
+    }
+}
@@ -0,0 +1,443 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import com.apache.dolphinscheduler.sdk.processer.ProcessStateCallback;
+import com.apache.dolphinscheduler.sdk.remote.model.ProcessInstance;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.dolphinscheduler.common.utils.JSONUtils;
+import org.apache.dolphinscheduler.plugin.task.api.enums.ExecutionStatus;
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 通过 REST 接口轮询工作流实例状态，在 master 推送不可用时代替 {@link com.apache.dolphinscheduler.sdk.processer.ProcessInstanceStateProcessor}。
+ * <p>
+ * 同一工作流定义下的所有跟踪实例合并为一次分页查询。工作流实例中没有 command id，
+ * 按提交时间与实例的命令时间对应：未对应的提交按提交时间顺序认领最早的、尚未被认领的实例。
+ * 只轮询时提交前通过 {@link #baseline} 记录该工作流定义已有的最大实例 ID，提交前已存在的实例（包括其他客户端启动的）不会被认领；
+ * 推送失败后才改为轮询的提交没有该记录，只按时间对应。
+ * <p>
+ * 每个实例的轮询间隔按其已运行时间与该工作流的预期耗时自适应：刚提交或接近预期结束时间时频繁查询，
+ * 长时间运行的实例逐渐放慢，间隔限制在 [minIntervalMillis, maxIntervalMillis] 内。
+ * 预期耗时取该工作流已结束实例耗时的滑动平均。每轮查询数不超过 maxRequestsPerRound，超出的留到下一轮。
+ * <p>
+ * 状态变化时调用回调的 {@link ProcessStateCallback#callback}，事件类型为 PROCESS_STATE_CHANGE，实例结束后停止跟踪。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class PollingStateTracker implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PollingStateTracker.class);
+
+    /**
+     * 本地与服务端的时钟误差
+     */
+    private static final long CLOCK_SKEW_MILLIS = 60_000L;
+
+    /**
+     * 预期耗时滑动平均中新样本的权重
+     */
+    private static final double DURATION_ALPHA = 0.3D;
+
+    /**
+     * 查询提交前最新实例时的每页大小，实例按开始时间倒序，第一页即包含最新的实例
+     */
+    private static final int BASELINE_PAGE_SIZE = 10;
+
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final ProcessInstanceQuery query;
+
+    private final long minIntervalMillis;
+
+    private final long maxIntervalMillis;
+
+    /**
+     * 没有预期耗时时，轮询间隔为已运行时间乘以该系数
+     */
+    private final double ageFactor;
+
+    private final int pageSize;
+
+    /**
+     * 一次查询最多翻页数
+     */
+    private final int maxPages;
+
+    /**
+     * 每轮最多发起的查询数
+     */
+    private final int maxRequestsPerRound;
+
+    private final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+
+    /**
+     * 工作流定义的预期耗时，毫秒
+     */
+    private final Map<String, Long> expectedDurations = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public PollingStateTracker(ProcessInstanceQuery query,
+                               long minIntervalMillis,
+                               long maxIntervalMillis,
+                               double ageFactor,
+                               int pageSize,
+                               int maxPages,
+                               int maxRequestsPerRound) {
+        this.query = query;
+        this.minIntervalMillis = Math.max(200L, minIntervalMillis);
+        this.maxIntervalMillis = Math.max(this.minIntervalMillis, maxIntervalMillis);
+        this.ageFactor = ageFactor;
+        this.pageSize = pageSize <= 0 ? 100 : pageSize;
+        this.maxPages = Math.max(1, maxPages);
+        this.maxRequestsPerRound = Math.max(1, maxRequestsPerRound);
+    }
+
+    /**
+     * 开始跟踪
+     * @param instance 提交信息
+     * @param callback 状态回调
+     * @param initialDelayMillis 首次查询前的等待时间，用于给 master 推送留出宽限
+     */
+    public void track(TrackedInstance instance, ProcessStateCallback callback, long initialDelayMillis) {
+        Tracked member = new Tracked(instance, callback);
+        member.nextPollTime = System.currentTimeMillis() + Math.max(minIntervalMillis, initialDelayMillis);
+        tracked.put(instance.getId(), member);
+        start();
+    }
+
+    /**
+     * 在提交前调用，查询工作流定义当前最新的实例
+     * @return 已有的最大实例 ID，没有实例或查询失败时为 0（此时只按时间对应）
+     */
+    public int baseline(String projectCode, String definitionCode) {
+        String startDate = DATE_FORMATTER.format(Instant.ofEpochMilli(System.currentTimeMillis() - CLOCK_SKEW_MILLIS));
+        try {
+            int latest = 0;
+            for (ProcessInstance instance : query.query(projectCode, definitionCode, startDate, 1, BASELINE_PAGE_SIZE)) {
+                if (null != instance.getId()) {
+                    latest = Math.max(latest, instance.getId());
+                }
+            }
+            return latest;
+        } catch (Exception e) {
+            LOGGER.warn("query latest process instance of {} failed, correlate by time only: {}",
+                    groupKey(projectCode, definitionCode), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 停止跟踪
+     * @return 是否在跟踪中
+     */
+    public boolean untrack(String id) {
+        return null != tracked.remove(id);
+    }
+
+    public int size() {
+        return tracked.size();
+    }
+
+    /**
+     * @return 工作流定义的预期耗时，还没有结束过的实例时为 null
+     */
+    public Long getExpectedDuration(String projectCode, String definitionCode) {
+        return expectedDurations.get(groupKey(projectCode, definitionCode));
+    }
+
+    private synchronized void start() {
+        if (null == scheduler) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("ds-state-poller").setDaemon(true).build());
+            long tick = Math.min(1000L, minIntervalMillis);
+            scheduler.scheduleWithFixedDelay(this::pollQuietly, tick, tick, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (Exception e) {
+            LOGGER.warn("poll process instance state failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 查询到期的实例
+     */
+    void poll() {
+        if (tracked.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        // 按工作流定义分组，组内任一实例到期即查询整组
+        Map<String, List<Tracked>> groups = new HashMap<>();
+        Map<String, Long> groupDue = new HashMap<>();
+        for (Tracked member : tracked.values()) {
+            TrackedInstance instance = member.instance;
+            String key = groupKey(instance.getProjectCode(), instance.getDefinitionCode());
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(member);
+            groupDue.merge(key, member.nextPollTime, Math::min);
+        }
+        List<String> due = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : groupDue.entrySet()) {
+            if (entry.getValue() <= now) {
+                due.add(entry.getKey());
+            }
+        }
+        due.sort(Comparator.comparing(groupDue::get));
+        int budget = maxRequestsPerRound;
+        for (String key : due) {
+            if (budget <= 0) {
+                break;
+            }
+            budget -= pollGroup(key, groups.get(key), budget);
+        }
+    }
+
+    /**
+     * 查询一个工作流定义下的实例
+     * @return 发起的请求数
+     */
+    private int pollGroup(String key, List<Tracked> members, int budget) {
+        TrackedInstance first = members.get(0).instance;
+        long earliest = Long.MAX_VALUE;
+        int unresolved = 0;
+        for (Tracked member : members) {
+            earliest = Math.min(earliest, member.instance.getSubmitTime());
+            if (null == member.processInstanceId) {
+                unresolved++;
+            }
+        }
+        String startDate = DATE_FORMATTER.format(Instant.ofEpochMilli(earliest - CLOCK_SKEW_MILLIS));
+
+        Map<Integer, ProcessInstance> instances = new LinkedHashMap<>();
+        int requests = 0;
+        try {
+            for (int pageNo = 1; pageNo <= maxPages && requests < budget; pageNo++) {
+                List<ProcessInstance> page = query.query(first.getProjectCode(), first.getDefinitionCode(), startDate, pageNo, pageSize);
+                requests++;
+                for (ProcessInstance instance : page) {
+                    if (null != instance.getId()) {
+                        instances.put(instance.getId(), instance);
+                    }
+                }
+                if (page.size() < pageSize || foundAll(members, instances, unresolved)) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.warn("query process instances of {} failed: {}", key, e.getMessage());
+            long now = System.currentTimeMillis();
+            for (Tracked member : members) {
+                member.nextPollTime = now + nextInterval(member, now);
+            }
+            return Math.max(1, requests);
+        }
+
+        long now = System.currentTimeMillis();
+        correlate(members, instances);
+        for (Tracked member : members) {
+            ProcessInstance instance = null == member.processInstanceId ? null : instances.get(member.processInstanceId);
+            if (null != instance) {
+                update(key, member, instance);
+            }
+            member.nextPollTime = now + nextInterval(member, now);
+        }
+        return requests;
+    }
+
+    private static boolean foundAll(List<Tracked> members, Map<Integer, ProcessInstance> instances, int unresolved) {
+        int claimed = 0;
+        for (Tracked member : members) {
+            if (null != member.processInstanceId) {
+                if (!instances.containsKey(member.processInstanceId)) {
+                    return false;
+                }
+                claimed++;
+            }
+        }
+        return instances.size() - claimed >= unresolved;
+    }
+
+    /**
+     * 按提交时间顺序为未对应的提交认领实例
+     */
+    private void correlate(List<Tracked> members, Map<Integer, ProcessInstance> instances) {
+        Set<Integer> claimed = new HashSet<>();
+        for (Tracked member : tracked.values()) {
+            if (null != member.processInstanceId) {
+                claimed.add(member.processInstanceId);
+            }
+        }
+        List<ProcessInstance> candidates = new ArrayList<>();
+        for (ProcessInstance instance : instances.values()) {
+            if (!claimed.contains(instance.getId()) && null != submittedAt(instance)) {
+                candidates.add(instance);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        candidates.sort(Comparator.comparing(PollingStateTracker::submittedAt));
+        List<Tracked> pending = new ArrayList<>();
+        for (Tracked member : members) {
+            if (null == member.processInstanceId) {
+                pending.add(member);
+            }
+        }
+        pending.sort(Comparator.comparingLong(member -> member.instance.getSubmitTime()));
+        for (Tracked member : pending) {
+            Iterator<ProcessInstance> iterator = candidates.iterator();
+            while (iterator.hasNext()) {
+                ProcessInstance instance = iterator.next();
+                // 提交前已存在的实例不属于本次提交
+                if (instance.getId() <= member.instance.getBaselineInstanceId()) {
+                    continue;
+                }
+                if (submittedAt(instance).getTime() >= member.instance.getSubmitTime() - CLOCK_SKEW_MILLIS) {
+                    member.processInstanceId = instance.getId();
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    private static Date submittedAt(ProcessInstance instance) {
+        return null != instance.getCommandStartTime() ? instance.getCommandStartTime() : instance.getStartTime();
+    }
+
+    private void update(String key, Tracked member, ProcessInstance instance) {
+        String state = instance.getState();
+        if (null == state || state.equals(member.lastState)) {
+            return;
+        }
+        member.lastState = state;
+        boolean finished = isFinished(state);
+        if (finished) {
+            tracked.remove(member.instance.getId(), member);
+            recordDuration(key, instance);
+        }
+        ProcessInstanceStateCommand command = toCommand(member, instance);
+        if (null == command) {
+            return;
+        }
+        try {
+            member.callback.callback(command);
+        } catch (Exception e) {
+            LOGGER.error("process state callback of {} failed", member.instance, e);
+        }
+    }
+
+    /**
+     * 与 master 推送的判断一致，未知的状态视为未结束
+     */
+    static boolean isFinished(String state) {
+        try {
+            return ExecutionStatus.valueOf(state).typeIsFinished();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void recordDuration(String key, ProcessInstance instance) {
+        if (null == instance.getStartTime() || null == instance.getEndTime()) {
+            return;
+        }
+        long duration = Math.max(0L, instance.getEndTime().getTime() - instance.getStartTime().getTime());
+        expectedDurations.merge(key, duration, (old, sample) -> (long) (old + DURATION_ALPHA * (sample - old)));
+    }
+
+    /**
+     * 转换为与 master 推送相同的状态命令，实例状态按名称解析
+     */
+    private static ProcessInstanceStateCommand toCommand(Tracked member, ProcessInstance instance) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("id", member.instance.getId());
+        body.put("commandId", member.instance.getCommandId());
+        body.put("processInstanceId", instance.getId());
+        body.put("executionStatus", instance.getState());
+        body.put("eventType", "PROCESS_STATE_CHANGE");
+        body.put("consumerType", ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE.name());
+        ProcessInstanceStateCommand command = JSONUtils.parseObject(JSONUtils.toJsonString(body), ProcessInstanceStateCommand.class);
+        if (null == command) {
+            LOGGER.warn("unknown process instance state {} of {}", instance.getState(), member.instance);
+        }
+        return command;
+    }
+
+    /**
+     * 下一次查询的间隔
+     */
+    long nextInterval(Tracked member, long now) {
+        TrackedInstance instance = member.instance;
+        long age = Math.max(0L, now - instance.getSubmitTime());
+        Long expected = expectedDurations.get(groupKey(instance.getProjectCode(), instance.getDefinitionCode()));
+        long interval;
+        if (null == expected) {
+            interval = (long) (age * ageFactor);
+        } else {
+            long remaining = instance.getSubmitTime() + expected - now;
+            // 预期结束前逐步加密，超过预期后按超出的时间放慢
+            interval = remaining > 0 ? remaining / 2 : (long) (-remaining * ageFactor);
+        }
+        return Math.min(maxIntervalMillis, Math.max(minIntervalMillis, interval));
+    }
+
+    private static String groupKey(String projectCode, String definitionCode) {
+        return projectCode + "/" + definitionCode;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (null != scheduler) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        tracked.clear();
+    }
+
+    static final class Tracked {
+
+        private final TrackedInstance instance;
+
+        private final ProcessStateCallback callback;
+
+        private volatile long nextPollTime;
+
+        /**
+         * 已对应的工作流实例
+         */
+        private volatile Integer processInstanceId;
+
+        private volatile String lastState;
+
+        Tracked(TrackedInstance instance, ProcessStateCallback callback) {
+            this.instance = instance;
+            this.callback = callback;
+        }
+    }
+}
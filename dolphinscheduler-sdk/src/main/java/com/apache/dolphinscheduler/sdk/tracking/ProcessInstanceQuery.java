@@ -0,0 +1,26 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import com.apache.dolphinscheduler.sdk.remote.model.ProcessInstance;
+
+import java.util.List;
+
+/**
+ * 查询一个工作流定义的实例
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+@FunctionalInterface
+public interface ProcessInstanceQuery {
+
+    /**
+     * 分页查询，按开始时间倒序
+     * @param projectCode 项目编码
+     * @param definitionCode 工作流定义编码
+     * @param startDate 开始时间不早于该时间，yyyy-MM-dd HH:mm:ss
+     * @param pageNo 页码，从 1 开始
+     * @param pageSize 每页大小
+     * @return 当页数据，没有数据时返回空集合
+     */
+    List<ProcessInstance> query(String projectCode, String definitionCode, String startDate, int pageNo, int pageSize);
+}
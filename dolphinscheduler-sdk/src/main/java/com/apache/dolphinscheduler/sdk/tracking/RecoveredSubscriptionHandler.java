@@ -0,0 +1,19 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import com.apache.dolphinscheduler.sdk.processer.ProcessStateCallback;
+
+/**
+ * 重启后恢复订阅时，为每个订阅提供状态回调
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public interface RecoveredSubscriptionHandler {
+
+    /**
+     * 恢复一个订阅
+     * @param subscription 重启前注册的订阅
+     * @return 接收该订阅状态的回调，返回 null 时放弃该订阅
+     */
+    ProcessStateCallback recover(Subscription subscription);
+}
@@ -0,0 +1,77 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+
+/**
+ * 一个在 master 上注册的工作流状态订阅
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class Subscription {
+
+    /**
+     * 订阅 ID，即提交时的雪花 ID
+     */
+    private final String id;
+
+    /**
+     * 订阅的 command id，订阅全部时为 0
+     */
+    private final int commandId;
+
+    private final ProcessInstanceStateCommand.ConsumerType consumerType;
+
+    /**
+     * 注册订阅的 master，host:port
+     */
+    private final String masterHost;
+
+    /**
+     * 订阅时间
+     */
+    private final long createTime;
+
+    public Subscription(String id,
+                        int commandId,
+                        ProcessInstanceStateCommand.ConsumerType consumerType,
+                        String masterHost,
+                        long createTime) {
+        this.id = id;
+        this.commandId = commandId;
+        this.consumerType = consumerType;
+        this.masterHost = masterHost;
+        this.createTime = createTime;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getCommandId() {
+        return commandId;
+    }
+
+    public ProcessInstanceStateCommand.ConsumerType getConsumerType() {
+        return consumerType;
+    }
+
+    public String getMasterHost() {
+        return masterHost;
+    }
+
+    public long getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public String toString() {
+        return "Subscription{" +
+                "id='" + id + '\'' +
+                ", commandId=" + commandId +
+                ", consumerType=" + consumerType +
+                ", masterHost='" + masterHost + '\'' +
+                ", createTime=" + createTime +
+                '}';
+    }
+}
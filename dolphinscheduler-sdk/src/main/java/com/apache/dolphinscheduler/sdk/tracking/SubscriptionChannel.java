@@ -0,0 +1,31 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+
+/**
+ * 向 master 注册、注销 command 的状态订阅
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public interface SubscriptionChannel {
+
+    /**
+     * 订阅一个 command 的状态
+     * @param id 订阅 ID
+     * @param commandId command id
+     */
+    void subscribe(String id, int commandId) throws Exception;
+
+    /**
+     * 注销一个 command 的订阅
+     * @param id 订阅 ID
+     * @param command 最后收到的状态，只需要 commandId 与 processInstanceId
+     */
+    void unsubscribe(String id, ProcessInstanceStateCommand command);
+
+    /**
+     * 订阅 ID 不再使用，移除本地监听
+     */
+    void release(String id);
+}
@@ -0,0 +1,307 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 活动订阅的本地日志，内存映射、只追加。
+ * <p>
+ * 注册订阅时追加 ADD 记录，订阅结束时追加 REMOVE 记录；写入内存映射区即返回，进程崩溃后数据仍由操作系统落盘。
+ * 启动时顺序读取日志恢复活动订阅，遇到校验失败的记录（写了一半）即截断。
+ * 文件写满或已删除的记录过多时，把活动订阅写入新文件后原子替换（压缩）。
+ * <p>
+ * 记录格式：[int 长度][byte 类型][long 时间][int commandId][byte 订阅类型][short+bytes 订阅 ID][short+bytes master][int CRC32]
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class SubscriptionJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionJournal.class);
+
+    private static final byte OP_ADD = 1;
+
+    private static final byte OP_REMOVE = 2;
+
+    /**
+     * 长度与 CRC
+     */
+    private static final int FRAME_OVERHEAD = 8;
+
+    private static final int MAX_RECORD_BYTES = 4096;
+
+    private final Path path;
+
+    private final long initialSize;
+
+    /**
+     * 每次写入后是否强制刷盘
+     */
+    private final boolean syncOnWrite;
+
+    private final Map<String, Subscription> active = new LinkedHashMap<>();
+
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+
+    private MappedByteBuffer buffer;
+
+    /**
+     * 已删除（被 REMOVE 抵消）的记录数
+     */
+    private long obsoleteRecords;
+
+    public SubscriptionJournal(Path path, long initialSize, boolean syncOnWrite) throws IOException {
+        this.path = path;
+        this.initialSize = Math.max(64 * 1024, initialSize);
+        this.syncOnWrite = syncOnWrite;
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        open(path, Math.max(this.initialSize, Files.exists(path) ? Files.size(path) : 0));
+        replay();
+    }
+
+    /**
+     * @return 重启前未结束的订阅
+     */
+    public synchronized Collection<Subscription> getActive() {
+        return Collections.unmodifiableList(new ArrayList<>(active.values()));
+    }
+
+    public synchronized int size() {
+        return active.size();
+    }
+
+    public synchronized boolean contains(String id) {
+        return active.containsKey(id);
+    }
+
+    /**
+     * 记录新的订阅
+     */
+    public synchronized void add(Subscription subscription) {
+        // 先写日志再更新内存，写满时的压缩只包含已写入的订阅
+        append(OP_ADD, subscription.getId(), subscription.getCommandId(), subscription.getConsumerType(),
+                subscription.getMasterHost(), subscription.getCreateTime());
+        if (null != active.put(subscription.getId(), subscription)) {
+            obsoleteRecords++;
+        }
+    }
+
+    /**
+     * 记录订阅结束
+     */
+    public synchronized void remove(String id) {
+        Subscription removed = active.get(id);
+        if (null == removed) {
+            return;
+        }
+        append(OP_REMOVE, id, 0, removed.getConsumerType(), "", System.currentTimeMillis());
+        active.remove(id);
+        // ADD 与 REMOVE 都已无用
+        obsoleteRecords += 2;
+        if (obsoleteRecords > 1024 && obsoleteRecords > active.size() * 4L) {
+            compact();
+        }
+    }
+
+    private void append(byte op, String id, int commandId, ProcessInstanceStateCommand.ConsumerType consumerType,
+                        String masterHost, long time) {
+        if (null == buffer) {
+            throw new IllegalStateException("subscription journal " + path + " is closed");
+        }
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[] hostBytes = (null == masterHost ? "" : masterHost).getBytes(StandardCharsets.UTF_8);
+        int length = 1 + 8 + 4 + 1 + 2 + idBytes.length + 2 + hostBytes.length;
+        if (length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("subscription record too large: " + id);
+        }
+        if (buffer.remaining() < length + FRAME_OVERHEAD + 4) {
+            // 写满时先压缩，仍然不够再扩容
+            compact();
+            if (buffer.remaining() < length + FRAME_OVERHEAD + 4) {
+                remap(buffer.capacity() * 2L);
+            }
+        }
+        int start = buffer.position();
+        buffer.putInt(length);
+        buffer.put(op);
+        buffer.putLong(time);
+        buffer.putInt(commandId);
+        buffer.put((byte) consumerType.ordinal());
+        buffer.putShort((short) idBytes.length);
+        buffer.put(idBytes);
+        buffer.putShort((short) hostBytes.length);
+        buffer.put(hostBytes);
+        buffer.putInt(checksum(start + 4, length));
+        // 结束标记，读取时遇到 0 长度停止
+        buffer.putInt(buffer.position(), 0);
+        if (syncOnWrite) {
+            buffer.force();
+        }
+    }
+
+    private int checksum(int offset, int length) {
+        crc.reset();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            crc.update(buffer.get(i));
+        }
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 顺序读取日志恢复活动订阅
+     */
+    private void replay() {
+        ProcessInstanceStateCommand.ConsumerType[] consumerTypes = ProcessInstanceStateCommand.ConsumerType.values();
+        active.clear();
+        long records = 0;
+        buffer.position(0);
+        while (buffer.remaining() >= FRAME_OVERHEAD) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length <= 0 || length > MAX_RECORD_BYTES || buffer.remaining() < length + 4) {
+                buffer.position(start);
+                break;
+            }
+            int expected = buffer.getInt(start + 4 + length);
+            if (checksum(start + 4, length) != expected) {
+                LOGGER.warn("subscription journal {} has a torn record at {}, truncate it.", path, start);
+                buffer.position(start);
+                break;
+            }
+            byte op = buffer.get();
+            long time = buffer.getLong();
+            int commandId = buffer.getInt();
+            int consumerType = buffer.get();
+            String id = readString();
+            String host = readString();
+            buffer.getInt();
+            records++;
+            if (op == OP_ADD && consumerType >= 0 && consumerType < consumerTypes.length) {
+                active.put(id, new Subscription(id, commandId, consumerTypes[consumerType], host, time));
+            } else if (op == OP_REMOVE) {
+                active.remove(id);
+            }
+        }
+        if (buffer.remaining() >= 4) {
+            buffer.putInt(buffer.position(), 0);
+        }
+        obsoleteRecords = Math.max(0, records - active.size());
+        LOGGER.info("replayed subscription journal {}: {} records, {} active subscriptions.", path, records, active.size());
+    }
+
+    private String readString() {
+        int length = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 只保留活动订阅，写入新文件后替换，并从新文件重建内存中的活动订阅
+     */
+    public synchronized void compact() {
+        if (null == buffer) {
+            return;
+        }
+        int before = active.size();
+        try {
+            Path tmp = path.resolveSibling(path.getFileName() + ".compact");
+            Files.deleteIfExists(tmp);
+            long needed = FRAME_OVERHEAD + 4L;
+            for (Subscription subscription : active.values()) {
+                needed += FRAME_OVERHEAD + 64 + subscription.getId().length() * 3L
+                        + (null == subscription.getMasterHost() ? 0 : subscription.getMasterHost().length() * 3L);
+            }
+            long size = Math.max(initialSize, needed * 2);
+            closeChannel();
+            Path source = path;
+            open(tmp, size);
+            Map<String, Subscription> live = new LinkedHashMap<>(active);
+            for (Subscription subscription : live.values()) {
+                append(OP_ADD, subscription.getId(), subscription.getCommandId(), subscription.getConsumerType(),
+                        subscription.getMasterHost(), subscription.getCreateTime());
+            }
+            buffer.force();
+            closeChannel();
+            Files.move(tmp, source, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            open(source, size);
+            replay();
+            if (active.size() != before) {
+                LOGGER.warn("subscription journal {} has {} active subscriptions after compaction, expected {}.",
+                        path, active.size(), before);
+            }
+            LOGGER.info("compacted subscription journal {}: {} active subscriptions.", path, active.size());
+        } catch (IOException e) {
+            reopen(e);
+            throw new IllegalStateException("compact subscription journal " + path + " failed", e);
+        }
+    }
+
+    /**
+     * 压缩失败后重新打开日志文件，文件是替换前的原文件或已替换的新文件，两者都完整
+     */
+    private void reopen(IOException cause) {
+        try {
+            closeChannel();
+            open(path, Math.max(initialSize, Files.size(path)));
+            replay();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            LOGGER.error("reopen subscription journal {} failed, journal disabled.", path, e);
+        }
+    }
+
+    private void remap(long size) {
+        try {
+            int position = buffer.position();
+            buffer.force();
+            closeChannel();
+            open(path, size);
+            buffer.position(position);
+        } catch (IOException e) {
+            throw new IllegalStateException("grow subscription journal " + path + " failed", e);
+        }
+    }
+
+    private void open(Path file, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("subscription journal too large: " + size);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void closeChannel() throws IOException {
+        buffer = null;
+        if (null != channel) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (null != buffer) {
+            buffer.force();
+        }
+        closeChannel();
+    }
+}
@@ -0,0 +1,249 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import com.apache.dolphinscheduler.sdk.processer.ProcessStateCallback;
+import org.apache.dolphinscheduler.common.enums.StateEventType;
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 一组 command 的状态跟踪，整组只使用一个订阅 ID 在 ProcessInstanceStateProcessor 中注册一次监听。
+ * <p>
+ * master 推送的状态按 command id 分发给各成员，成员结束时完成其 future 并注销订阅。
+ * 等待整组或任一成员时只阻塞调用线程，不为每个成员占用线程。成员可以随时加入，使用完后需要关闭。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class TrackedGroup implements ProcessStateCallback, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrackedGroup.class);
+
+    private final String id;
+
+    private final SubscriptionChannel channel;
+
+    private final Map<Integer, Member> members = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    public TrackedGroup(String id, SubscriptionChannel channel) {
+        this.id = id;
+        this.channel = channel;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 加入一个 command
+     * @param commandId 提交返回的 command id
+     * @return 实例结束时完成，值为最后收到的状态；订阅失败或分组关闭时异常完成
+     */
+    public CompletableFuture<ProcessInstanceStateCommand> add(int commandId) {
+        if (closed) {
+            throw new IllegalStateException("tracked group " + id + " is closed");
+        }
+        Member member = new Member(commandId);
+        Member existing = members.putIfAbsent(commandId, member);
+        if (null != existing) {
+            return existing.future;
+        }
+        try {
+            channel.subscribe(id, commandId);
+        } catch (Exception e) {
+            LOGGER.warn("subscribe command {} of group {} failed: {}", commandId, id, e.getMessage());
+            member.future.completeExceptionally(e);
+        }
+        return member.future;
+    }
+
+    public void addAll(Collection<Integer> commandIds) {
+        for (Integer commandId : commandIds) {
+            add(commandId);
+        }
+    }
+
+    /**
+     * @return 成员的 future，不在分组中时为 null
+     */
+    public CompletableFuture<ProcessInstanceStateCommand> member(int commandId) {
+        Member member = members.get(commandId);
+        return null == member ? null : member.future;
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    @Override
+    public void callback(ProcessInstanceStateCommand command) {
+        Member member = members.get(command.getCommandId());
+        if (null == member) {
+            return;
+        }
+        member.lastState = command;
+        if (command.getEventType().equals(StateEventType.PROCESS_STATE_CHANGE)
+                && command.getExecutionStatus().typeIsFinished()) {
+            finish(command);
+        }
+    }
+
+    @Override
+    public void finish(ProcessInstanceStateCommand command) {
+        Member member = members.get(command.getCommandId());
+        if (null == member) {
+            return;
+        }
+        member.lastState = command;
+        if (member.future.complete(command)) {
+            channel.unsubscribe(id, command);
+        }
+    }
+
+    /**
+     * @return 当前所有成员都结束（或失败）时完成
+     */
+    public CompletableFuture<GroupOutcome> allOf() {
+        return CompletableFuture.allOf(futures().toArray(new CompletableFuture[0]))
+                .handle((v, e) -> outcome());
+    }
+
+    /**
+     * @return 任一成员结束时完成，值为该成员最后的状态；所有成员都失败时异常完成
+     */
+    public CompletableFuture<ProcessInstanceStateCommand> anyOf() {
+        List<CompletableFuture<ProcessInstanceStateCommand>> futures = futures();
+        CompletableFuture<ProcessInstanceStateCommand> any = new CompletableFuture<>();
+        if (futures.isEmpty()) {
+            any.completeExceptionally(new IllegalStateException("tracked group " + id + " is empty"));
+            return any;
+        }
+        AtomicInteger failed = new AtomicInteger();
+        for (CompletableFuture<ProcessInstanceStateCommand> future : futures) {
+            future.whenComplete((command, e) -> {
+                if (null == e) {
+                    any.complete(command);
+                } else if (failed.incrementAndGet() == futures.size()) {
+                    any.completeExceptionally(e);
+                }
+            });
+        }
+        return any;
+    }
+
+    /**
+     * 等待所有成员结束，超时后返回当时的结果
+     * @param timeout 小于等于 0 时一直等待
+     */
+    public GroupOutcome awaitAll(long timeout, TimeUnit unit) throws InterruptedException {
+        await(allOf(), timeout, unit);
+        return outcome();
+    }
+
+    /**
+     * 等待任一成员结束，超时后返回当时的结果
+     * @param timeout 小于等于 0 时一直等待
+     */
+    public GroupOutcome awaitAny(long timeout, TimeUnit unit) throws InterruptedException {
+        await(anyOf(), timeout, unit);
+        return outcome();
+    }
+
+    private static void await(CompletableFuture<?> future, long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            if (timeout <= 0 || null == unit) {
+                future.get();
+            } else {
+                future.get(timeout, unit);
+            }
+        } catch (ExecutionException | CancellationException | TimeoutException e) {
+            // 以成员的结果为准
+        }
+    }
+
+    /**
+     * @return 各成员当前的结果
+     */
+    public GroupOutcome outcome() {
+        Map<Integer, MemberOutcome> outcomes = new LinkedHashMap<>();
+        for (Member member : members.values()) {
+            CompletableFuture<ProcessInstanceStateCommand> future = member.future;
+            Throwable error = null;
+            boolean finished = false;
+            if (future.isDone()) {
+                try {
+                    future.join();
+                    finished = true;
+                } catch (CompletionException e) {
+                    error = null == e.getCause() ? e : e.getCause();
+                } catch (CancellationException e) {
+                    error = e;
+                }
+            }
+            outcomes.put(member.commandId, new MemberOutcome(member.commandId, member.lastState, finished, error));
+        }
+        return new GroupOutcome(outcomes);
+    }
+
+    private List<CompletableFuture<ProcessInstanceStateCommand>> futures() {
+        List<CompletableFuture<ProcessInstanceStateCommand>> futures = new ArrayList<>(members.size());
+        for (Member member : members.values()) {
+            futures.add(member.future);
+        }
+        return futures;
+    }
+
+    /**
+     * 注销未结束成员的订阅并移除监听
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Member member : members.values()) {
+            if (member.future.isDone()) {
+                continue;
+            }
+            ProcessInstanceStateCommand command = member.lastState;
+            if (null == command) {
+                command = new ProcessInstanceStateCommand();
+                command.setId(id);
+                command.setCommandId(member.commandId);
+            }
+            channel.unsubscribe(id, command);
+            member.future.cancel(false);
+        }
+        channel.release(id);
+    }
+
+    private static final class Member {
+
+        private final int commandId;
+
+        private final CompletableFuture<ProcessInstanceStateCommand> future = new CompletableFuture<>();
+
+        private volatile ProcessInstanceStateCommand lastState;
+
+        private Member(int commandId) {
+            this.commandId = commandId;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+/**
+ * 轮询跟踪的一次提交
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class TrackedInstance {
+
+    /**
+     * 订阅 ID，即提交时的雪花 ID
+     */
+    private final String id;
+
+    /**
+     * 提交返回的 command id
+     */
+    private final int commandId;
+
+    private final String projectCode;
+
+    /**
+     * 工作流定义编码
+     */
+    private final String definitionCode;
+
+    /**
+     * 提交时间，用于与工作流实例对应
+     */
+    private final long submitTime;
+
+    /**
+     * 提交前该工作流定义已有的最大实例 ID，只认领 ID 更大的实例；0 表示未知
+     */
+    private final int baselineInstanceId;
+
+    public TrackedInstance(String id, int commandId, String projectCode, String definitionCode, long submitTime) {
+        this(id, commandId, projectCode, definitionCode, submitTime, 0);
+    }
+
+    public TrackedInstance(String id, int commandId, String projectCode, String definitionCode, long submitTime,
+                           int baselineInstanceId) {
+        this.id = id;
+        this.commandId = commandId;
+        this.projectCode = projectCode;
+        this.definitionCode = definitionCode;
+        this.submitTime = submitTime;
+        this.baselineInstanceId = Math.max(0, baselineInstanceId);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getCommandId() {
+        return commandId;
+    }
+
+    public String getProjectCode() {
+        return projectCode;
+    }
+
+    public String getDefinitionCode() {
+        return definitionCode;
+    }
+
+    public long getSubmitTime() {
+        return submitTime;
+    }
+
+    public int getBaselineInstanceId() {
+        return baselineInstanceId;
+    }
+
+    @Override
+    public String toString() {
+        return "TrackedInstance{" +
+                "id='" + id + '\'' +
+                ", commandId=" + commandId +
+                ", projectCode='" + projectCode + '\'' +
+                ", definitionCode='" + definitionCode + '\'' +
+                ", submitTime=" + submitTime +
+                ", baselineInstanceId=" + baselineInstanceId +
+                '}';
+    }
+}
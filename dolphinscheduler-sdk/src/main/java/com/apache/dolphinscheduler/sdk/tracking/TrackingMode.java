@@ -0,0 +1,25 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+/**
+ * 工作流实例状态的跟踪方式
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public enum TrackingMode {
+
+    /**
+     * 优先使用 master 推送，订阅失败或宽限时间内没有收到推送时改为轮询
+     */
+    AUTO,
+
+    /**
+     * 只使用 master 推送
+     */
+    PUSH,
+
+    /**
+     * 只通过 REST 接口轮询
+     */
+    POLL
+}
@@ -0,0 +1,160 @@
+package com.apache.dolphinscheduler.sdk.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 无锁的雪花 ID 生成器。
+ * <p>
+ * ID 由 41 位毫秒时间戳、10 位 worker id 与 12 位序号组成。时间戳与序号打包在一个 long 中通过 CAS 更新，
+ * 不需要加锁；同一毫秒序号用完时借用下一毫秒，时钟回拨时沿用已发出的最大时间戳，保证 ID 单调递增。
+ * 借用的时间超前系统时钟过多时短暂等待时钟追上。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class SnowflakeIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+    /**
+     * 起始时间，与 hutool Snowflake 默认值相同，切换后 ID 仍然递增
+     */
+    public static final long EPOCH = 1288834974657L;
+
+    private static final int WORKER_ID_BITS = 10;
+
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int TIMESTAMP_SHIFT = WORKER_ID_BITS + SEQUENCE_BITS;
+
+    /**
+     * 允许超前系统时钟的最大毫秒数
+     */
+    private static final long MAX_DRIFT_MILLIS = 1000L;
+
+    /**
+     * 单次最多预留的 ID 数
+     */
+    public static final int MAX_RESERVE = 1 << 20;
+
+    private final long workerId;
+
+    private final long workerBits;
+
+    private final LongSupplier clock;
+
+    /**
+     * (时间戳 - EPOCH) << 12 | 序号，为最后一个已发出的 ID
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock 毫秒时钟
+     */
+    SnowflakeIdGenerator(long workerId, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.workerId = workerId;
+        this.workerBits = workerId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * @return 下一个 ID
+     */
+    public long nextId() {
+        return compose(advance(1));
+    }
+
+    /**
+     * 一次预留 n 个连续的 ID，适合批量提交
+     * @param n 数量，不超过 {@link #MAX_RESERVE}
+     * @return 递增的 ID
+     */
+    public long[] reserve(int n) {
+        if (n <= 0 || n > MAX_RESERVE) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_RESERVE + ": " + n);
+        }
+        long first = advance(n);
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = compose(first + i);
+        }
+        return ids;
+    }
+
+    /**
+     * 预留 n 个连续的状态值
+     * @return 第一个状态值
+     */
+    private long advance(int n) {
+        boolean warned = false;
+        while (true) {
+            long current = state.get();
+            long now = clock.getAsLong() - EPOCH;
+            long first = Math.max(now << SEQUENCE_BITS, current + 1);
+            long last = first + n - 1;
+            long drift = (last >>> SEQUENCE_BITS) - now;
+            if (drift > MAX_DRIFT_MILLIS) {
+                // 序号借用得太多或时钟回拨，等待时钟追上
+                if (!warned && drift > MAX_DRIFT_MILLIS * 2) {
+                    warned = true;
+                    LOGGER.warn("snowflake id generator is {} ms ahead of the system clock, waiting", drift);
+                }
+                LockSupport.parkNanos(1_000_000L);
+                continue;
+            }
+            if (state.compareAndSet(current, last)) {
+                return first;
+            }
+        }
+    }
+
+    private long compose(long packed) {
+        return ((packed >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | workerBits | (packed & SEQUENCE_MASK);
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * @return ID 中的时间戳，毫秒
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    /**
+     * 根据主机地址与进程号生成 worker id，同一台机器上的多个 JVM 也尽量不重复
+     */
+    public static long defaultWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostAddress();
+        } catch (Exception e) {
+            host = "localhost";
+        }
+        // pid@hostname
+        String process = ManagementFactory.getRuntimeMXBean().getName();
+        int hash = (host + '/' + process).hashCode();
+        hash ^= (hash >>> 16);
+        return hash & MAX_WORKER_ID;
+    }
+}
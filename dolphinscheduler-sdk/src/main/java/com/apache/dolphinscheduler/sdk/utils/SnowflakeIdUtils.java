@@ -1,21 +1,72 @@
 package com.apache.dolphinscheduler.sdk.utils;
 
-import cn.hutool.core.lang.Snowflake;
-import cn.hutool.core.util.IdUtil;
-
 /*
  * @Author Administrator
  * @Date 2023/1/1
  **/
 public class SnowflakeIdUtils {
 
-    private static final Snowflake snowflake = IdUtil.getSnowflake();
+    private static volatile SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.defaultWorkerId());
+
+    /**
+     * 是否已显式设置过 worker id
+     */
+    private static boolean configured;
+
+    /**
+     * 设置 worker id，多个 JVM 使用不同的 worker id 以免 ID 重复。
+     * 同一个 JVM 内只能设置一次：替换生成器后序号从头开始，再换回相同的 worker id 会生成重复的 ID
+     * @param workerId 0 ~ 1023，小于 0 时不指定，使用已设置的或根据主机与进程号生成的 worker id
+     * @throws IllegalStateException 已设置为其他 worker id
+     */
+    public static synchronized void configure(long workerId) {
+        if (workerId < 0) {
+            return;
+        }
+        if (configured) {
+            if (workerId != generator.getWorkerId()) {
+                throw new IllegalStateException("snowflake worker id is already configured as "
+                        + generator.getWorkerId() + ", cannot change it to " + workerId);
+            }
+            return;
+        }
+        if (workerId != generator.getWorkerId()) {
+            generator = new SnowflakeIdGenerator(workerId);
+        }
+        configured = true;
+    }
+
+    /**
+     * 恢复为未设置的状态，仅用于测试
+     */
+    static synchronized void reset() {
+        generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.defaultWorkerId());
+        configured = false;
+    }
 
     public static Long generateId(){
-        return snowflake.nextId();
+        return generator.nextId();
     }
 
     public static String generateIdStr(){
-        return Long.toString(snowflake.nextId());
+        return Long.toString(generator.nextId());
+    }
+
+    /**
+     * @return 下一个 ID，不装箱
+     */
+    public static long nextId() {
+        return generator.nextId();
+    }
+
+    /**
+     * 一次预留 n 个连续的 ID
+     */
+    public static long[] reserve(int n) {
+        return generator.reserve(n);
+    }
+
+    public static SnowflakeIdGenerator getGenerator() {
+        return generator;
     }
 }
@@ -0,0 +1,209 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+import com.apache.dolphinscheduler.sdk.submit.SubmissionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 按时间区间补数。
+ * <p>
+ * 把 [start, end] 按固定间隔切分为多个区间，每个区间以补数（COMPLEMENT_DATA）方式提交一次，
+ * scheduleTime 为 "区间开始,区间结束"，相邻区间不重叠。各区间互不依赖，
+ * 转换为 {@link WorkflowDag} 后按 parallelism 并发执行，按 order 决定提交顺序。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class Backfill {
+
+    public static final String EXEC_TYPE_COMPLEMENT_DATA = "COMPLEMENT_DATA";
+
+    /**
+     * 防止间隔过小时生成过多区间
+     */
+    private static final int MAX_INTERVALS = 100000;
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final SubmissionTemplate template;
+
+    /**
+     * 区间的 scheduleTime，按提交顺序
+     */
+    private final List<String> scheduleTimes;
+
+    private final String startParams;
+
+    private final int parallelism;
+
+    private final FailurePolicy failurePolicy;
+
+    /**
+     * 集群繁忙时是否暂停提交
+     */
+    private final boolean throttle;
+
+    private Backfill(Builder builder, List<String> scheduleTimes) {
+        this.template = builder.template.toBuilder().execType(EXEC_TYPE_COMPLEMENT_DATA).build();
+        this.scheduleTimes = Collections.unmodifiableList(scheduleTimes);
+        this.startParams = builder.startParams;
+        this.parallelism = builder.parallelism;
+        this.failurePolicy = builder.failurePolicy;
+        this.throttle = builder.throttle;
+    }
+
+    /**
+     * @param template 提交模板，execType 会被替换为 COMPLEMENT_DATA
+     * @param start 开始时间，包含
+     * @param end 结束时间，包含
+     */
+    public static Builder builder(SubmissionTemplate template, LocalDateTime start, LocalDateTime end) {
+        return new Builder(template, start, end);
+    }
+
+    public SubmissionTemplate getTemplate() {
+        return template;
+    }
+
+    public List<String> getScheduleTimes() {
+        return scheduleTimes;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isThrottle() {
+        return throttle;
+    }
+
+    /**
+     * @return 每个区间一个节点，节点名为其 scheduleTime
+     */
+    public WorkflowDag toDag() {
+        WorkflowDag.Builder builder = WorkflowDag.builder()
+                .maxConcurrency(parallelism)
+                .failurePolicy(failurePolicy);
+        for (String scheduleTime : scheduleTimes) {
+            builder.node(scheduleTime, template.toBuilder().scheduleTime(scheduleTime).build(), startParams);
+        }
+        return builder.build();
+    }
+
+    public static final class Builder {
+
+        private final SubmissionTemplate template;
+
+        private final LocalDateTime start;
+
+        private final LocalDateTime end;
+
+        private long intervalAmount = 1;
+
+        private ChronoUnit intervalUnit = ChronoUnit.DAYS;
+
+        private int parallelism = 1;
+
+        private BackfillOrder order = BackfillOrder.OLDEST_FIRST;
+
+        private String startParams;
+
+        private FailurePolicy failurePolicy = FailurePolicy.CONTINUE;
+
+        private boolean throttle = true;
+
+        private Builder(SubmissionTemplate template, LocalDateTime start, LocalDateTime end) {
+            if (null == template || null == start || null == end) {
+                throw new IllegalArgumentException("template, start and end must not be null");
+            }
+            if (start.isAfter(end)) {
+                throw new IllegalArgumentException("backfill start " + start + " is after end " + end);
+            }
+            this.template = template;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * 每个区间的长度，默认 1 天
+         */
+        public Builder interval(long amount, ChronoUnit unit) {
+            if (amount <= 0 || null == unit) {
+                throw new IllegalArgumentException("invalid backfill interval: " + amount + " " + unit);
+            }
+            this.intervalAmount = amount;
+            this.intervalUnit = unit;
+            return this;
+        }
+
+        /**
+         * 同时运行的区间数，默认 1
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder order(BackfillOrder order) {
+            this.order = null == order ? BackfillOrder.OLDEST_FIRST : order;
+            return this;
+        }
+
+        /**
+         * 每个区间使用的启动参数，JSON 字符串
+         */
+        public Builder startParams(String startParams) {
+            this.startParams = startParams;
+            return this;
+        }
+
+        /**
+         * 区间失败后的处理方式，默认 CONTINUE
+         */
+        public Builder failurePolicy(FailurePolicy failurePolicy) {
+            this.failurePolicy = null == failurePolicy ? FailurePolicy.CONTINUE : failurePolicy;
+            return this;
+        }
+
+        /**
+         * 集群繁忙时是否暂停提交，默认开启
+         */
+        public Builder throttle(boolean throttle) {
+            this.throttle = throttle;
+            return this;
+        }
+
+        public Backfill build() {
+            List<String> scheduleTimes = new ArrayList<>();
+            LocalDateTime from = start;
+            while (!from.isAfter(end)) {
+                if (scheduleTimes.size() >= MAX_INTERVALS) {
+                    throw new IllegalArgumentException("backfill has more than " + MAX_INTERVALS + " intervals");
+                }
+                LocalDateTime next = from.plus(intervalAmount, intervalUnit);
+                // 区间结束于下一区间开始前一秒，避免边界上的调度时间重复执行
+                LocalDateTime to = next.minusSeconds(1);
+                if (to.isAfter(end)) {
+                    to = end;
+                }
+                if (to.isBefore(from)) {
+                    to = from;
+                }
+                scheduleTimes.add(FORMATTER.format(from) + "," + FORMATTER.format(to));
+                from = next;
+            }
+            if (order == BackfillOrder.NEWEST_FIRST) {
+                Collections.reverse(scheduleTimes);
+            }
+            return new Backfill(this, scheduleTimes);
+        }
+    }
+}
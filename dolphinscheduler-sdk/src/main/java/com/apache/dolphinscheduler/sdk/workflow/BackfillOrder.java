@@ -0,0 +1,20 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+/**
+ * 补数区间的提交顺序
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public enum BackfillOrder {
+
+    /**
+     * 从最早的区间开始
+     */
+    OLDEST_FIRST,
+
+    /**
+     * 从最近的区间开始
+     */
+    NEWEST_FIRST
+}
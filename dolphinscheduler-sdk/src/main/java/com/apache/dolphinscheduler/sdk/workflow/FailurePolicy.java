@@ -0,0 +1,20 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+/**
+ * 节点失败后的处理方式
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public enum FailurePolicy {
+
+    /**
+     * 不再提交任何节点，立即结束；已提交的实例不会被停止
+     */
+    FAIL_FAST,
+
+    /**
+     * 跳过失败节点的下游，其他分支继续执行
+     */
+    CONTINUE
+}
@@ -0,0 +1,70 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+
+/**
+ * 节点的执行结果
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class NodeResult {
+
+    private final String name;
+
+    private final NodeStatus status;
+
+    /**
+     * 提交返回的 command id，未提交时为 null
+     */
+    private final Integer commandId;
+
+    /**
+     * 最后收到的实例状态
+     */
+    private final ProcessInstanceStateCommand lastState;
+
+    /**
+     * 提交或跟踪失败的原因
+     */
+    private final Throwable error;
+
+    public NodeResult(String name, NodeStatus status, Integer commandId, ProcessInstanceStateCommand lastState, Throwable error) {
+        this.name = name;
+        this.status = status;
+        this.commandId = commandId;
+        this.lastState = lastState;
+        this.error = error;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public NodeStatus getStatus() {
+        return status;
+    }
+
+    public Integer getCommandId() {
+        return commandId;
+    }
+
+    public ProcessInstanceStateCommand getLastState() {
+        return lastState;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeResult{" +
+                "name='" + name + '\'' +
+                ", status=" + status +
+                ", commandId=" + commandId +
+                ", state=" + (null == lastState ? null : lastState.getExecutionStatus()) +
+                ", error=" + (null == error ? null : error.getMessage()) +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+/**
+ * 节点状态
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public enum NodeStatus {
+
+    /**
+     * 等待上游完成或等待并发名额
+     */
+    PENDING,
+
+    /**
+     * 已提交，实例未结束
+     */
+    RUNNING,
+
+    SUCCESS,
+
+    /**
+     * 提交失败或实例未成功结束
+     */
+    FAILED,
+
+    /**
+     * 上游失败或执行被取消，未提交
+     */
+    SKIPPED;
+
+    public boolean isDone() {
+        return this != PENDING && this != RUNNING;
+    }
+}
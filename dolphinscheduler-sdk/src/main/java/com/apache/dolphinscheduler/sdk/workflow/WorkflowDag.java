@@ -0,0 +1,181 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+import com.apache.dolphinscheduler.sdk.submit.SubmissionTemplate;
+import org.apache.commons.lang.StringUtils;
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 不可变的工作流依赖图。
+ * <p>
+ * 每个节点是一次工作流提交，所有上游节点成功后提交。构建时校验节点名唯一、上游存在且没有环，
+ * 节点按拓扑顺序保存。同一个 DAG 可以多次执行。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class WorkflowDag {
+
+    /**
+     * 按拓扑顺序
+     */
+    private final List<WorkflowNode> nodes;
+
+    private final Map<String, List<String>> children;
+
+    private final int maxConcurrency;
+
+    private final FailurePolicy failurePolicy;
+
+    private WorkflowDag(List<WorkflowNode> nodes, Map<String, List<String>> children,
+                        int maxConcurrency, FailurePolicy failurePolicy) {
+        this.nodes = Collections.unmodifiableList(nodes);
+        this.children = children;
+        this.maxConcurrency = maxConcurrency;
+        this.failurePolicy = failurePolicy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<WorkflowNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return 直接下游节点名
+     */
+    public List<String> getChildren(String name) {
+        return children.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * @return 同时运行的最大节点数
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public FailurePolicy getFailurePolicy() {
+        return failurePolicy;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, WorkflowNode> nodes = new LinkedHashMap<>();
+
+        private int maxConcurrency = Integer.MAX_VALUE;
+
+        private FailurePolicy failurePolicy = FailurePolicy.FAIL_FAST;
+
+        private Builder() {
+        }
+
+        /**
+         * 添加节点
+         * @param name 节点名，DAG 内唯一
+         * @param template 提交模板
+         * @param startParams 启动参数，JSON 字符串
+         * @param parents 上游节点名
+         */
+        public Builder node(String name, SubmissionTemplate template, String startParams, String... parents) {
+            return node(name, template, parentStates -> startParams, parents);
+        }
+
+        /**
+         * 添加节点，启动参数由上游节点的结束状态生成
+         * @param name 节点名，DAG 内唯一
+         * @param template 提交模板
+         * @param startParams 参数为上游节点名到其结束状态的映射
+         * @param parents 上游节点名
+         */
+        public Builder node(String name,
+                            SubmissionTemplate template,
+                            Function<Map<String, ProcessInstanceStateCommand>, String> startParams,
+                            String... parents) {
+            if (StringUtils.isBlank(name)) {
+                throw new IllegalArgumentException("node name must not be blank");
+            }
+            if (null == template) {
+                throw new IllegalArgumentException("template of node " + name + " must not be null");
+            }
+            if (nodes.containsKey(name)) {
+                throw new IllegalArgumentException("duplicate node: " + name);
+            }
+            List<String> parentList = null == parents ? new ArrayList<>() : new ArrayList<>(Arrays.asList(parents));
+            nodes.put(name, new WorkflowNode(name, template, startParams, parentList));
+            return this;
+        }
+
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder failurePolicy(FailurePolicy failurePolicy) {
+            this.failurePolicy = null == failurePolicy ? FailurePolicy.FAIL_FAST : failurePolicy;
+            return this;
+        }
+
+        public WorkflowDag build() {
+            if (nodes.isEmpty()) {
+                throw new IllegalArgumentException("workflow dag has no node");
+            }
+            Map<String, List<String>> children = new HashMap<>();
+            Map<String, Integer> inDegree = new HashMap<>();
+            for (WorkflowNode node : nodes.values()) {
+                inDegree.putIfAbsent(node.getName(), 0);
+                for (String parent : node.getParents()) {
+                    if (!nodes.containsKey(parent)) {
+                        throw new IllegalArgumentException("unknown parent " + parent + " of node " + node.getName());
+                    }
+                    children.computeIfAbsent(parent, k -> new ArrayList<>()).add(node.getName());
+                    inDegree.merge(node.getName(), 1, Integer::sum);
+                }
+            }
+            // Kahn 拓扑排序，同时检查环
+            Deque<String> ready = new ArrayDeque<>();
+            for (String name : nodes.keySet()) {
+                if (inDegree.get(name) == 0) {
+                    ready.add(name);
+                }
+            }
+            List<WorkflowNode> sorted = new ArrayList<>(nodes.size());
+            while (!ready.isEmpty()) {
+                String name = ready.poll();
+                sorted.add(nodes.get(name));
+                for (String child : children.getOrDefault(name, Collections.emptyList())) {
+                    if (inDegree.merge(child, -1, Integer::sum) == 0) {
+                        ready.add(child);
+                    }
+                }
+            }
+            if (sorted.size() != nodes.size()) {
+                List<String> cycle = new ArrayList<>();
+                for (Map.Entry<String, Integer> entry : inDegree.entrySet()) {
+                    if (entry.getValue() > 0) {
+                        cycle.add(entry.getKey());
+                    }
+                }
+                throw new IllegalArgumentException("workflow dag has a cycle among " + cycle);
+            }
+            Map<String, List<String>> immutableChildren = new HashMap<>();
+            children.forEach((k, v) -> immutableChildren.put(k, Collections.unmodifiableList(v)));
+            return new WorkflowDag(sorted, immutableChildren, maxConcurrency, failurePolicy);
+        }
+    }
+}
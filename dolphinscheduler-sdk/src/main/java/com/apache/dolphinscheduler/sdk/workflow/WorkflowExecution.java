@@ -0,0 +1,330 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.SubmitResponse;
+import com.apache.dolphinscheduler.sdk.submit.SubmissionTemplate;
+import com.apache.dolphinscheduler.sdk.tracking.TrackedGroup;
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 一次 DAG 执行，由实例的结束事件驱动。
+ * <p>
+ * 没有上游的节点立即提交，节点的实例结束时在收到事件的线程中提交其满足条件的下游，
+ * 不占用等待线程。同时运行的节点数不超过 {@link WorkflowDag#getMaxConcurrency()}，
+ * 超出的按拓扑顺序排队。节点失败时按 {@link FailurePolicy} 处理。
+ * 所有节点的实例通过同一个 {@link TrackedGroup} 跟踪，执行结束时关闭。
+ * 设置了节流条件时，条件成立期间不提交新节点，条件解除后需要调用 {@link #resume()}。
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public class WorkflowExecution {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowExecution.class);
+
+    private final WorkflowDag dag;
+
+    private final BiFunction<SubmissionTemplate, String, CompletableFuture<DsResult<SubmitResponse>>> submitter;
+
+    private final TrackedGroup group;
+
+    /**
+     * 返回 true 时暂停提交
+     */
+    private final BooleanSupplier throttle;
+
+    /**
+     * 节点名到状态，按拓扑顺序
+     */
+    private final Map<String, NodeState> states = new LinkedHashMap<>();
+
+    /**
+     * 上游已全部成功、等待并发名额的节点
+     */
+    private final Deque<WorkflowNode> ready = new ArrayDeque<>();
+
+    private final CompletableFuture<WorkflowResult> result = new CompletableFuture<>();
+
+    private int running;
+
+    /**
+     * 不再提交新节点
+     */
+    private boolean stopped;
+
+    /**
+     * @param dag 依赖图
+     * @param submitter 异步提交，返回提交结果
+     * @param group 跟踪节点实例的分组，执行结束时关闭
+     */
+    public WorkflowExecution(WorkflowDag dag,
+                             BiFunction<SubmissionTemplate, String, CompletableFuture<DsResult<SubmitResponse>>> submitter,
+                             TrackedGroup group) {
+        this(dag, submitter, group, () -> false);
+    }
+
+    /**
+     * @param dag 依赖图
+     * @param submitter 异步提交，返回提交结果
+     * @param group 跟踪节点实例的分组，执行结束时关闭
+     * @param throttle 返回 true 时暂停提交新节点
+     */
+    public WorkflowExecution(WorkflowDag dag,
+                             BiFunction<SubmissionTemplate, String, CompletableFuture<DsResult<SubmitResponse>>> submitter,
+                             TrackedGroup group,
+                             BooleanSupplier throttle) {
+        this.dag = dag;
+        this.submitter = submitter;
+        this.group = group;
+        this.throttle = throttle;
+        for (WorkflowNode node : dag.getNodes()) {
+            states.put(node.getName(), new NodeState(node));
+        }
+    }
+
+    /**
+     * 提交没有上游的节点
+     */
+    public WorkflowExecution start() {
+        synchronized (this) {
+            for (NodeState state : states.values()) {
+                if (state.remainingParents == 0) {
+                    ready.add(state.node);
+                }
+            }
+        }
+        dispatch();
+        return this;
+    }
+
+    /**
+     * 节流解除后继续提交排队的节点
+     */
+    public void resume() {
+        if (!result.isDone()) {
+            dispatch();
+        }
+    }
+
+    /**
+     * @return 所有节点结束、FAIL_FAST 下有节点失败或被取消时完成
+     */
+    public CompletableFuture<WorkflowResult> getResult() {
+        return result;
+    }
+
+    /**
+     * 等待执行结束，超时后返回当时的结果
+     * @param timeout 小于等于 0 时一直等待
+     */
+    public WorkflowResult await(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            return timeout <= 0 || null == unit ? result.get() : result.get(timeout, unit);
+        } catch (ExecutionException | TimeoutException e) {
+            return snapshot();
+        }
+    }
+
+    /**
+     * 不再提交新节点并结束执行，已提交的实例不会被停止
+     */
+    public void cancel() {
+        synchronized (this) {
+            if (result.isDone()) {
+                return;
+            }
+            stopped = true;
+            skipPending();
+        }
+        complete();
+    }
+
+    /**
+     * @return 各节点当前的结果
+     */
+    public synchronized WorkflowResult snapshot() {
+        Map<String, NodeResult> nodes = new LinkedHashMap<>();
+        for (NodeState state : states.values()) {
+            nodes.put(state.node.getName(), state.toResult());
+        }
+        return new WorkflowResult(nodes);
+    }
+
+    private void dispatch() {
+        List<NodeState> toSubmit = new ArrayList<>();
+        synchronized (this) {
+            while (!stopped && running < dag.getMaxConcurrency() && !ready.isEmpty() && !throttled()) {
+                NodeState state = states.get(ready.poll().getName());
+                state.status = NodeStatus.RUNNING;
+                running++;
+                toSubmit.add(state);
+            }
+        }
+        for (NodeState state : toSubmit) {
+            submit(state);
+        }
+    }
+
+    private boolean throttled() {
+        try {
+            return throttle.getAsBoolean();
+        } catch (RuntimeException e) {
+            LOGGER.warn("check workflow throttle failed, keep submitting: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void submit(NodeState state) {
+        WorkflowNode node = state.node;
+        CompletableFuture<DsResult<SubmitResponse>> future;
+        try {
+            future = submitter.apply(node.getTemplate(), node.startParams(parentStates(node)));
+        } catch (RuntimeException e) {
+            finished(state, NodeStatus.FAILED, null, e);
+            return;
+        }
+        future.whenComplete((submitResult, e) -> {
+            if (null != e) {
+                finished(state, NodeStatus.FAILED, null, unwrap(e));
+                return;
+            }
+            if (null == submitResult || !submitResult.isOk() || null == submitResult.getData()
+                    || null == submitResult.getData().getId()) {
+                finished(state, NodeStatus.FAILED, null, new IllegalStateException("submit node " + node.getName()
+                        + " failed: " + (null == submitResult ? "no response" : submitResult.getMsg())));
+                return;
+            }
+            int commandId = submitResult.getData().getId();
+            synchronized (this) {
+                state.commandId = commandId;
+            }
+            LOGGER.info("workflow node {} submitted, command id {}", node.getName(), commandId);
+            group.add(commandId).whenComplete((command, error) -> {
+                if (null != error) {
+                    finished(state, NodeStatus.FAILED, null, unwrap(error));
+                } else {
+                    boolean success = command.getExecutionStatus().typeIsSuccess();
+                    finished(state, success ? NodeStatus.SUCCESS : NodeStatus.FAILED, command, null);
+                }
+            });
+        });
+    }
+
+    private synchronized Map<String, ProcessInstanceStateCommand> parentStates(WorkflowNode node) {
+        Map<String, ProcessInstanceStateCommand> parentStates = new HashMap<>();
+        for (String parent : node.getParents()) {
+            parentStates.put(parent, states.get(parent).lastState);
+        }
+        return parentStates;
+    }
+
+    private void finished(NodeState state, NodeStatus status, ProcessInstanceStateCommand command, Throwable error) {
+        boolean done;
+        synchronized (this) {
+            // 执行已结束（FAIL_FAST 或取消）后不再更新
+            if (result.isDone() || state.status.isDone()) {
+                return;
+            }
+            state.status = status;
+            state.lastState = command;
+            state.error = error;
+            running--;
+            if (status == NodeStatus.SUCCESS) {
+                for (String child : dag.getChildren(state.node.getName())) {
+                    NodeState childState = states.get(child);
+                    if (--childState.remainingParents == 0 && childState.status == NodeStatus.PENDING) {
+                        ready.add(childState.node);
+                    }
+                }
+            } else {
+                LOGGER.warn("workflow node {} failed: {}", state.node.getName(), null == error ? command : error.getMessage());
+                if (dag.getFailurePolicy() == FailurePolicy.FAIL_FAST) {
+                    stopped = true;
+                    skipPending();
+                } else {
+                    skipDescendants(state.node.getName());
+                }
+            }
+            done = stopped || states.values().stream().allMatch(s -> s.status.isDone());
+        }
+        if (done) {
+            complete();
+        } else {
+            dispatch();
+        }
+    }
+
+    private void skipPending() {
+        ready.clear();
+        for (NodeState state : states.values()) {
+            if (state.status == NodeStatus.PENDING) {
+                state.status = NodeStatus.SKIPPED;
+            }
+        }
+    }
+
+    private void skipDescendants(String name) {
+        Deque<String> queue = new ArrayDeque<>(dag.getChildren(name));
+        while (!queue.isEmpty()) {
+            NodeState state = states.get(queue.poll());
+            if (state.status == NodeStatus.PENDING) {
+                state.status = NodeStatus.SKIPPED;
+                ready.remove(state.node);
+                queue.addAll(dag.getChildren(state.node.getName()));
+            }
+        }
+    }
+
+    private void complete() {
+        WorkflowResult workflowResult = snapshot();
+        if (result.complete(workflowResult)) {
+            group.close();
+            LOGGER.info("workflow finished: {}", workflowResult);
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && null != e.getCause() ? e.getCause() : e;
+    }
+
+    private static final class NodeState {
+
+        private final WorkflowNode node;
+
+        private int remainingParents;
+
+        private NodeStatus status = NodeStatus.PENDING;
+
+        private Integer commandId;
+
+        private ProcessInstanceStateCommand lastState;
+
+        private Throwable error;
+
+        private NodeState(WorkflowNode node) {
+            this.node = node;
+            this.remainingParents = node.getParents().size();
+        }
+
+        private NodeResult toResult() {
+            return new NodeResult(node.getName(), status, commandId, lastState, error);
+        }
+    }
+}
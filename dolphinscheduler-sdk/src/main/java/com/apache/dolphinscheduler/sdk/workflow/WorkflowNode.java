@@ -0,0 +1,68 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+import com.apache.dolphinscheduler.sdk.submit.SubmissionTemplate;
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * DAG 中的一个节点：一次工作流提交
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class WorkflowNode {
+
+    private final String name;
+
+    private final SubmissionTemplate template;
+
+    /**
+     * 由上游节点的结束状态（按节点名）生成 startParams
+     */
+    private final Function<Map<String, ProcessInstanceStateCommand>, String> startParams;
+
+    private final List<String> parents;
+
+    WorkflowNode(String name,
+                 SubmissionTemplate template,
+                 Function<Map<String, ProcessInstanceStateCommand>, String> startParams,
+                 List<String> parents) {
+        this.name = name;
+        this.template = template;
+        this.startParams = startParams;
+        this.parents = Collections.unmodifiableList(parents);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SubmissionTemplate getTemplate() {
+        return template;
+    }
+
+    public List<String> getParents() {
+        return parents;
+    }
+
+    /**
+     * @param parentStates 上游节点的结束状态
+     * @return 提交时使用的 startParams
+     */
+    String startParams(Map<String, ProcessInstanceStateCommand> parentStates) {
+        return null == startParams ? null : startParams.apply(parentStates);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowNode{" +
+                "name='" + name + '\'' +
+                ", processDefinitionCode='" + template.getProcessDefinitionCode() + '\'' +
+                ", parents=" + parents +
+                '}';
+    }
+}
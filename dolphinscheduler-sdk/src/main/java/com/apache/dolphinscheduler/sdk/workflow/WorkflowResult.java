@@ -0,0 +1,44 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * DAG 执行结果
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+public final class WorkflowResult {
+
+    /**
+     * 节点名到结果，按拓扑顺序
+     */
+    private final Map<String, NodeResult> nodes;
+
+    public WorkflowResult(Map<String, NodeResult> nodes) {
+        this.nodes = Collections.unmodifiableMap(nodes);
+    }
+
+    public Map<String, NodeResult> getNodes() {
+        return nodes;
+    }
+
+    public NodeResult get(String name) {
+        return nodes.get(name);
+    }
+
+    /**
+     * @return 所有节点都成功
+     */
+    public boolean isSuccess() {
+        return nodes.values().stream().allMatch(node -> node.getStatus() == NodeStatus.SUCCESS);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowResult{" +
+                "nodes=" + nodes.values() +
+                '}';
+    }
+}
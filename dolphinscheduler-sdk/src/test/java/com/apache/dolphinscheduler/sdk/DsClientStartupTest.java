@@ -0,0 +1,112 @@
+package com.apache.dolphinscheduler.sdk;
+
+import com.apache.dolphinscheduler.sdk.configuration.DolphinSchedulerProperties;
+import com.apache.dolphinscheduler.sdk.tracking.Subscription;
+import com.apache.dolphinscheduler.sdk.tracking.SubscriptionJournal;
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 各初始化方式在 API 服务不可达时的启动行为
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class DsClientStartupTest {
+
+    /**
+     * 构造不访问网络时应在此时间内完成
+     */
+    private static final Duration CONSTRUCT_TIMEOUT = Duration.ofSeconds(5);
+
+    @TempDir
+    Path tempDir;
+
+    private String unreachableUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 取一个空闲端口后关闭，连接会被立即拒绝
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unreachableUrl = "http://127.0.0.1:" + socket.getLocalPort() + "/dolphinscheduler";
+        }
+    }
+
+    private DolphinSchedulerProperties properties(InitMode mode) {
+        DolphinSchedulerProperties properties = new DolphinSchedulerProperties();
+        properties.setUrl(unreachableUrl);
+        properties.setUserName("admin");
+        properties.setPassWord("dolphinscheduler123");
+        properties.getUpload().setStateDir(tempDir.resolve("upload").toString());
+        properties.getStartup().setMode(mode);
+        return properties;
+    }
+
+    @Test
+    void eagerFailsFastWhenApiIsUnreachable() {
+        assertTimeoutPreemptively(CONSTRUCT_TIMEOUT,
+                () -> assertThrows(RuntimeException.class, () -> new DsClient(properties(InitMode.EAGER))));
+    }
+
+    @Test
+    void lazyDoesNotTouchTheNetworkUntilFirstUse() throws Exception {
+        DsClient dsClient = assertTimeoutPreemptively(CONSTRUCT_TIMEOUT, () -> new DsClient(properties(InitMode.LAZY)));
+        try {
+            assertEquals(InitMode.LAZY, dsClient.getInitMode());
+            // 第一次使用时才登录
+            assertThrows(RuntimeException.class, dsClient::getMasters);
+        } finally {
+            dsClient.close();
+        }
+    }
+
+    @Test
+    void asyncConstructsImmediatelyAndWarmsUpInBackground() throws Exception {
+        DsClient dsClient = assertTimeoutPreemptively(CONSTRUCT_TIMEOUT, () -> new DsClient(properties(InitMode.ASYNC)));
+        try {
+            CompletableFuture<Void> warmUp = dsClient.warmUp();
+            assertThrows(ExecutionException.class, () -> warmUp.get(30, TimeUnit.SECONDS));
+        } finally {
+            dsClient.close();
+        }
+    }
+
+    @Test
+    void lazyDefersSubscriptionRecoveryUntilMasterIsUsed() throws Exception {
+        Path journalDir = tempDir.resolve("journal");
+        try (SubscriptionJournal journal = new SubscriptionJournal(journalDir.resolve("subscriptions.journal"), 64 * 1024, true)) {
+            journal.add(new Subscription("1", 100, ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE,
+                    "127.0.0.1:5678", System.currentTimeMillis()));
+        }
+        DolphinSchedulerProperties properties = properties(InitMode.LAZY);
+        properties.getJournal().setEnabled(true);
+        properties.getJournal().setDir(journalDir.toString());
+        DsClient dsClient = assertTimeoutPreemptively(CONSTRUCT_TIMEOUT, () -> new DsClient(properties));
+        try {
+            AtomicInteger recovered = new AtomicInteger();
+            dsClient.recoverSubscriptionsOnConnect(subscription -> {
+                recovered.incrementAndGet();
+                return null;
+            });
+            TimeUnit.MILLISECONDS.sleep(500);
+            assertEquals(0, recovered.get());
+        } finally {
+            dsClient.close();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.apache.dolphinscheduler.sdk.cluster;
+
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.MasterServer;
+import com.apache.dolphinscheduler.sdk.remote.model.WorkerServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 集群状态轮询的启停与结果时效
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class ClusterStatePollerTest {
+
+    private static final long INTERVAL_MILLIS = 1000L;
+
+    private final AtomicBoolean available = new AtomicBoolean(true);
+
+    private ClusterStatePoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new ClusterStatePoller(this::masters, this::workers, INTERVAL_MILLIS, 0.1D);
+    }
+
+    @AfterEach
+    void tearDown() {
+        poller.close();
+    }
+
+    private DsResult<List<MasterServer>> masters() {
+        if (!available.get()) {
+            throw new IllegalStateException("api server unavailable");
+        }
+        MasterServer master = new MasterServer();
+        master.setHost("127.0.0.1");
+        master.setPort(5678);
+        master.setZkDirectory("/nodes/master/127.0.0.1:5678");
+        return ok(Collections.singletonList(master));
+    }
+
+    private DsResult<List<WorkerServer>> workers() {
+        return ok(Collections.emptyList());
+    }
+
+    private static <T> DsResult<T> ok(T data) {
+        DsResult<T> result = new DsResult<>();
+        result.setCode(0);
+        result.setData(data);
+        return result;
+    }
+
+    private ClusterSnapshot awaitRecent() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ClusterSnapshot snapshot = poller.recent();
+            if (null != snapshot) {
+                return snapshot;
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        return null;
+    }
+
+    @Test
+    void recentIsNullWithoutBackgroundPolling() {
+        poller.poll();
+        assertNotNull(poller.latest());
+        assertFalse(poller.isPolling());
+        assertNull(poller.recent());
+    }
+
+    @Test
+    void pollingStopsWhenLastListenerIsRemoved() throws InterruptedException {
+        ClusterChangeListener first = (events, snapshot) -> { };
+        ClusterChangeListener second = (events, snapshot) -> { };
+        poller.addListener(first);
+        poller.addListener(second);
+        assertTrue(poller.isPolling());
+        ClusterSnapshot snapshot = awaitRecent();
+        assertNotNull(snapshot);
+        assertEquals("127.0.0.1:5678", snapshot.getMasters().iterator().next().getAddress());
+
+        poller.removeListener(first);
+        assertTrue(poller.isPolling());
+        poller.removeListener(second);
+        assertFalse(poller.isPolling());
+        assertNull(poller.recent());
+
+        // 再次注册时重新开始
+        poller.addListener(first);
+        assertTrue(poller.isPolling());
+    }
+
+    @Test
+    void explicitStartKeepsPollingWithoutListeners() {
+        ClusterChangeListener listener = (events, snapshot) -> { };
+        poller.start();
+        poller.addListener(listener);
+        poller.removeListener(listener);
+        assertTrue(poller.isPolling());
+    }
+
+    @Test
+    void snapshotOlderThanIntervalIsNotRecent() throws InterruptedException {
+        poller.start();
+        assertNotNull(awaitRecent());
+        // 之后的拉取失败，保留旧结果但不再视为最近
+        available.set(false);
+        TimeUnit.MILLISECONDS.sleep(INTERVAL_MILLIS + 200);
+        assertNotNull(poller.latest());
+        assertNull(poller.recent());
+    }
+
+    @Test
+    void everyPollIsReportedEvenWithoutChanges() throws InterruptedException {
+        AtomicInteger changes = new AtomicInteger();
+        AtomicInteger polls = new AtomicInteger();
+        poller.addListener(new ClusterChangeListener() {
+            @Override
+            public void onChange(List<ClusterChangeEvent> events, ClusterSnapshot snapshot) {
+                changes.incrementAndGet();
+            }
+
+            @Override
+            public void onPoll(ClusterSnapshot snapshot) {
+                polls.incrementAndGet();
+            }
+        });
+        TimeUnit.MILLISECONDS.sleep(INTERVAL_MILLIS * 2 + 500);
+        // 只有第一次拉取有变化
+        assertEquals(1, changes.get());
+        assertTrue(polls.get() >= 3);
+
+        // 拉取失败时也回调
+        available.set(false);
+        int before = polls.get();
+        TimeUnit.MILLISECONDS.sleep(INTERVAL_MILLIS + 200);
+        assertTrue(polls.get() > before);
+    }
+}
@@ -0,0 +1,48 @@
+package com.apache.dolphinscheduler.sdk.configuration;
+
+import com.apache.dolphinscheduler.sdk.remote.TransportMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * spring.dolphinscheduler.transport.mode 的绑定
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class TransportModeBindingTest {
+
+    private static DolphinSchedulerProperties bind(String mode) {
+        Binder binder = new Binder(new MapConfigurationPropertySource(
+                Collections.singletonMap("spring.dolphinscheduler.transport.mode", mode)));
+        return binder.bind("spring.dolphinscheduler", DolphinSchedulerProperties.class).get();
+    }
+
+    @Test
+    void defaultsToSync() {
+        DolphinSchedulerProperties properties = new DolphinSchedulerProperties();
+        assertEquals(TransportMode.SYNC, properties.getTransport().getMode());
+        assertFalse(properties.getTransport().isAsync());
+    }
+
+    @Test
+    void bindsKnownModesIgnoringCase() {
+        assertEquals(TransportMode.ASYNC, bind("ASYNC").getTransport().getMode());
+        assertTrue(bind("async").getTransport().isAsync());
+        assertEquals(TransportMode.SYNC, bind("sync").getTransport().getMode());
+    }
+
+    @Test
+    void rejectsUnknownMode() {
+        assertThrows(BindException.class, () -> bind("NIO"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 表单编码，结果应与 URLEncoder 一致
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class FormBodyWriterTest {
+
+    private static String body(FormBodyWriter writer) {
+        return new String(writer.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static String urlEncode(String value) throws UnsupportedEncodingException {
+        return URLEncoder.encode(value, "UTF-8");
+    }
+
+    @Test
+    void repeatedKeysAreKeptInOrder() {
+        FormBodyWriter writer = new FormBodyWriter()
+                .field("workerGroup", "default")
+                .field("taskCode", "1")
+                .field("taskCode", "2");
+        assertEquals("workerGroup=default&taskCode=1&taskCode=2", body(writer));
+    }
+
+    @Test
+    void nullAndEmptyValuesAreWrittenAsEmpty() {
+        FormBodyWriter writer = new FormBodyWriter()
+                .field("startParams", null)
+                .field("environmentCode", "")
+                .field("dryRun", "0");
+        assertEquals("startParams=&environmentCode=&dryRun=0", body(writer));
+    }
+
+    @Test
+    void chineseAndReservedCharactersMatchUrlEncoder() throws Exception {
+        String[] values = {
+                "测试工作流",
+                "a b+c&d=e",
+                "{\"key\":\"值\",\"list\":[1,2]}",
+                "-_.*~!'()",
+                "emoji 😀 done"
+        };
+        for (String value : values) {
+            assertEquals("v=" + urlEncode(value), body(new FormBodyWriter().field("v", value)), value);
+            assertEquals(urlEncode(value), new String(FormBodyWriter.encode(value), StandardCharsets.US_ASCII), value);
+        }
+    }
+
+    @Test
+    void unpairedSurrogatesMatchUrlEncoder() throws Exception {
+        String[] values = {"a\uD83Db", "a\uDE00b", "tail\uD83D"};
+        for (String value : values) {
+            assertEquals("v=" + urlEncode(value), body(new FormBodyWriter().field("v", value)), value);
+        }
+    }
+
+    @Test
+    void fieldWriterEncodesStreamedValue() throws Exception {
+        FormBodyWriter writer = new FormBodyWriter(16);
+        writer.field("projectCode", "100");
+        try (Writer field = writer.fieldWriter("startParams", 0)) {
+            field.write("{\"名称\":");
+            field.write("\"值\"}");
+        }
+        writer.field("dryRun", "0");
+        assertEquals("projectCode=100&startParams=" + urlEncode("{\"名称\":\"值\"}") + "&dryRun=0", body(writer));
+    }
+
+    @Test
+    void limitCountsUtf8BytesBeforeEncoding() {
+        // 每个汉字 3 个字节
+        new FormBodyWriter().field("name", "测试", 6);
+        FormBodyWriter writer = new FormBodyWriter();
+        assertThrows(IllegalArgumentException.class, () -> writer.field("name", "测试工", 8));
+        // 超限后可以继续写其他字段
+        writer.field("next", "ok");
+        assertTrue(body(writer).endsWith("&next=ok"));
+    }
+
+    @Test
+    void appendEncodedJoinsWithAmpersand() {
+        FormBodyWriter writer = new FormBodyWriter().field("a", "1");
+        writer.appendEncoded("b=2&c=3".getBytes(StandardCharsets.US_ASCII));
+        writer.appendEncoded(new byte[0]);
+        assertEquals("a=1&b=2&c=3", body(writer));
+    }
+}
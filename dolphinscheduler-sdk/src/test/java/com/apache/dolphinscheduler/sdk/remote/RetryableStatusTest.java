@@ -0,0 +1,65 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import com.apache.dolphinscheduler.sdk.configuration.DolphinSchedulerProperties;
+import com.apache.dolphinscheduler.sdk.remote.resilience.RetryPolicy;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 可重试的错误与按方法的重试策略
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class RetryableStatusTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "http://localhost/dolphinscheduler",
+            Collections.emptyMap(), null, StandardCharsets.UTF_8);
+
+    @Test
+    void onlyGatewayErrorsAndThrottlingAreRetryable() {
+        assertTrue(DsClientFactory.isRetryable(429));
+        assertTrue(DsClientFactory.isRetryable(502));
+        assertTrue(DsClientFactory.isRetryable(503));
+        assertTrue(DsClientFactory.isRetryable(504));
+        assertFalse(DsClientFactory.isRetryable(200));
+        assertFalse(DsClientFactory.isRetryable(400));
+        assertFalse(DsClientFactory.isRetryable(401));
+        assertFalse(DsClientFactory.isRetryable(404));
+        assertFalse(DsClientFactory.isRetryable(500));
+    }
+
+    @Test
+    void connectionFailuresAreRetryable() {
+        assertTrue(DsClientFactory.isRetryable(new RetryableException(-1, "connect timed out", Request.HttpMethod.GET, null)));
+        assertTrue(DsClientFactory.isRetryable(FeignException.errorStatus("listMaster",
+                feign.Response.builder().status(503).reason("Service Unavailable").request(REQUEST)
+                        .headers(Collections.emptyMap()).build())));
+        assertFalse(DsClientFactory.isRetryable(FeignException.errorStatus("listMaster",
+                feign.Response.builder().status(400).reason("Bad Request").request(REQUEST)
+                        .headers(Collections.emptyMap()).build())));
+    }
+
+    @Test
+    void onlyIdempotentMethodsRetryByDefault() {
+        DolphinSchedulerProperties properties = new DolphinSchedulerProperties();
+        properties.setUrl("http://localhost/dolphinscheduler");
+        properties.getRetry().setMaxAttempts(4);
+        properties.getRetry().getMethodMaxAttempts().put("submitTask", 2);
+        DsClientFactory factory = new DsClientFactory(properties);
+
+        assertEquals(4, factory.getRetryPolicy("listMaster", true).getMaxAttempts());
+        assertSame(RetryPolicy.NEVER, factory.getRetryPolicy("startProcessInstance", false));
+        assertEquals(2, factory.getRetryPolicy("submitTask", false).getMaxAttempts());
+    }
+}
@@ -0,0 +1,129 @@
+package com.apache.dolphinscheduler.sdk.remote;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 会话过期时的重新登录
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class SessionManagerTest {
+
+    private static final int CALLERS = 16;
+
+    private final AtomicInteger logins = new AtomicInteger();
+
+    private SessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        DsRemoteApiService api = mock(DsRemoteApiService.class);
+        when(api.login(anyString(), anyString())).thenAnswer(invocation -> {
+            // 登录稍慢，使并发的调用方在登录完成前都收到 401
+            TimeUnit.MILLISECONDS.sleep(200);
+            return loginResult("session-" + logins.incrementAndGet());
+        });
+        sessionManager = new SessionManager(api, "admin", "dolphinscheduler123", null, TimeUnit.HOURS.toMillis(1), 0.8D);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionManager.close();
+    }
+
+    private static Result loginResult(String sessionId) {
+        Result result = new Result();
+        result.setCode(0);
+        result.setSuccess(true);
+        Map<String, Object> data = new HashMap<>(2);
+        data.put("sessionId", sessionId);
+        result.setData(data);
+        return result;
+    }
+
+    @Test
+    void concurrentUnauthorizedCallsShareOneRelogin() throws Exception {
+        sessionManager.start();
+        assertEquals(1, logins.get());
+
+        // 服务端只接受最新的会话
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        List<Future<String>> futures = new ArrayList<>(CALLERS);
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return sessionManager.execute(token -> {
+                        if (!token.equals("session-" + Math.max(2, logins.get()))) {
+                            throw new HttpStatusException(401, "session expired");
+                        }
+                        return token;
+                    });
+                }));
+            }
+            List<String> tokens = new ArrayList<>(CALLERS);
+            for (Future<String> future : futures) {
+                tokens.add(future.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(2, logins.get());
+            assertEquals(Collections.nCopies(CALLERS, "session-2"), tokens);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void otherErrorsAreNotRetried() {
+        sessionManager.start();
+        AtomicInteger calls = new AtomicInteger();
+        assertThrows(HttpStatusException.class, () -> sessionManager.execute(token -> {
+            calls.incrementAndGet();
+            throw new HttpStatusException(500, "internal error");
+        }));
+        assertEquals(1, calls.get());
+        assertEquals(1, logins.get());
+    }
+
+    @Test
+    void fixedTokenIsNeverRefreshed() {
+        SessionManager fixed = new SessionManager(mock(DsRemoteApiService.class), "admin", "dolphinscheduler123",
+                "fixed-token", TimeUnit.HOURS.toMillis(1), 0.8D);
+        fixed.start();
+        assertThrows(HttpStatusException.class, () -> fixed.execute(token -> {
+            throw new HttpStatusException(401, "token expired");
+        }));
+        assertEquals("fixed-token", fixed.getToken());
+        assertEquals(SessionManager.TOKEN_HEADER, fixed.getCredentialHeader());
+        fixed.close();
+    }
+
+    @Test
+    void sessionIsSentAsSessionIdHeader() {
+        sessionManager.start();
+        assertEquals(SessionManager.SESSION_HEADER, sessionManager.getCredentialHeader());
+        assertEquals(SessionManager.SESSION_HEADER, SessionManager.credentialHeader(" "));
+    }
+}
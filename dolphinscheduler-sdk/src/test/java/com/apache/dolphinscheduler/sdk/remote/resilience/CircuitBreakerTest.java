@@ -0,0 +1,109 @@
+package com.apache.dolphinscheduler.sdk.remote.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 熔断器状态变化
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION_MILLIS = 100L;
+
+    private static void fail(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.acquire();
+            breaker.onFailure();
+        }
+    }
+
+    private static void waitOpenDuration() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(OPEN_DURATION_MILLIS + 50);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_DURATION_MILLIS, 1);
+        fail(breaker, 2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        // 成功清零连续失败次数
+        breaker.acquire();
+        breaker.onSuccess();
+        fail(breaker, 2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        fail(breaker, 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquire);
+        assertEquals(1, breaker.getMetrics().getOpenedCount());
+        assertEquals(1, breaker.getMetrics().getRejectedCount());
+    }
+
+    @Test
+    void closesAfterSuccessfulProbe() throws InterruptedException {
+        List<String> transitions = new ArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, OPEN_DURATION_MILLIS, 1);
+        breaker.addListener((from, to) -> transitions.add(from + "->" + to));
+        fail(breaker, 1);
+        waitOpenDuration();
+
+        breaker.acquire();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+        assertEquals(1, breaker.getMetrics().getHalfOpenedCount());
+        assertEquals(1, breaker.getMetrics().getClosedCount());
+    }
+
+    @Test
+    void reopensAfterFailedProbe() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, OPEN_DURATION_MILLIS, 1);
+        fail(breaker, 1);
+        waitOpenDuration();
+
+        breaker.acquire();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquire);
+        assertEquals(2, breaker.getMetrics().getOpenedCount());
+    }
+
+    @Test
+    void halfOpenAdmitsLimitedProbes() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, OPEN_DURATION_MILLIS, 2);
+        fail(breaker, 1);
+        waitOpenDuration();
+
+        breaker.acquire();
+        breaker.acquire();
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquire);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // 未完成的试探释放名额后可以再放行一个
+        breaker.release();
+        breaker.acquire();
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquire);
+    }
+
+    @Test
+    void staysOpenUntilOpenDurationElapses() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, TimeUnit.MINUTES.toMillis(1), 1);
+        fail(breaker, 1);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(CircuitBreakerOpenException.class, breaker::acquire);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(3, breaker.getMetrics().getRejectedCount());
+    }
+}
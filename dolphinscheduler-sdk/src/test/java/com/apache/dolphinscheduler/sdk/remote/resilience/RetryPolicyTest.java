@@ -0,0 +1,52 @@
+package com.apache.dolphinscheduler.sdk.remote.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 重试退避时间
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class RetryPolicyTest {
+
+    private static void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, "expected in [" + min + ", " + max + "] but was " + actual);
+    }
+
+    @Test
+    void backoffGrowsExponentiallyWithJitter() {
+        RetryPolicy policy = new RetryPolicy(5, 100, 10_000, 2D);
+        for (int i = 0; i < 100; i++) {
+            assertBetween(50, 100, policy.backoffMillis(1));
+            assertBetween(100, 200, policy.backoffMillis(2));
+            assertBetween(200, 400, policy.backoffMillis(3));
+        }
+    }
+
+    @Test
+    void backoffIsCappedAtMaxBackoff() {
+        RetryPolicy policy = new RetryPolicy(20, 100, 1_000, 2D);
+        for (int i = 0; i < 100; i++) {
+            assertBetween(500, 1_000, policy.backoffMillis(15));
+        }
+    }
+
+    @Test
+    void invalidSettingsAreNormalized() {
+        RetryPolicy policy = new RetryPolicy(0, -1, -1, 0.5D);
+        assertEquals(1, policy.getMaxAttempts());
+        assertEquals(0, policy.backoffMillis(3));
+        assertEquals(1, RetryPolicy.NEVER.getMaxAttempts());
+    }
+
+    @Test
+    void withMaxAttemptsKeepsBackoff() {
+        RetryPolicy policy = new RetryPolicy(3, 100, 100, 1D).withMaxAttempts(7);
+        assertEquals(7, policy.getMaxAttempts());
+        assertBetween(50, 100, policy.backoffMillis(4));
+    }
+}
@@ -0,0 +1,61 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import com.apache.dolphinscheduler.sdk.remote.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 分片重试时资源已存在的处理
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class ChunkedUploaderTest {
+
+    @TempDir
+    Path dir;
+
+    private static Result result(int code) {
+        Result result = new Result();
+        result.setCode(code);
+        result.setMsg(code == 0 ? "success" : "resource already exists");
+        return result;
+    }
+
+    private File file() throws Exception {
+        Path file = dir.resolve("data.bin");
+        Files.write(file, new byte[10]);
+        return file.toFile();
+    }
+
+    @Test
+    void existingPartAfterTimeoutIsUploaded() throws Exception {
+        ChunkedUploader uploader = new ChunkedUploader(1024, 1, 2, 0, dir.resolve("state"));
+        AtomicInteger attempts = new AtomicInteger();
+        ChunkedUploadResult result = uploader.upload(file(), "data.bin", part -> {
+            if (attempts.incrementAndGet() == 1) {
+                // 服务端已保存，但响应超时
+                throw new RuntimeException("Read timed out");
+            }
+            return result(ChunkedUploader.RESOURCE_EXIST);
+        });
+        assertTrue(result.isSuccess());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void existingPartOnFirstAttemptFails() throws Exception {
+        ChunkedUploader uploader = new ChunkedUploader(1024, 1, 2, 0, dir.resolve("state"));
+        ChunkedUploadResult result = uploader.upload(file(), "data.bin", part -> result(ChunkedUploader.RESOURCE_EXIST));
+        assertFalse(result.isSuccess());
+    }
+}
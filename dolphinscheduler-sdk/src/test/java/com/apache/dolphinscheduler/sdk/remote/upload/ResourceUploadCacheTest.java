@@ -0,0 +1,63 @@
+package com.apache.dolphinscheduler.sdk.remote.upload;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 上传缓存的键与持久化
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class ResourceUploadCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private File file() throws Exception {
+        Path file = dir.resolve("job.sh");
+        Files.write(file, "echo hello".getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    @Test
+    void keyIsScopedToServerAndUser() throws Exception {
+        Path index = dir.resolve("index.properties");
+        File file = file();
+        String key = new ResourceUploadCache(index, "http://a/dolphinscheduler", "admin").key(file, "FILE", "/", "job.sh");
+        assertNotEquals(key, new ResourceUploadCache(index, "http://b/dolphinscheduler", "admin").key(file, "FILE", "/", "job.sh"));
+        assertNotEquals(key, new ResourceUploadCache(index, "http://a/dolphinscheduler", "other").key(file, "FILE", "/", "job.sh"));
+    }
+
+    @Test
+    void uploadWithoutIdIsAMiss() throws Exception {
+        ResourceUploadCache cache = new ResourceUploadCache(dir.resolve("index.properties"), "http://a", "admin");
+        String key = cache.key(file(), "FILE", "/", "job.sh");
+        cache.put(key, null);
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void recordsSurviveRestart() throws Exception {
+        Path index = dir.resolve("index.properties");
+        ResourceUploadCache cache = new ResourceUploadCache(index, "http://a", "admin");
+        String key = cache.key(file(), "FILE", "/", "job.sh");
+        cache.put(key, "42");
+
+        assertEquals("42", new ResourceUploadCache(index, "http://a", "admin").get(key));
+        // 临时文件已替换为索引文件
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(0, files.filter(path -> path.toString().endsWith(".tmp")).count());
+        }
+    }
+}
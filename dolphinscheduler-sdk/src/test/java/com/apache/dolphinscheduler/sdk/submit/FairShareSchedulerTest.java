@@ -0,0 +1,114 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 租户间的公平调度、异常与空闲租户的移除
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class FairShareSchedulerTest {
+
+    private final FairShareScheduler scheduler = new FairShareScheduler(1, 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    /**
+     * 占住唯一的发送线程，直到 gate 打开
+     */
+    private CompletableFuture<String> block(String tenant, CountDownLatch gate, List<String> order) {
+        return scheduler.submit(tenant, SubmissionPriority.MEDIUM, () -> {
+            order.add(tenant);
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return tenant;
+        });
+    }
+
+    @Test
+    void tenantsAreDispatchedInTurn() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        futures.add(block("a", gate, order));
+        // a 的突发提交先入队，b 的提交后入队
+        for (int i = 0; i < 5; i++) {
+            futures.add(scheduler.submit("a", SubmissionPriority.MEDIUM, () -> {
+                order.add("a");
+                return "a";
+            }));
+        }
+        for (int i = 0; i < 5; i++) {
+            futures.add(scheduler.submit("b", SubmissionPriority.MEDIUM, () -> {
+                order.add("b");
+                return "b";
+            }));
+        }
+        gate.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertEquals(11, order.size());
+        // 权重相同，任意时刻两个租户已发送的数量相差不超过 1
+        int a = 0;
+        int b = 0;
+        for (String tenant : order) {
+            if ("a".equals(tenant)) {
+                a++;
+            } else {
+                b++;
+            }
+            assertTrue(Math.abs(a - b) <= 1, "dispatch order " + order);
+        }
+    }
+
+    @Test
+    void errorCompletesFutureAndReleasesThread() throws Exception {
+        CompletableFuture<String> failed = scheduler.submit("a", SubmissionPriority.MEDIUM, () -> {
+            throw new AssertionError("boom");
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof AssertionError);
+
+        // 唯一的发送线程已释放
+        assertEquals("ok", scheduler.submit("a", SubmissionPriority.MEDIUM, () -> "ok").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void idleTenantIsEvictedUnlessConfigured() throws Exception {
+        scheduler.configureTenant("configured", 2, 1);
+        assertEquals("x", scheduler.submit("transient", SubmissionPriority.MEDIUM, () -> "x").get(5, TimeUnit.SECONDS));
+        assertEquals("y", scheduler.submit("configured", SubmissionPriority.MEDIUM, () -> "y").get(5, TimeUnit.SECONDS));
+
+        // 发送结束后在调度时移除
+        for (int i = 0; i < 100 && scheduler.getTenantStats().containsKey("transient"); i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertFalse(scheduler.getTenantStats().containsKey("transient"));
+        assertTrue(scheduler.getTenantStats().containsKey("configured"));
+        assertEquals(2, scheduler.getTenantStats().get("configured").getWeight());
+
+        // 再次提交时重新创建
+        assertEquals("z", scheduler.submit("transient", SubmissionPriority.MEDIUM, () -> "z").get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,51 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import com.apache.dolphinscheduler.sdk.remote.Result;
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 同一个键的重复提交与结果类型检查
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class IdempotentSubmitterTest {
+
+    private final IdempotentSubmitter submitter = new IdempotentSubmitter(100, 60);
+
+    private static Result ok() {
+        Result result = new Result();
+        result.setCode(0);
+        return result;
+    }
+
+    @Test
+    void sameKeyReturnsTheOriginalResult() {
+        AtomicInteger calls = new AtomicInteger();
+        Result first = submitter.submit("key", () -> {
+            calls.incrementAndGet();
+            return ok();
+        });
+        assertSame(first, submitter.submit("key", () -> {
+            calls.incrementAndGet();
+            return ok();
+        }));
+        assertEquals(1, calls.get());
+        assertSame(first, submitter.getIfPresent("key", Result.class));
+    }
+
+    @Test
+    void keyReusedWithAnotherResultTypeIsRejected() {
+        submitter.submit("key", IdempotentSubmitterTest::ok);
+        assertThrows(IllegalStateException.class,
+                () -> submitter.submit("key", DsResult.class, DsResult::new, result -> true));
+        assertThrows(IllegalStateException.class, () -> submitter.getIfPresent("key", DsResult.class));
+    }
+}
@@ -0,0 +1,142 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 出站日志崩溃后的重放
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class OutboundLogTest {
+
+    private static final long SEGMENT_BYTES = 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private static byte[] record(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> drain(OutboundLog log) throws Exception {
+        List<String> records = new ArrayList<>();
+        byte[] payload;
+        while (null != (payload = log.next(100L))) {
+            records.add(new String(payload, StandardCharsets.UTF_8));
+            log.ack();
+        }
+        return records;
+    }
+
+    private List<Path> segments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "outbound-*.log")) {
+            stream.forEach(segments::add);
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static void truncateTail(Path segment, int bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - bytes);
+        }
+    }
+
+    @Test
+    void unackedRecordsAreReplayedAfterCrash() throws Exception {
+        OutboundLog crashed = new OutboundLog(dir, SEGMENT_BYTES);
+        crashed.append(record("a"));
+        crashed.append(record("b"));
+        crashed.append(record("c"));
+        assertArrayEquals(record("a"), crashed.next(100L));
+        crashed.ack();
+        // 已读取未确认，崩溃后应再次读取
+        assertArrayEquals(record("b"), crashed.next(100L));
+
+        // 不关闭，模拟进程崩溃
+        try (OutboundLog log = new OutboundLog(dir, SEGMENT_BYTES)) {
+            assertEquals(2, log.depth());
+            assertEquals(Arrays.asList("b", "c"), drain(log));
+            assertEquals(0, log.depth());
+        } finally {
+            crashed.close();
+        }
+    }
+
+    @Test
+    void truncatedLastRecordIsDropped() throws Exception {
+        try (OutboundLog log = new OutboundLog(dir, SEGMENT_BYTES)) {
+            log.append(record("a"));
+            log.append(record("b"));
+            log.append(record("torn"));
+        }
+        // 最后一条记录只写了一部分
+        truncateTail(segments().get(0), 3);
+
+        try (OutboundLog log = new OutboundLog(dir, SEGMENT_BYTES)) {
+            assertEquals(2, log.depth());
+            log.append(record("c"));
+            assertEquals(Arrays.asList("a", "b", "c"), drain(log));
+        }
+        // 截断后追加的记录在下次启动时仍可读取
+        try (OutboundLog log = new OutboundLog(dir, SEGMENT_BYTES)) {
+            assertEquals(0, log.depth());
+            assertNull(log.next(100L));
+        }
+    }
+
+    @Test
+    void garbageAfterLastRecordIsDropped() throws Exception {
+        try (OutboundLog log = new OutboundLog(dir, SEGMENT_BYTES)) {
+            log.append(record("a"));
+        }
+        Files.write(segments().get(0), new byte[]{0, 0, 0, 5, 'x'}, StandardOpenOption.APPEND);
+
+        try (OutboundLog log = new OutboundLog(dir, SEGMENT_BYTES)) {
+            assertEquals(Collections.singletonList("a"), drain(log));
+        }
+    }
+
+    @Test
+    void unreadableTailOfEarlierSegmentIsSkipped() throws Exception {
+        char[] filler = new char[(int) (SEGMENT_BYTES * 2 / 3)];
+        Arrays.fill(filler, 'x');
+        String large = new String(filler);
+        try (OutboundLog log = new OutboundLog(dir, SEGMENT_BYTES)) {
+            log.append(record("first" + large));
+            // 超过段大小，写入下一段
+            log.append(record("second" + large));
+            log.append(record("third"));
+        }
+        List<Path> segments = segments();
+        assertEquals(2, segments.size());
+        truncateTail(segments.get(0), 1);
+
+        try (OutboundLog log = new OutboundLog(dir, SEGMENT_BYTES)) {
+            assertEquals(2, log.depth());
+            List<String> records = drain(log);
+            assertEquals(2, records.size());
+            assertEquals("second" + large, records.get(0));
+            assertEquals("third", records.get(1));
+        }
+    }
+}
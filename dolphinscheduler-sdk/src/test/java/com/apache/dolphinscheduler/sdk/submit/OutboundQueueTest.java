@@ -0,0 +1,84 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import com.apache.dolphinscheduler.sdk.remote.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 出站队列对发送失败的处理
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class OutboundQueueTest {
+
+    @TempDir
+    Path dir;
+
+    private static Result ok() {
+        Result result = new Result();
+        result.setCode(0);
+        return result;
+    }
+
+    private static OutboundSubmission submission() {
+        OutboundSubmission submission = new OutboundSubmission();
+        submission.setProjectCode("1");
+        submission.setTaskCode("2");
+        return submission;
+    }
+
+    private static void awaitDrained(OutboundQueue queue) throws InterruptedException {
+        for (int i = 0; i < 500 && queue.getDepth() > 0; i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    @Test
+    void submissionNotSentIsRetried() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        try (OutboundQueue queue = new OutboundQueue(dir, 0, 0, 1, 1, submission -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new RuntimeException(new ConnectException("Connection refused"));
+            }
+            return ok();
+        })) {
+            queue.start();
+            queue.enqueue(submission());
+            awaitDrained(queue);
+            assertEquals(2, calls.get());
+            assertEquals(1, queue.getMetrics().getDrainedCount());
+            assertEquals(0, queue.getMetrics().getDeadLetterCount());
+        }
+    }
+
+    @Test
+    void submissionInDoubtIsParkedNotRetried() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        try (OutboundQueue queue = new OutboundQueue(dir, 0, 0, 1, 1, submission -> {
+            calls.incrementAndGet();
+            throw new SubmissionInDoubtException(submission.getKey(), new SocketTimeoutException("Read timed out"));
+        })) {
+            queue.start();
+            String key = queue.enqueue(submission());
+            awaitDrained(queue);
+            assertEquals(1, calls.get());
+            assertEquals(1, queue.getMetrics().getDeadLetterCount());
+
+            OutboundSubmission parked = queue.pollDeadLetter();
+            assertNotNull(parked);
+            assertEquals(key, parked.getKey());
+            assertNull(queue.pollDeadLetter());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 相同键的并发调用合并与各自的等待超时
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final CompletableFuture<String> source = new CompletableFuture<>();
+
+    private CompletableFuture<String> call() {
+        calls.incrementAndGet();
+        return source;
+    }
+
+    @Test
+    void concurrentIdenticalCallsExecuteOnce() throws Exception {
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch ready = new CountDownLatch(callers);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    return singleFlight.await("key", this::call, 10, TimeUnit.SECONDS);
+                }));
+            }
+            ready.await();
+            // 等所有调用方都加入
+            while (singleFlight.getSharedCount() < callers - 1) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            source.complete("done");
+            for (Future<String> result : results) {
+                assertEquals("done", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get());
+            assertEquals(0, singleFlight.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void followerKeepsWaitingAfterLeaderTimesOut() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.await("key", this::call, 200, TimeUnit.MILLISECONDS));
+            while (singleFlight.size() == 0) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+            Future<String> follower = executor.submit(() -> singleFlight.await("key", this::call, 10, TimeUnit.SECONDS));
+            while (singleFlight.getSharedCount() == 0) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+            assertNull(leader.get(5, TimeUnit.SECONDS));
+            // 领头的调用方超时离开，共享的调用继续
+            assertFalse(source.isCancelled());
+            source.complete("done");
+            assertEquals("done", follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lastWaiterLeavingCancelsTheCall() throws Exception {
+        assertNull(singleFlight.await("key", this::call, 100, TimeUnit.MILLISECONDS));
+        assertTrue(source.isCancelled());
+        assertEquals(0, singleFlight.size());
+
+        // 之后相同的键重新执行
+        CompletableFuture<String> next = CompletableFuture.completedFuture("again");
+        assertEquals("again", singleFlight.await("key", () -> next, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void executeIsNeverCancelledByTimedOutWaiters() throws Exception {
+        CompletableFuture<String> flight = singleFlight.execute("key", this::call);
+        assertNull(singleFlight.await("key", this::call, 100, TimeUnit.MILLISECONDS));
+        assertFalse(source.isCancelled());
+        source.complete("done");
+        assertEquals("done", flight.get(1, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,40 @@
+package com.apache.dolphinscheduler.sdk.submit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * 合并提交时的相同判断
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class SubmissionFingerprintTest {
+
+    private static final SubmissionTemplate TEMPLATE = SubmissionTemplate.builder("1", "2").workerGroup("default").build();
+
+    @Test
+    void fieldOrderOfStartParamsIsIgnored() {
+        assertEquals(SubmissionFingerprint.of(TEMPLATE, "{\"a\":1,\"b\":2}"),
+                SubmissionFingerprint.of(TEMPLATE, " {\"b\":2, \"a\":1}"));
+        assertEquals(SubmissionFingerprint.of(TEMPLATE, "{\"a\":1}"),
+                SubmissionFingerprint.of(TEMPLATE, (Object) Collections.singletonMap("a", 1)));
+    }
+
+    @Test
+    void fixedFieldsOfTemplateAreCompared() {
+        String params = "{\"a\":1}";
+        assertNotEquals(SubmissionFingerprint.of(TEMPLATE, params),
+                SubmissionFingerprint.of(TEMPLATE.toBuilder().workerGroup("gpu").build(), params));
+        assertNotEquals(SubmissionFingerprint.of(TEMPLATE, params),
+                SubmissionFingerprint.of(TEMPLATE.toBuilder().execType("COMPLEMENT_DATA").build(), params));
+        assertNotEquals(SubmissionFingerprint.of(TEMPLATE, params),
+                SubmissionFingerprint.of(TEMPLATE.toBuilder().startNodeList("3").build(), params));
+        assertEquals(SubmissionFingerprint.of(TEMPLATE, params),
+                SubmissionFingerprint.of(TEMPLATE.toBuilder().build(), params));
+    }
+}
@@ -0,0 +1,96 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import com.apache.dolphinscheduler.sdk.remote.model.ProcessInstance;
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 轮询时提交与工作流实例的对应
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class PollingStateTrackerTest {
+
+    private static final String PROJECT = "1";
+
+    private static final String DEFINITION = "2";
+
+    private final List<ProcessInstance> instances = new CopyOnWriteArrayList<>();
+
+    private final PollingStateTracker tracker = new PollingStateTracker(this::query, 200, 1000, 0.1D, 100, 10, 10);
+
+    @AfterEach
+    void tearDown() {
+        tracker.close();
+    }
+
+    private List<ProcessInstance> query(String projectCode, String definitionCode, String startDate, int pageNo, int pageSize) {
+        if (pageNo > 1) {
+            return Collections.emptyList();
+        }
+        List<ProcessInstance> page = new ArrayList<>(instances);
+        page.sort(Comparator.comparing(ProcessInstance::getStartTime).reversed());
+        return page.subList(0, Math.min(pageSize, page.size()));
+    }
+
+    private void addInstance(int id, long startTime, String state) {
+        ProcessInstance instance = new ProcessInstance();
+        instance.setId(id);
+        instance.setProcessDefinitionCode(Long.valueOf(DEFINITION));
+        instance.setState(state);
+        instance.setCommandStartTime(new Date(startTime));
+        instance.setStartTime(new Date(startTime));
+        instances.add(instance);
+    }
+
+    @Test
+    void baselineIsTheLatestExistingInstance() {
+        long now = System.currentTimeMillis();
+        assertEquals(0, tracker.baseline(PROJECT, DEFINITION));
+        addInstance(3, now - 2000, "SUCCESS");
+        addInstance(5, now - 1000, "RUNNING_EXECUTION");
+        assertEquals(5, tracker.baseline(PROJECT, DEFINITION));
+    }
+
+    @Test
+    void instancesThatExistedBeforeSubmitAreNotClaimed() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        // 其他客户端刚启动的实例，在时钟误差范围内
+        addInstance(5, now - 500, "RUNNING_EXECUTION");
+        int baseline = tracker.baseline(PROJECT, DEFINITION);
+
+        LinkedBlockingQueue<ProcessInstanceStateCommand> commands = new LinkedBlockingQueue<>();
+        tracker.track(new TrackedInstance("submission", 42, PROJECT, DEFINITION, now, baseline), commands::add, 0);
+        addInstance(6, now + 100, "RUNNING_EXECUTION");
+
+        ProcessInstanceStateCommand command = commands.poll(5, TimeUnit.SECONDS);
+        assertNotNull(command);
+        assertEquals(6, command.getProcessInstanceId());
+        assertEquals("submission", command.getId());
+    }
+
+    @Test
+    void finishedStatesMatchMasterPush() {
+        assertTrue(PollingStateTracker.isFinished("SUCCESS"));
+        assertTrue(PollingStateTracker.isFinished("KILL"));
+        assertTrue(PollingStateTracker.isFinished("NEED_FAULT_TOLERANCE"));
+        assertFalse(PollingStateTracker.isFinished("RUNNING_EXECUTION"));
+        assertFalse(PollingStateTracker.isFinished("UNKNOWN_STATE"));
+    }
+}
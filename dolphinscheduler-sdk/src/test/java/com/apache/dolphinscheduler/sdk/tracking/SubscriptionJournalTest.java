@@ -0,0 +1,152 @@
+package com.apache.dolphinscheduler.sdk.tracking;
+
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 订阅日志的追加、重放与压缩
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class SubscriptionJournalTest {
+
+    private static final long SIZE = 64 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private Path file() {
+        return tempDir.resolve("subscriptions.journal");
+    }
+
+    private SubscriptionJournal open() throws IOException {
+        return new SubscriptionJournal(file(), SIZE, false);
+    }
+
+    private static Subscription subscription(String id, int commandId) {
+        return new Subscription(id, commandId, ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE,
+                "127.0.0.1:5678", 1_700_000_000_000L + commandId);
+    }
+
+    private static List<String> ids(SubscriptionJournal journal) {
+        return journal.getActive().stream().map(Subscription::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void replaysActiveSubscriptionsAfterRestart() throws IOException {
+        try (SubscriptionJournal journal = open()) {
+            journal.add(subscription("a", 1));
+            journal.add(subscription("b", 2));
+            journal.add(subscription("c", 3));
+            journal.remove("b");
+            journal.remove("missing");
+        }
+        try (SubscriptionJournal journal = open()) {
+            assertEquals(Arrays.asList("a", "c"), ids(journal));
+            Subscription c = journal.getActive().get(1);
+            assertEquals(3, c.getCommandId());
+            assertEquals(ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE, c.getConsumerType());
+            assertEquals("127.0.0.1:5678", c.getMasterHost());
+            assertEquals(1_700_000_000_003L, c.getCreateTime());
+            assertTrue(journal.contains("a"));
+            assertFalse(journal.contains("b"));
+        }
+    }
+
+    @Test
+    void laterAddReplacesEarlierOne() throws IOException {
+        try (SubscriptionJournal journal = open()) {
+            journal.add(subscription("a", 1));
+            journal.add(new Subscription("a", 1, ProcessInstanceStateCommand.ConsumerType.SUBSCRIBE_ONE, "10.0.0.2:5678", 1L));
+        }
+        try (SubscriptionJournal journal = open()) {
+            assertEquals(1, journal.size());
+            assertEquals("10.0.0.2:5678", journal.getActive().get(0).getMasterHost());
+        }
+    }
+
+    @Test
+    void compactKeepsOnlyActiveSubscriptions() throws IOException {
+        try (SubscriptionJournal journal = open()) {
+            for (int i = 0; i < 100; i++) {
+                journal.add(subscription("tmp-" + i, i));
+                journal.remove("tmp-" + i);
+            }
+            journal.add(subscription("kept", 1000));
+            journal.compact();
+            assertEquals(Arrays.asList("kept"), ids(journal));
+            // 压缩后继续追加
+            journal.add(subscription("after", 1001));
+            journal.remove("kept");
+        }
+        try (SubscriptionJournal journal = open()) {
+            assertEquals(Arrays.asList("after"), ids(journal));
+        }
+    }
+
+    @Test
+    void fullJournalCompactsWithoutLosingSubscriptions() throws IOException {
+        try (SubscriptionJournal journal = open()) {
+            journal.add(subscription("long-lived", 1));
+            // 远超文件大小的写入量，依靠压缩保持文件大小
+            for (int i = 0; i < 5000; i++) {
+                journal.add(subscription("short-" + i, i));
+                journal.remove("short-" + i);
+            }
+            journal.add(subscription("last", 2));
+            assertEquals(Arrays.asList("long-lived", "last"), ids(journal));
+        }
+        assertEquals(SIZE, Files.size(file()));
+        try (SubscriptionJournal journal = open()) {
+            assertEquals(Arrays.asList("long-lived", "last"), ids(journal));
+        }
+    }
+
+    @Test
+    void tornRecordIsTruncated() throws IOException {
+        try (SubscriptionJournal journal = open()) {
+            journal.add(subscription("a", 1));
+            journal.add(subscription("b", 2));
+        }
+        // 破坏最后一条记录的 CRC
+        long end = recordEnd(2);
+        try (FileChannel channel = FileChannel.open(file(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), end - 1);
+        }
+        try (SubscriptionJournal journal = open()) {
+            assertEquals(Arrays.asList("a"), ids(journal));
+            journal.add(subscription("c", 3));
+        }
+        try (SubscriptionJournal journal = open()) {
+            assertEquals(Arrays.asList("a", "c"), ids(journal));
+        }
+    }
+
+    /**
+     * @return 第 n 条记录结束的位置
+     */
+    private long recordEnd(int n) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file()));
+        int position = 0;
+        for (int i = 0; i < n; i++) {
+            position += 4 + buffer.getInt(position) + 4;
+        }
+        return position;
+    }
+}
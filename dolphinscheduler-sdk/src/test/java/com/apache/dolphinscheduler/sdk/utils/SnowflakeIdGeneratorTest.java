@@ -0,0 +1,118 @@
+package com.apache.dolphinscheduler.sdk.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 雪花 ID 的序号溢出、时钟回拨与 worker id 设置
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH + TimeUnit.DAYS.toMillis(5000);
+
+    private static final int SEQUENCE_SIZE = 4096;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, clock::get);
+
+    @AfterEach
+    void tearDown() {
+        SnowflakeIdUtils.reset();
+    }
+
+    private static long sequenceOf(long id) {
+        return id & (SEQUENCE_SIZE - 1);
+    }
+
+    private static long workerIdOf(long id) {
+        return (id >>> 12) & SnowflakeIdGenerator.MAX_WORKER_ID;
+    }
+
+    @Test
+    void idsCarryTimestampAndWorkerId() {
+        long id = generator.nextId();
+        assertEquals(NOW, SnowflakeIdGenerator.timestampOf(id));
+        assertEquals(7, workerIdOf(id));
+        assertEquals(0, sequenceOf(id));
+        assertEquals(id + 1, generator.nextId());
+    }
+
+    @Test
+    void sequenceOverflowBorrowsTheNextMillisecond() {
+        long[] ids = generator.reserve(SEQUENCE_SIZE);
+        assertEquals(NOW, SnowflakeIdGenerator.timestampOf(ids[SEQUENCE_SIZE - 1]));
+        assertEquals(SEQUENCE_SIZE - 1, sequenceOf(ids[SEQUENCE_SIZE - 1]));
+
+        long next = generator.nextId();
+        assertEquals(NOW + 1, SnowflakeIdGenerator.timestampOf(next));
+        assertEquals(0, sequenceOf(next));
+        assertTrue(next > ids[SEQUENCE_SIZE - 1]);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+        }
+    }
+
+    @Test
+    void clockRollbackKeepsIdsIncreasing() {
+        long before = generator.nextId();
+        clock.set(NOW - 500);
+        long after = generator.nextId();
+        assertTrue(after > before);
+        assertEquals(NOW, SnowflakeIdGenerator.timestampOf(after));
+
+        // 时钟追上后恢复使用当前时间
+        clock.set(NOW + 10);
+        assertEquals(NOW + 10, SnowflakeIdGenerator.timestampOf(generator.nextId()));
+    }
+
+    @Test
+    void largeClockRollbackWaitsForTheClock() {
+        long before = generator.nextId();
+        clock.set(NOW - 5000);
+        CompletableFuture<Long> next = CompletableFuture.supplyAsync(generator::nextId);
+        assertThrows(TimeoutException.class, () -> next.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(next.isDone());
+
+        clock.set(NOW);
+        long after = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> next.get());
+        assertTrue(after > before);
+    }
+
+    @Test
+    void workerIdOutOfRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_WORKER_ID + 1));
+    }
+
+    @Test
+    void conflictingWorkerIdIsRejected() {
+        SnowflakeIdUtils.configure(3);
+        SnowflakeIdGenerator configured = SnowflakeIdUtils.getGenerator();
+        assertEquals(3, configured.getWorkerId());
+
+        // 相同的值与未指定都沿用已设置的生成器
+        SnowflakeIdUtils.configure(3);
+        SnowflakeIdUtils.configure(-1);
+        assertSame(configured, SnowflakeIdUtils.getGenerator());
+
+        assertThrows(IllegalStateException.class, () -> SnowflakeIdUtils.configure(4));
+        assertSame(configured, SnowflakeIdUtils.getGenerator());
+    }
+}
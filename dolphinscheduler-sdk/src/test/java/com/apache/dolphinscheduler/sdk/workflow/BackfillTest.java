@@ -0,0 +1,84 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+import com.apache.dolphinscheduler.sdk.submit.SubmissionTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 补数区间的切分
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class BackfillTest {
+
+    private static final SubmissionTemplate TEMPLATE = SubmissionTemplate.builder("1", "2").build();
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0, 0);
+
+    @Test
+    void lastWindowIsCutAtEnd() {
+        Backfill backfill = Backfill.builder(TEMPLATE, START, LocalDateTime.of(2026, 1, 3, 12, 0, 0)).build();
+        assertEquals(Arrays.asList(
+                "2026-01-01 00:00:00,2026-01-01 23:59:59",
+                "2026-01-02 00:00:00,2026-01-02 23:59:59",
+                "2026-01-03 00:00:00,2026-01-03 12:00:00"), backfill.getScheduleTimes());
+    }
+
+    @Test
+    void endOnWindowBoundaryStartsOneSecondWindow() {
+        Backfill backfill = Backfill.builder(TEMPLATE, START, LocalDateTime.of(2026, 1, 2, 0, 0, 0)).build();
+        assertEquals(Arrays.asList(
+                "2026-01-01 00:00:00,2026-01-01 23:59:59",
+                "2026-01-02 00:00:00,2026-01-02 00:00:00"), backfill.getScheduleTimes());
+    }
+
+    @Test
+    void startEqualToEndIsOneWindow() {
+        Backfill backfill = Backfill.builder(TEMPLATE, START, START).build();
+        assertEquals(Collections.singletonList("2026-01-01 00:00:00,2026-01-01 00:00:00"), backfill.getScheduleTimes());
+    }
+
+    @Test
+    void hourlyWindowsNewestFirst() {
+        Backfill backfill = Backfill.builder(TEMPLATE, START, START.plusMinutes(150))
+                .interval(1, ChronoUnit.HOURS)
+                .order(BackfillOrder.NEWEST_FIRST)
+                .build();
+        assertEquals(Arrays.asList(
+                "2026-01-01 02:00:00,2026-01-01 02:30:00",
+                "2026-01-01 01:00:00,2026-01-01 01:59:59",
+                "2026-01-01 00:00:00,2026-01-01 00:59:59"), backfill.getScheduleTimes());
+    }
+
+    @Test
+    void startAfterEndIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Backfill.builder(TEMPLATE, START, START.minusSeconds(1)));
+    }
+
+    @Test
+    void dagHasOneIndependentNodePerWindow() {
+        Backfill backfill = Backfill.builder(TEMPLATE, START, LocalDateTime.of(2026, 1, 3, 12, 0, 0))
+                .parallelism(2)
+                .build();
+        WorkflowDag dag = backfill.toDag();
+        assertEquals(3, dag.getNodes().size());
+        assertEquals(2, dag.getMaxConcurrency());
+        assertEquals(FailurePolicy.CONTINUE, dag.getFailurePolicy());
+        for (int i = 0; i < dag.getNodes().size(); i++) {
+            WorkflowNode node = dag.getNodes().get(i);
+            assertEquals(backfill.getScheduleTimes().get(i), node.getName());
+            assertEquals(node.getName(), node.getTemplate().getScheduleTime());
+            assertEquals(Backfill.EXEC_TYPE_COMPLEMENT_DATA, node.getTemplate().getExecType());
+            assertTrue(node.getParents().isEmpty());
+        }
+    }
+}
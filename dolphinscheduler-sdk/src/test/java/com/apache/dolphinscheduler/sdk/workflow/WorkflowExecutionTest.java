@@ -0,0 +1,193 @@
+package com.apache.dolphinscheduler.sdk.workflow;
+
+import com.apache.dolphinscheduler.sdk.remote.model.DsResult;
+import com.apache.dolphinscheduler.sdk.remote.model.SubmitResponse;
+import com.apache.dolphinscheduler.sdk.submit.SubmissionTemplate;
+import com.apache.dolphinscheduler.sdk.tracking.SubscriptionChannel;
+import com.apache.dolphinscheduler.sdk.tracking.TrackedGroup;
+import org.apache.dolphinscheduler.common.enums.StateEventType;
+import org.apache.dolphinscheduler.plugin.task.api.enums.ExecutionStatus;
+import org.apache.dolphinscheduler.remote.command.ProcessInstanceStateCommand;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DAG 执行的成功、失败与超时
+ *
+ * @author ysear
+ * @date 2026/10/19
+ */
+class WorkflowExecutionTest {
+
+    private static final SubmissionTemplate TEMPLATE = SubmissionTemplate.builder("1", "2").build();
+
+    private final AtomicInteger commandIds = new AtomicInteger();
+
+    /**
+     * 提交的 startParams，按提交顺序
+     */
+    private final List<String> submitted = new CopyOnWriteArrayList<>();
+
+    private final RecordingChannel channel = new RecordingChannel();
+
+    private final TrackedGroup group = new TrackedGroup("workflow", channel);
+
+    private CompletableFuture<DsResult<SubmitResponse>> submit(SubmissionTemplate template, String startParams) {
+        submitted.add(startParams);
+        SubmitResponse response = new SubmitResponse();
+        response.setId(commandIds.incrementAndGet());
+        DsResult<SubmitResponse> result = new DsResult<>();
+        result.setCode(0);
+        result.setData(response);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private static CompletableFuture<DsResult<SubmitResponse>> rejected(SubmissionTemplate template, String startParams) {
+        DsResult<SubmitResponse> result = new DsResult<>();
+        result.setCode(10001);
+        result.setMsg("rejected");
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private void finish(int commandId, ExecutionStatus status) {
+        ProcessInstanceStateCommand command = new ProcessInstanceStateCommand();
+        command.setCommandId(commandId);
+        command.setEventType(StateEventType.PROCESS_STATE_CHANGE);
+        command.setExecutionStatus(status);
+        group.callback(command);
+    }
+
+    @Test
+    void downstreamRunsAfterUpstreamSucceeds() throws Exception {
+        WorkflowDag dag = WorkflowDag.builder()
+                .node("a", TEMPLATE, "a")
+                .node("b", TEMPLATE, "b", "a")
+                .build();
+        WorkflowExecution execution = new WorkflowExecution(dag, this::submit, group).start();
+
+        assertEquals(1, channel.subscribed.size());
+        assertEquals(NodeStatus.RUNNING, execution.snapshot().get("a").getStatus());
+        assertEquals(NodeStatus.PENDING, execution.snapshot().get("b").getStatus());
+
+        finish(1, ExecutionStatus.SUCCESS);
+        assertEquals(NodeStatus.RUNNING, execution.snapshot().get("b").getStatus());
+        assertFalse(execution.getResult().isDone());
+
+        finish(2, ExecutionStatus.SUCCESS);
+        WorkflowResult result = execution.getResult().get(1, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        assertEquals(Integer.valueOf(1), result.get("a").getCommandId());
+        assertEquals(Integer.valueOf(2), result.get("b").getCommandId());
+        assertEquals(2, submitted.size());
+        assertEquals("a", submitted.get(0));
+        assertEquals("b", submitted.get(1));
+        assertTrue(channel.released);
+    }
+
+    @Test
+    void failFastSkipsPendingNodes() throws Exception {
+        WorkflowDag dag = WorkflowDag.builder()
+                .node("a", TEMPLATE, "a")
+                .node("b", TEMPLATE, "b")
+                .node("c", TEMPLATE, "c", "a")
+                .maxConcurrency(1)
+                .build();
+        WorkflowExecution execution = new WorkflowExecution(dag, this::submit, group).start();
+
+        finish(1, ExecutionStatus.FAILURE);
+        WorkflowResult result = execution.getResult().get(1, TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+        assertEquals(NodeStatus.FAILED, result.get("a").getStatus());
+        assertEquals(NodeStatus.SKIPPED, result.get("b").getStatus());
+        assertEquals(NodeStatus.SKIPPED, result.get("c").getStatus());
+        assertEquals(1, submitted.size());
+        assertTrue(channel.released);
+    }
+
+    @Test
+    void continueSkipsOnlyDescendantsOfFailedNode() throws Exception {
+        WorkflowDag dag = WorkflowDag.builder()
+                .node("a", TEMPLATE, "a")
+                .node("b", TEMPLATE, "b")
+                .node("c", TEMPLATE, "c", "a")
+                .node("d", TEMPLATE, "d", "c")
+                .failurePolicy(FailurePolicy.CONTINUE)
+                .build();
+        WorkflowExecution execution = new WorkflowExecution(dag, this::submit, group).start();
+
+        finish(1, ExecutionStatus.FAILURE);
+        assertFalse(execution.getResult().isDone());
+        finish(2, ExecutionStatus.SUCCESS);
+
+        WorkflowResult result = execution.getResult().get(1, TimeUnit.SECONDS);
+        assertEquals(NodeStatus.FAILED, result.get("a").getStatus());
+        assertEquals(NodeStatus.SUCCESS, result.get("b").getStatus());
+        assertEquals(NodeStatus.SKIPPED, result.get("c").getStatus());
+        assertEquals(NodeStatus.SKIPPED, result.get("d").getStatus());
+        assertEquals(2, submitted.size());
+    }
+
+    @Test
+    void rejectedSubmissionFailsTheNode() throws Exception {
+        WorkflowDag dag = WorkflowDag.builder()
+                .node("a", TEMPLATE, "a")
+                .build();
+        WorkflowExecution execution = new WorkflowExecution(dag, WorkflowExecutionTest::rejected, group).start();
+
+        WorkflowResult result = execution.getResult().get(1, TimeUnit.SECONDS);
+        assertEquals(NodeStatus.FAILED, result.get("a").getStatus());
+        assertNull(result.get("a").getCommandId());
+        assertTrue(result.get("a").getError().getMessage().contains("rejected"));
+        assertTrue(channel.subscribed.isEmpty());
+    }
+
+    @Test
+    void awaitReturnsSnapshotOnTimeout() throws Exception {
+        WorkflowDag dag = WorkflowDag.builder()
+                .node("a", TEMPLATE, "a")
+                .node("b", TEMPLATE, "b", "a")
+                .build();
+        WorkflowExecution execution = new WorkflowExecution(dag, this::submit, group).start();
+
+        WorkflowResult result = execution.await(100, TimeUnit.MILLISECONDS);
+        assertEquals(NodeStatus.RUNNING, result.get("a").getStatus());
+        assertEquals(NodeStatus.PENDING, result.get("b").getStatus());
+        assertFalse(execution.getResult().isDone());
+        assertFalse(channel.released);
+
+        execution.cancel();
+        assertEquals(NodeStatus.SKIPPED, execution.getResult().get(1, TimeUnit.SECONDS).get("b").getStatus());
+        assertTrue(channel.released);
+    }
+
+    private static final class RecordingChannel implements SubscriptionChannel {
+
+        private final List<Integer> subscribed = new CopyOnWriteArrayList<>();
+
+        private volatile boolean released;
+
+        @Override
+        public void subscribe(String id, int commandId) {
+            subscribed.add(commandId);
+        }
+
+        @Override
+        public void unsubscribe(String id, ProcessInstanceStateCommand command) {
+        }
+
+        @Override
+        public void release(String id) {
+            released = true;
+        }
+    }
+}